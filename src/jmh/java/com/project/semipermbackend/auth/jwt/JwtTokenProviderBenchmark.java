@@ -0,0 +1,47 @@
+package com.project.semipermbackend.auth.jwt;
+
+import com.project.semipermbackend.common.fixture.BenchmarkFixtures;
+import com.project.semipermbackend.domain.account.Account;
+import com.project.semipermbackend.domain.member.Member;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * access token 발급 / 검증 비용 (요청마다 검증, 로그인/재발급마다 발급)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+    private JwtTokenProvider jwtTokenProvider;
+    private Member member;
+    private Account account;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = BenchmarkFixtures.jwtTokenProvider();
+        member = BenchmarkFixtures.member(12345L);
+        account = member.getAccount();
+        accessToken = jwtTokenProvider.createAccessToken(member, account);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(member, account);
+    }
+
+    @Benchmark
+    public Claims validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    // AuthenticationCheckFilter 와 같은 순서 : 검증 후 Authentication 생성
+    @Benchmark
+    public Authentication validateAndAuthenticate() {
+        return jwtTokenProvider.getAuthentication(jwtTokenProvider.validateToken(accessToken));
+    }
+}
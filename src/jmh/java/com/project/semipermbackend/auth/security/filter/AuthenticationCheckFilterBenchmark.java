@@ -0,0 +1,67 @@
+package com.project.semipermbackend.auth.security.filter;
+
+import com.project.semipermbackend.auth.jwt.JwtTokenProvider;
+import com.project.semipermbackend.auth.jwt.TokenRevocationRegistry;
+import com.project.semipermbackend.common.fixture.BenchmarkFixtures;
+import com.project.semipermbackend.domain.member.Member;
+import com.project.semipermbackend.domain.token.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증이 필요한 요청마다 거치는 AuthenticationCheckFilter 전체 비용
+ * (헤더 추출 -> 서명 검증 -> 폐기 여부 확인 -> SecurityContext 설정)
+ * 폐기 목록에는 다른 토큰 revokedTokens 개가 들어 있는 상태로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthenticationCheckFilterBenchmark {
+    @Param({"0", "10000"})
+    private int revokedTokens;
+
+    private AuthenticationCheckFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = BenchmarkFixtures.jwtTokenProvider();
+        // 폐기 내역 저장은 측정 대상이 아니므로 저장소는 save 만 받는 프록시를 사용한다.
+        RevokedTokenRepository revokedTokenRepository = (RevokedTokenRepository) Proxy.newProxyInstance(
+                RevokedTokenRepository.class.getClassLoader(), new Class[]{RevokedTokenRepository.class},
+                (proxy, method, args) -> args != null && args.length > 0 ? args[0] : null);
+        TokenRevocationRegistry tokenRevocationRegistry = new TokenRevocationRegistry(revokedTokenRepository, null,
+                new SimpleMeterRegistry(), 600, 10_000, 0.001, 5_000);
+        filter = new AuthenticationCheckFilter(jwtTokenProvider, tokenRevocationRegistry);
+
+        Member member = BenchmarkFixtures.member(12345L);
+        for (int i = 0; i < revokedTokens; i++) {
+            String revoked = jwtTokenProvider.createAccessToken(member, member.getAccount());
+            Claims claims = jwtTokenProvider.getClaims(revoked);
+            tokenRevocationRegistry.revoke(claims.getId(), member.getAccount().getAccountId(), claims.getExpiration());
+        }
+        authorization = JwtTokenProvider.TOKEN_PREFIX + jwtTokenProvider.createAccessToken(member, member.getAccount());
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/community/feed");
+        request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.semipermbackend.auth.service;
+
+import com.project.semipermbackend.auth.entity.SocialType;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID 토큰 로컬 검증 비용 (JWKS 공개키는 캐시된 상태)
+ * - 사용자 정보 조회 API 호출(수십~수백 ms)과 비교하기 위한 기준값
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdTokenVerificationBenchmark {
+    private static final String CLIENT_ID = "semiperm-client";
+    private static final String ISSUER = "https://appleid.apple.com";
+
+    private HttpServer jwksServer;
+    private IdTokenVerifier idTokenVerifier;
+    private String idToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        byte[] jwks = ("{\"keys\":[{\"kty\":\"RSA\",\"alg\":\"RS256\",\"kid\":\"key-1\""
+                + ",\"n\":\"" + encoder.encodeToString(publicKey.getModulus().toByteArray()) + "\""
+                + ",\"e\":\"" + encoder.encodeToString(publicKey.getPublicExponent().toByteArray()) + "\"}]}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        jwksServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        jwksServer.createContext("/keys", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, jwks.length);
+            exchange.getResponseBody().write(jwks);
+            exchange.close();
+        });
+        jwksServer.start();
+
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "social.id-token.audiences.apple", CLIENT_ID,
+                "social.id-token.jwks-uri.apple", "http://localhost:" + jwksServer.getAddress().getPort() + "/keys",
+                "social.id-token.jwks-prefetch-on-startup", "false")));
+        idTokenVerifier = new IdTokenVerifier(environment);
+        idTokenVerifier.refreshAll();
+
+        idToken = Jwts.builder()
+                .setHeaderParam("kid", "key-1")
+                .setIssuer(ISSUER)
+                .setAudience(CLIENT_ID)
+                .setSubject("apple-user")
+                .claim("email", "user@privaterelay.appleid.com")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    @TearDown
+    public void tearDown() {
+        idTokenVerifier.shutdown();
+        jwksServer.stop(0);
+    }
+
+    @Benchmark
+    public Claims verifyIdToken() {
+        return idTokenVerifier.verify(SocialType.APPLE, idToken);
+    }
+}
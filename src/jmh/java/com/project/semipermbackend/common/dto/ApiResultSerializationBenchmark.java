@@ -0,0 +1,54 @@
+package com.project.semipermbackend.common.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.project.semipermbackend.common.fixture.BenchmarkFixtures;
+import com.project.semipermbackend.common.utils.PaginationUtil;
+import com.project.semipermbackend.post.dto.PostFindDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록 응답(ApiResultDto<Pagination<PostFindDto.Response>>) JSON 직렬화 비용
+ * ObjectMapper 는 스프링 부트와 같이 Jackson2ObjectMapperBuilder 로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResultSerializationBenchmark {
+    @Param({"10", "50"})
+    private int perSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter typedWriter;
+    private ApiResultDto<Pagination<PostFindDto.Response>> apiResult;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        typedWriter = objectMapper.writerFor(ApiResultDto.class);
+
+        List<PostFindDto.Response> responses = BenchmarkFixtures.posts(perSize).stream()
+                .map(post -> PostFindDto.Response.fromSome(post, 3600L))
+                .collect(Collectors.toList());
+        apiResult = ApiResultDto.success(PaginationUtil.pageToPagination(
+                new PageImpl<>(responses, PageRequest.of(0, perSize), 12_345L)));
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws Exception {
+        return objectMapper.writeValueAsBytes(apiResult);
+    }
+
+    // 타입을 미리 정한 ObjectWriter 재사용 (serializer 조회 생략)
+    @Benchmark
+    public byte[] typedWriter() throws Exception {
+        return typedWriter.writeValueAsBytes(apiResult);
+    }
+}
@@ -0,0 +1,67 @@
+package com.project.semipermbackend.common.fixture;
+
+import com.project.semipermbackend.auth.jwt.JwtTokenProvider;
+import com.project.semipermbackend.domain.account.Account;
+import com.project.semipermbackend.domain.code.PostCategory;
+import com.project.semipermbackend.domain.code.SurgeryCategory;
+import com.project.semipermbackend.domain.member.Member;
+import com.project.semipermbackend.domain.post.Post;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크 공통 데이터 (고정 seed 로 생성하여 실행마다 같은 입력을 사용한다.)
+ */
+public final class BenchmarkFixtures {
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("semiperm-benchmark-jwt-secret-semiperm-benchmark-jwt-secret".getBytes());
+    private static final String CONTENT = "눈썹 반영구 시술 받은 지 3주 지났는데 리터치는 언제쯤 받는 게 좋을까요? "
+            + "색이 생각보다 빨리 빠지는 것 같아서 고민입니다. 원장님은 4주 후에 오라고 하셨는데 다른 분들은 어떠셨는지 궁금해요.";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 운영과 같은 설정(HS256, 유효기간)의 JwtTokenProvider
+     */
+    public static JwtTokenProvider jwtTokenProvider() {
+        return new JwtTokenProvider(SECRET, 60, 20160);
+    }
+
+    public static Member member(long memberId) {
+        return Member.builder()
+                .memberId(memberId)
+                .account(account(memberId))
+                .nickname("kakao_" + String.format("%09d", memberId))
+                .build();
+    }
+
+    public static Account account(long accountId) {
+        return Account.builder()
+                .accountId(accountId)
+                .build();
+    }
+
+    public static List<Post> posts(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        SurgeryCategory[] surgeryCategories = SurgeryCategory.values();
+        PostCategory[] postCategories = {PostCategory.WORRY, PostCategory.INFO, PostCategory.FREE};
+        List<Post> posts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            posts.add(Post.builder()
+                    .postId(1_000_000L + i)
+                    .member(member(1 + random.nextInt(100_000)))
+                    .surgeryCategory(surgeryCategories[random.nextInt(surgeryCategories.length - 1)])
+                    .postCategory(postCategories[random.nextInt(postCategories.length)])
+                    .title("리터치 시기 질문드려요 " + i)
+                    .content(CONTENT)
+                    .likeCount(random.nextInt(500))
+                    .viewCount(random.nextInt(5000))
+                    .build());
+        }
+        return posts;
+    }
+}
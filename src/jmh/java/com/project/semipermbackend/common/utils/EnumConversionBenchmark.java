@@ -0,0 +1,65 @@
+package com.project.semipermbackend.common.utils;
+
+import com.project.semipermbackend.common.code.FlagYn;
+import com.project.semipermbackend.common.code.Gender;
+import com.project.semipermbackend.domain.code.MemberNeeds;
+import com.project.semipermbackend.domain.code.PostCategory;
+import com.project.semipermbackend.domain.code.PostSorting;
+import com.project.semipermbackend.domain.code.SurgeryCategory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 코드 enum 변환 비용
+ * - AttributeConverter : 엔티티 로드/저장 시 컬럼마다 호출된다. (목록 조회 한 페이지 = 행 수 x 컬럼 수)
+ * - @JsonCreator : 요청 본문/파라미터의 enum 역직렬화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnumConversionBenchmark {
+    private final FlagYnConverter flagYnConverter = new FlagYnConverter();
+    private final GenderConverter genderConverter = new GenderConverter();
+    private final PostCategoryConverter postCategoryConverter = new PostCategoryConverter();
+    private final SurgeryCategoryConverter surgeryCategoryConverter = new SurgeryCategoryConverter();
+    private final SurgeryCategorySetConverter surgeryCategorySetConverter = new SurgeryCategorySetConverter();
+    private final MemberNeedsSetConverter memberNeedsSetConverter = new MemberNeedsSetConverter();
+
+    // 검색이 가장 오래 걸리는 마지막 상수 기준
+    private final Set<SurgeryCategory> interestingFields = EnumSet.of(SurgeryCategory.EYEBROW_TATOO, SurgeryCategory.SEMIPERM_REMOVAL);
+    private final Set<MemberNeeds> needInformations = EnumSet.of(MemberNeeds.CLOSED, MemberNeeds.INFO_EXCHANGE);
+    private final Integer interestingFieldsMask = surgeryCategorySetConverter.convertToDatabaseColumn(interestingFields);
+
+    @Benchmark
+    public void toDatabaseColumn(Blackhole blackhole) {
+        blackhole.consume(flagYnConverter.convertToDatabaseColumn(FlagYn.NO));
+        blackhole.consume(genderConverter.convertToDatabaseColumn(Gender.MAN));
+        blackhole.consume(postCategoryConverter.convertToDatabaseColumn(PostCategory.FREE));
+        blackhole.consume(surgeryCategoryConverter.convertToDatabaseColumn(SurgeryCategory.SEMIPERM_REMOVAL));
+        blackhole.consume(surgeryCategorySetConverter.convertToDatabaseColumn(interestingFields));
+        blackhole.consume(memberNeedsSetConverter.convertToDatabaseColumn(needInformations));
+    }
+
+    @Benchmark
+    public void toEntityAttribute(Blackhole blackhole) {
+        blackhole.consume(flagYnConverter.convertToEntityAttribute("N"));
+        blackhole.consume(genderConverter.convertToEntityAttribute("M"));
+        blackhole.consume(postCategoryConverter.convertToEntityAttribute("자유게시글"));
+        blackhole.consume(surgeryCategoryConverter.convertToEntityAttribute("반영구 제거"));
+        blackhole.consume(surgeryCategorySetConverter.convertToEntityAttribute(interestingFieldsMask));
+    }
+
+    @Benchmark
+    public void jsonCreators(Blackhole blackhole) {
+        blackhole.consume(FlagYn.inputStrToEnum("n"));
+        blackhole.consume(Gender.inputStrToEnum("m"));
+        blackhole.consume(PostCategory.inputStrToEnum("FREE"));
+        blackhole.consume(PostSorting.inputStrToEnum("LIKE"));
+        blackhole.consume(SurgeryCategory.inputStrToEnum("SEMIPERM_REMOVAL"));
+        blackhole.consume(MemberNeeds.inputStrToEnum("INFO_EXCHANGE"));
+    }
+}
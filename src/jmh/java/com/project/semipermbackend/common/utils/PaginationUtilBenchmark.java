@@ -0,0 +1,48 @@
+package com.project.semipermbackend.common.utils;
+
+import com.project.semipermbackend.common.dto.Pagination;
+import com.project.semipermbackend.common.fixture.BenchmarkFixtures;
+import com.project.semipermbackend.post.dto.PostFindDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Page / Slice -> Pagination 변환 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaginationUtilBenchmark {
+    @Param({"10", "50"})
+    private int perSize;
+
+    private Page<PostFindDto.Response> page;
+    private Slice<PostFindDto.Response> slice;
+
+    @Setup
+    public void setUp() {
+        List<PostFindDto.Response> responses = BenchmarkFixtures.posts(perSize).stream()
+                .map(post -> PostFindDto.Response.fromSome(post, 3600L))
+                .collect(Collectors.toList());
+        page = new PageImpl<>(responses, PageRequest.of(3, perSize), 12_345L);
+        slice = new SliceImpl<>(responses, PageRequest.of(3, perSize), true);
+    }
+
+    @Benchmark
+    public Pagination<PostFindDto.Response> pageToPagination() {
+        return PaginationUtil.pageToPagination(page);
+    }
+
+    @Benchmark
+    public Pagination<PostFindDto.Response> sliceToPagination() {
+        return PaginationUtil.sliceToPagination(slice, () -> 12_345L);
+    }
+}
@@ -0,0 +1,161 @@
+package com.project.semipermbackend.domain.sequence;
+
+import com.project.semipermbackend.SemipermBackendApplication;
+import com.project.semipermbackend.auth.entity.SocialType;
+import com.project.semipermbackend.common.code.Gender;
+import com.project.semipermbackend.domain.account.Account;
+import com.project.semipermbackend.domain.code.PostCategory;
+import com.project.semipermbackend.domain.code.SurgeryCategory;
+import com.project.semipermbackend.domain.comment.Comment;
+import com.project.semipermbackend.domain.member.Member;
+import com.project.semipermbackend.domain.post.Post;
+import com.project.semipermbackend.domain.store.MemberZzimStore;
+import com.project.semipermbackend.domain.store.Store;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 / 댓글 / 찜 insert 처리량 (트랜잭션당 rowsPerTransaction 건, 점수는 초당 행 수)
+ * - batchSize 1 : JDBC batch 미사용, 50 : application.yml 설정과 동일
+ * - id 는 PooledIdGenerator 로 블록 단위 발급 (50 건마다 id_sequences 조회/갱신 1번)
+ * 기본은 H2(MySQL 모드). MySQL 로 측정하려면 -Dbenchmark.jdbc-url=jdbc:mysql://...&rewriteBatchedStatements=true
+ * -Dbenchmark.jdbc-username=... -Dbenchmark.jdbc-password=... 로 지정한다. (테이블을 새로 만든다)
+ * 리뷰는 ReviewCategory 에 값이 없어 저장할 수 없으므로 제외한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class EntityInsertBenchmark {
+    private static final int ROWS_PER_TRANSACTION = 200;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private Long memberId;
+    private Long postId;
+    private String storeId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String jdbcUrl = System.getProperty("benchmark.jdbc-url", "jdbc:h2:mem:insert-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        SpringApplication application = new SpringApplication(SemipermBackendApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.driver-class-name=" + (jdbcUrl.startsWith("jdbc:h2") ? "org.h2.Driver" : "com.mysql.cj.jdbc.Driver"),
+                "--spring.datasource.username=" + System.getProperty("benchmark.jdbc-username", "sa"),
+                "--spring.datasource.password=" + System.getProperty("benchmark.jdbc-password", ""),
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.sql.init.mode=never",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--logging.level.root=warn",
+                "--logging.level.org.hibernate=warn",
+                "--social.id-token.jwks-prefetch-on-startup=false",
+                "--jwt.secret=c2VtaXBlcm0tYmVuY2htYXJrLWp3dC1zZWNyZXQtc2VtaXBlcm0tYmVuY2htYXJr",
+                "--jwt.access-token-validity-sec=60",
+                "--jwt.refresh-token-validity-sec=60");
+
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Account account = Account.builder()
+                    .socialId("benchmark")
+                    .email("benchmark@semiperm.com")
+                    .profileImageUrl("")
+                    .socialType(SocialType.KAKAO)
+                    .build();
+            entityManager.persist(account);
+            Member member = Member.builder()
+                    .account(account)
+                    .birth(LocalDate.of(1995, 1, 1))
+                    .gender(Gender.WOMAN)
+                    .nickname("benchmark")
+                    .build();
+            entityManager.persist(member);
+            Store store = Store.create("benchmark-place");
+            entityManager.persist(store);
+            Post post = newPost(member);
+            entityManager.persist(post);
+
+            memberId = member.getMemberId();
+            postId = post.getPostId();
+            storeId = store.getEncodedPlaceId();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_TRANSACTION)
+    public void posts() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Member member = entityManager.getReference(Member.class, memberId);
+            for (int i = 0; i < ROWS_PER_TRANSACTION; i++) {
+                entityManager.persist(newPost(member));
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_TRANSACTION)
+    public void comments() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Member member = entityManager.getReference(Member.class, memberId);
+            Post post = entityManager.getReference(Post.class, postId);
+            for (int i = 0; i < ROWS_PER_TRANSACTION; i++) {
+                entityManager.persist(Comment.builder()
+                        .member(member)
+                        .post(post)
+                        .content("리터치는 4주 후에 받았어요.")
+                        .parentId(0L)
+                        .groupNo((long) i)
+                        .build());
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS_PER_TRANSACTION)
+    public void zzims() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Member member = entityManager.getReference(Member.class, memberId);
+            Store store = entityManager.getReference(Store.class, storeId);
+            for (int i = 0; i < ROWS_PER_TRANSACTION; i++) {
+                entityManager.persist(MemberZzimStore.builder()
+                        .member(member)
+                        .store(store)
+                        .build());
+            }
+        });
+    }
+
+    private static Post newPost(Member member) {
+        return Post.builder()
+                .member(member)
+                .postCategory(PostCategory.WORRY)
+                .surgeryCategory(SurgeryCategory.EYEBROW_TATOO)
+                .title("리터치 시기 질문드려요")
+                .content("눈썹 반영구 시술 받은 지 3주 지났는데 리터치는 언제쯤 받는 게 좋을까요?")
+                .build();
+    }
+}
@@ -0,0 +1,202 @@
+package com.project.semipermbackend.member.service;
+
+import com.project.semipermbackend.domain.member.MemberNickname;
+import com.project.semipermbackend.domain.member.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 닉네임 중복 확인 API(MemberService.isNicknameAvailable -> NicknameRegistry.isTaken) 비용. 회원 memberCount 명 기준
+ * - available : 입력 중인 새 닉네임 (대부분의 요청). 필터에서 "없음" 이면 DB 를 조회하지 않는다.
+ * - taken : 이미 있는 (직접 정한) 닉네임. 항상 DB 로 확인한다.
+ * 조회 닉네임은 lookupKeys 개를 섞은 순서로 한 번씩 사용하여, 같은 키가 캐시에 남아있는 상태를 측정하지 않는다.
+ * DB 는 메모리 Set 으로 대신하므로 DB 조회 비용은 포함하지 않는다. 보조 지표(LookupCounters)의
+ * databaseLookups / lookups 가 실제로 DB 조회로 이어지는 비율이다. (available 에서는 오탐률)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NicknameLookupBenchmark {
+    // 가입 시 자동 발급된 닉네임을 그대로 쓰는 회원 비율
+    private static final double GENERATED_NICKNAME_RATIO = 0.7;
+
+    @Param({"1000000"})
+    private int memberCount;
+
+    @Param({"1000000"})
+    private int lookupKeys;
+
+    @Param({"0.01"})
+    private double falsePositiveRate;
+
+    private MemberService memberService;
+    private StubMemberRepository database;
+    private String[] newNicknames;
+    private String[] takenNicknames;
+    private int newCursor;
+    private int takenCursor;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<String> memberNicknames = new ArrayList<>(memberCount);
+        List<String> chosenNicknames = new ArrayList<>();
+        for (int i = 0; i < memberCount; i++) {
+            if (random.nextDouble() < GENERATED_NICKNAME_RATIO) {
+                memberNicknames.add("kakao_" + String.format("%09d", random.nextLong(1_000_000_000L)));
+            } else {
+                String nickname = koreanNickname(random) + i;
+                memberNicknames.add(nickname);
+                chosenNicknames.add(nickname);
+            }
+        }
+        database = new StubMemberRepository(memberNicknames);
+
+        NicknameRegistry nicknameRegistry = new NicknameRegistry(database.proxy(), new SimpleMeterRegistry(),
+                memberCount, falsePositiveRate, 10_000, 10_000);
+        nicknameRegistry.loadOnStartup();
+        memberService = new MemberService(null, null, null, null, null, null, nicknameRegistry);
+
+        newNicknames = new String[lookupKeys];
+        takenNicknames = new String[lookupKeys];
+        for (int i = 0; i < lookupKeys; i++) {
+            // 회원 닉네임 뒤에 붙인 번호와 겹치지 않도록 음수 번호를 붙인다.
+            newNicknames[i] = koreanNickname(random) + (-1 - i);
+            takenNicknames[i] = chosenNicknames.get(random.nextInt(chosenNicknames.size()));
+        }
+        shuffle(newNicknames, random);
+    }
+
+    @Benchmark
+    public boolean available(LookupCounters counters) {
+        long databaseLookups = database.lookups;
+        boolean available = memberService.isNicknameAvailable(newNicknames[newCursor]);
+        newCursor = next(newCursor);
+        counters.record(database.lookups != databaseLookups);
+        return available;
+    }
+
+    @Benchmark
+    public boolean taken(LookupCounters counters) {
+        long databaseLookups = database.lookups;
+        boolean available = memberService.isNicknameAvailable(takenNicknames[takenCursor]);
+        takenCursor = next(takenCursor);
+        counters.record(database.lookups != databaseLookups);
+        return available;
+    }
+
+    private int next(int cursor) {
+        return cursor + 1 == lookupKeys ? 0 : cursor + 1;
+    }
+
+    /**
+     * 한글 2~8 글자 (사용자가 직접 정하는 닉네임)
+     */
+    private static String koreanNickname(SplittableRandom random) {
+        int length = 2 + random.nextInt(7);
+        StringBuilder nickname = new StringBuilder(length + 8);
+        for (int i = 0; i < length; i++) {
+            nickname.append((char) ('가' + random.nextInt(11_172)));
+        }
+        return nickname.toString();
+    }
+
+    private static void shuffle(String[] values, SplittableRandom random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    /**
+     * 조회 중 DB 확인으로 이어진 횟수 (iteration 마다 초기화)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class LookupCounters {
+        public long lookups;
+        public long databaseLookups;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            lookups = 0;
+            databaseLookups = 0;
+        }
+
+        private void record(boolean databaseLookup) {
+            lookups++;
+            if (databaseLookup) {
+                databaseLookups++;
+            }
+        }
+    }
+
+    /**
+     * 닉네임 레지스트리가 사용하는 쿼리만 메모리에서 응답하는 MemberRepository. (member_id 는 1 부터)
+     */
+    private static class StubMemberRepository {
+        private final List<String> nicknames;
+        private final Set<String> nicknameSet;
+        private long lookups;
+
+        private StubMemberRepository(List<String> nicknames) {
+            this.nicknames = nicknames;
+            this.nicknameSet = new HashSet<>(nicknames);
+        }
+
+        private MemberRepository proxy() {
+            return (MemberRepository) Proxy.newProxyInstance(MemberRepository.class.getClassLoader(),
+                    new Class[]{MemberRepository.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "countByNicknameIncludingWithdrawn":
+                                lookups++;
+                                return nicknameSet.contains((String) args[0]) ? 1L : 0L;
+                            case "findNicknamesAfter":
+                                return page((Long) args[0], (Integer) args[1]);
+                            case "findNicknamesModifiedSince":
+                                return List.of();
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+
+        private List<MemberNickname> page(long afterMemberId, int limit) {
+            List<MemberNickname> page = new ArrayList<>(limit);
+            for (long memberId = afterMemberId + 1; memberId <= nicknames.size() && page.size() < limit; memberId++) {
+                page.add(new Row(memberId, nicknames.get((int) memberId - 1)));
+            }
+            return page;
+        }
+    }
+
+    private static class Row implements MemberNickname {
+        private final Long memberId;
+        private final String nickname;
+
+        private Row(Long memberId, String nickname) {
+            this.memberId = memberId;
+            this.nickname = nickname;
+        }
+
+        @Override
+        public Long getMemberId() {
+            return memberId;
+        }
+
+        @Override
+        public String getNickname() {
+            return nickname;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.semipermbackend.post.dto;
+
+import com.project.semipermbackend.common.fixture.BenchmarkFixtures;
+import com.project.semipermbackend.domain.post.Post;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회 시 게시글 엔티티 -> 응답 DTO 변환 비용 (한 페이지 perSize 건)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostFindDtoBenchmark {
+    @Param({"10", "50"})
+    private int perSize;
+
+    private List<Post> posts;
+
+    @Setup
+    public void setUp() {
+        posts = BenchmarkFixtures.posts(perSize);
+    }
+
+    @Benchmark
+    public List<PostFindDto.Response> fromSome() {
+        List<PostFindDto.Response> responses = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            responses.add(PostFindDto.Response.fromSome(post, 3600L));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.semipermbackend.auth.controller;
+
+import com.project.semipermbackend.loadtest.LoadScenario;
+import com.project.semipermbackend.loadtest.LoadScenarioProvider;
+import com.project.semipermbackend.loadtest.StubJwksServer;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+
+/**
+ * 소셜 로그인 부하 시나리오 (스텁 JWKS 로 서명한 ID 토큰 로그인)
+ */
+public class AuthLoadScenarios implements LoadScenarioProvider {
+
+    @Override
+    public List<LoadScenario> scenarios() {
+        return List.of(
+                LoadScenario.of("login", 3, context -> context.anonymous("/oauth2/login/" +
+                                StubJwksServer.SOCIAL_TYPE.getSocialName())
+                        .header("X-Id-Token", context.idToken(context.randomMemberAccountId()))
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build())
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.project.semipermbackend.comment.controller;
+
+import com.project.semipermbackend.loadtest.LoadScenario;
+import com.project.semipermbackend.loadtest.LoadScenarioProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static com.project.semipermbackend.loadtest.LoadTestContext.json;
+
+/**
+ * CommentController 부하 시나리오
+ */
+public class CommentLoadScenarios implements LoadScenarioProvider {
+
+    @Override
+    public List<LoadScenario> scenarios() {
+        return List.of(
+                // 인기 게시글에 댓글 작성 (루트 댓글)
+                LoadScenario.of("comment-create", 5, context -> context.authorized("/community/post/" +
+                                context.popularPostId() + "/comment")
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .POST(json("{\"content\":\"부하 테스트 댓글\",\"parentId\":0}"))
+                        .build()),
+                LoadScenario.of("my-comments", 3, context -> context.authorized("/community/my-comments").GET().build())
+        );
+    }
+}
@@ -0,0 +1,178 @@
+package com.project.semipermbackend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.semipermbackend.auth.controller.AuthLoadScenarios;
+import com.project.semipermbackend.comment.controller.CommentLoadScenarios;
+import com.project.semipermbackend.post.controller.PostLoadScenarios;
+import com.project.semipermbackend.store.controller.StoreLoadScenarios;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.persistence.EntityManagerFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * API 부하 테스트 (./gradlew loadTest)
+ * 1. MySQL 컨테이너를 띄우고 앱 기동 시 seed 프로필로 데이터를 만든다. (규모는 application-loadtest.yml 의 seed.*)
+ * 2. 스텁 JWKS 의 ID 토큰으로 회원 일부를 로그인시켜 access token 을 준비한다.
+ * 3. 컨트롤러별 시나리오(*LoadScenarios)를 open model 로 동시에 실행하고 결과를 JSON 으로 남긴다.
+ * 4. 시나리오 실행 동안의 2차 캐시 hit ratio 를 함께 남기고, 엔티티 영역 hit ratio 가 기준 이상인지 확인한다.
+ * 5. 커넥션 점유 시간 / 풀 대기 수를 함께 남긴다. (-Dloadtest.open-in-view=true 로 실행하여 open-in-view 사용 시와 비교)
+ *
+ * 설정 (-D 로 지정) : loadtest.duration-sec, loadtest.warmup-sec, loadtest.rate-multiplier,
+ *                    loadtest.max-outstanding, loadtest.logged-in-members, loadtest.max-error-rate,
+ *                    loadtest.min-l2-hit-ratio, loadtest.open-in-view
+ */
+@Slf4j
+@Testcontainers
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ApiLoadTest {
+    private static final StubJwksServer STUB_JWKS_SERVER = startStubJwksServer();
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.33")
+            .withDatabaseName("SemipermDB")
+            .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> MYSQL.getJdbcUrl() + "?serverTimezone=Asia/Seoul&characterEncoding=UTF-8&rewriteBatchedStatements=true");
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("social.id-token.jwks-uri." + StubJwksServer.SOCIAL_TYPE.getSocialName(), STUB_JWKS_SERVER::getJwksUri);
+        registry.add("social.id-token.audiences." + StubJwksServer.SOCIAL_TYPE.getSocialName(), () -> StubJwksServer.CLIENT_ID);
+        registry.add("spring.jpa.open-in-view", () -> System.getProperty("loadtest.open-in-view", "false"));
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${seed.accounts}")
+    private long accountCount;
+    @Value("${seed.member-ratio}")
+    private double memberRatio;
+    @Value("${seed.posts}")
+    private long postCount;
+    @Value("${seed.stores}")
+    private int storeCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @AfterAll
+    static void stopStubJwksServer() {
+        STUB_JWKS_SERVER.close();
+    }
+
+    @Test
+    void mixedScenarios() throws Exception {
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-sec", 15));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration-sec", 60));
+        double rateMultiplier = Double.parseDouble(System.getProperty("loadtest.rate-multiplier", "1"));
+        int maxOutstanding = Integer.getInteger("loadtest.max-outstanding", 512);
+        int loggedInMembers = Integer.getInteger("loadtest.logged-in-members", 200);
+        double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+        double minL2HitRatio = Double.parseDouble(System.getProperty("loadtest.min-l2-hit-ratio", "0.8"));
+        Path resultDir = Path.of(System.getProperty("loadtest.result-dir", "build/load-test"));
+
+        URI baseUri = URI.create("http://localhost:" + port);
+        long memberAccountCount = (long) (accountCount * memberRatio);
+        List<String> accessTokens = login(baseUri, memberAccountCount, loggedInMembers);
+        LoadTestContext context = new LoadTestContext(baseUri, accessTokens, STUB_JWKS_SERVER::idToken,
+                memberAccountCount, postCount, storeCount);
+
+        List<LoadScenario> scenarios = Stream.of(new PostLoadScenarios(), new CommentLoadScenarios(),
+                        new StoreLoadScenarios(), new AuthLoadScenarios())
+                .flatMap(provider -> provider.scenarios().stream())
+                .toList();
+
+        SecondLevelCacheHitRatio secondLevelCache = new SecondLevelCacheHitRatio(entityManagerFactory);
+        secondLevelCache.reset();
+        List<ScenarioResult> results;
+        Map<String, Object> connectionPool;
+        try (ConnectionPoolPressure connectionPoolPressure = new ConnectionPoolPressure(meterRegistry)) {
+            connectionPoolPressure.start();
+            results = new OpenModelLoadGenerator(httpClient, context, maxOutstanding)
+                    .run(scenarios, rateMultiplier, warmup, duration);
+            connectionPool = connectionPoolPressure.toMap();
+        }
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("warmupSec", warmup.toSeconds());
+        settings.put("durationSec", duration.toSeconds());
+        settings.put("rateMultiplier", rateMultiplier);
+        settings.put("maxOutstanding", maxOutstanding);
+        settings.put("loggedInMembers", accessTokens.size());
+        settings.put("openInView", Boolean.getBoolean("loadtest.open-in-view"));
+        settings.put("seed", Map.of("accounts", accountCount, "posts", postCount, "stores", storeCount));
+        new LoadTestReport().write(resultDir, settings, duration, results,
+                Map.of("secondLevelCache", secondLevelCache.toMap(), "connectionPool", connectionPool));
+
+        for (ScenarioResult result : results) {
+            assertThat(result.getErrorRate()).as(result.getName() + " error rate").isLessThanOrEqualTo(maxErrorRate);
+        }
+        assertThat(secondLevelCache.entityHitRatio()).as("2차 캐시 엔티티 영역 hit ratio").isGreaterThanOrEqualTo(minL2HitRatio);
+    }
+
+    /**
+     * seed 회원 일부를 ID 토큰으로 로그인시켜 access token 을 받는다.
+     */
+    private List<String> login(URI baseUri, long memberAccountCount, int count) throws Exception {
+        List<String> accessTokens = new ArrayList<>();
+        for (long accountId = 1; accountId <= Math.min(count, memberAccountCount); accountId++) {
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/oauth2/login/" + StubJwksServer.SOCIAL_TYPE.getSocialName()))
+                    .header("X-Id-Token", STUB_JWKS_SERVER.idToken(accountId))
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            JsonNode accessToken = objectMapper.readTree(response.body()).path("data").path("accessToken");
+            if (accessToken.isTextual()) {
+                accessTokens.add(accessToken.asText());
+            }
+        }
+        log.info("로그인한 회원 {} 명", accessTokens.size());
+        assertThat(accessTokens).as("로그인된 회원").isNotEmpty();
+        return accessTokens;
+    }
+
+    private static StubJwksServer startStubJwksServer() {
+        try {
+            return new StubJwksServer();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.project.semipermbackend.loadtest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 동안의 커넥션 풀 사용량 (모든 풀 합계)
+ * - 점유 시간 : hikaricp.connections.usage (커넥션을 빌린 뒤 반납까지), 획득 대기 : hikaricp.connections.acquire
+ * - 동시 사용 / 대기 수 : hikaricp.connections.active, pending 게이지를 주기적으로 읽은 최대 / 평균
+ * open-in-view 설정(-Dloadtest.open-in-view)을 바꿔 실행하여 점유 시간과 대기 수를 비교한다.
+ */
+public class ConnectionPoolPressure implements AutoCloseable {
+    private static final long SAMPLE_INTERVAL_MILLIS = 100;
+
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "connection-pool-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private TimerSnapshot usageAtStart;
+    private TimerSnapshot acquireAtStart;
+    private double timeoutsAtStart;
+    private final GaugeSamples active = new GaugeSamples();
+    private final GaugeSamples pending = new GaugeSamples();
+
+    public ConnectionPoolPressure(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 측정 시작 (이전 누적값은 빼고 계산한다.)
+     */
+    public void start() {
+        usageAtStart = timerSnapshot("hikaricp.connections.usage");
+        acquireAtStart = timerSnapshot("hikaricp.connections.acquire");
+        timeoutsAtStart = timeouts();
+        sampler.scheduleAtFixedRate(() -> {
+            active.add(gaugeSum("hikaricp.connections.active"));
+            pending.add(gaugeSum("hikaricp.connections.pending"));
+        }, 0, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public Map<String, Object> toMap() {
+        TimerSnapshot usage = timerSnapshot("hikaricp.connections.usage").minus(usageAtStart);
+        TimerSnapshot acquire = timerSnapshot("hikaricp.connections.acquire").minus(acquireAtStart);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("borrowCount", usage.count);
+        result.put("meanHoldMillis", usage.meanMillis());
+        result.put("maxHoldMillis", maxMillis("hikaricp.connections.usage"));
+        result.put("meanAcquireMillis", acquire.meanMillis());
+        result.put("maxAcquireMillis", maxMillis("hikaricp.connections.acquire"));
+        result.put("timeouts", timeouts() - timeoutsAtStart);
+        result.put("activeConnections", active.toMap());
+        result.put("pendingThreads", pending.toMap());
+        return result;
+    }
+
+    @Override
+    public void close() {
+        sampler.shutdownNow();
+    }
+
+    private TimerSnapshot timerSnapshot(String name) {
+        Collection<Timer> timers = meterRegistry.find(name).timers();
+        long count = timers.stream().mapToLong(Timer::count).sum();
+        double totalMillis = timers.stream().mapToDouble(timer -> timer.totalTime(TimeUnit.MILLISECONDS)).sum();
+        return new TimerSnapshot(count, totalMillis);
+    }
+
+    // 최근 구간(기본 2분)의 최대값
+    private double maxMillis(String name) {
+        return meterRegistry.find(name).timers().stream()
+                .mapToDouble(timer -> timer.max(TimeUnit.MILLISECONDS))
+                .max()
+                .orElse(Double.NaN);
+    }
+
+    private double timeouts() {
+        return meterRegistry.find("hikaricp.connections.timeout").counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private double gaugeSum(String name) {
+        return meterRegistry.find(name).gauges().stream()
+                .mapToDouble(Gauge::value)
+                .sum();
+    }
+
+    private static class TimerSnapshot {
+        private final long count;
+        private final double totalMillis;
+
+        private TimerSnapshot(long count, double totalMillis) {
+            this.count = count;
+            this.totalMillis = totalMillis;
+        }
+
+        private TimerSnapshot minus(TimerSnapshot start) {
+            return new TimerSnapshot(count - start.count, totalMillis - start.totalMillis);
+        }
+
+        private double meanMillis() {
+            return count == 0 ? Double.NaN : totalMillis / count;
+        }
+    }
+
+    private static class GaugeSamples {
+        private long samples;
+        private double sum;
+        private double max;
+
+        private synchronized void add(double value) {
+            samples++;
+            sum += value;
+            max = Math.max(max, value);
+        }
+
+        private synchronized Map<String, Object> toMap() {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("mean", samples == 0 ? Double.NaN : sum / samples);
+            result.put("max", max);
+            return result;
+        }
+    }
+}
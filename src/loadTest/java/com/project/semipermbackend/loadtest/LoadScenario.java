@@ -0,0 +1,18 @@
+package com.project.semipermbackend.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.net.http.HttpRequest;
+import java.util.function.Function;
+
+/**
+ * 부하 시나리오 하나 : 초당 ratePerSec 건의 요청이 (응답과 관계없이) 도착한다. (open model)
+ */
+@Getter
+@RequiredArgsConstructor(staticName = "of")
+public class LoadScenario {
+    private final String name;
+    private final double ratePerSec;
+    private final Function<LoadTestContext, HttpRequest> request;
+}
@@ -0,0 +1,10 @@
+package com.project.semipermbackend.loadtest;
+
+import java.util.List;
+
+/**
+ * 컨트롤러별 부하 시나리오 목록. 각 컨트롤러 패키지에 구현한다.
+ */
+public interface LoadScenarioProvider {
+    List<LoadScenario> scenarios();
+}
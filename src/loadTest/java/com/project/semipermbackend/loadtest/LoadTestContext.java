@@ -0,0 +1,98 @@
+package com.project.semipermbackend.loadtest;
+
+import com.project.semipermbackend.domain.code.SurgeryCategory;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongFunction;
+
+/**
+ * 시나리오에서 요청을 만들 때 사용하는 값. (seed 데이터 범위, 로그인된 회원의 access token)
+ * - 게시글/사업장은 seed 데이터처럼 일부에 요청이 몰리도록 고른다.
+ */
+public class LoadTestContext {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final SurgeryCategory[] SURGERY_CATEGORIES = {
+            SurgeryCategory.SMP, SurgeryCategory.HAIRLINE, SurgeryCategory.EYEBROW_TATOO, SurgeryCategory.EYELINE,
+            SurgeryCategory.LIPS_TATTO, SurgeryCategory.SCAR_COVERUP, SurgeryCategory.SEMIPERM_REMOVAL};
+    private static final String[] KEYWORDS = {"눈썹", "아이라인", "리터치", "가격", "후기", "통증", "색소", "원장님"};
+    // 값이 클수록 앞쪽(작은 index)에 요청이 몰린다.
+    private static final double SKEW = 3.0;
+
+    private final URI baseUri;
+    private final List<String> accessTokens;
+    private final LongFunction<String> idTokenIssuer;
+    @Getter
+    private final long memberAccountCount;
+    private final long postCount;
+    private final int storeCount;
+
+    public LoadTestContext(URI baseUri, List<String> accessTokens, LongFunction<String> idTokenIssuer,
+                           long memberAccountCount, long postCount, int storeCount) {
+        this.baseUri = baseUri;
+        this.accessTokens = accessTokens;
+        this.idTokenIssuer = idTokenIssuer;
+        this.memberAccountCount = memberAccountCount;
+        this.postCount = postCount;
+        this.storeCount = storeCount;
+    }
+
+    /**
+     * 로그인된 회원 중 한 명의 access token 으로 인증한 요청
+     */
+    public HttpRequest.Builder authorized(String pathAndQuery) {
+        String accessToken = accessTokens.get(random().nextInt(accessTokens.size()));
+        return anonymous(pathAndQuery).header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+    }
+
+    public HttpRequest.Builder anonymous(String pathAndQuery) {
+        return HttpRequest.newBuilder(baseUri.resolve(pathAndQuery))
+                .timeout(REQUEST_TIMEOUT)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    public static HttpRequest.BodyPublisher json(String body) {
+        return HttpRequest.BodyPublishers.ofString(body);
+    }
+
+    /**
+     * seed 로 만든 회원 계정의 ID 토큰 (스텁 JWKS 의 키로 서명)
+     */
+    public String idToken(long accountId) {
+        return idTokenIssuer.apply(accountId);
+    }
+
+    public long randomMemberAccountId() {
+        return 1 + random().nextLong(memberAccountCount);
+    }
+
+    public long popularPostId() {
+        return 1 + skewedIndex(postCount);
+    }
+
+    public String popularStoreId() {
+        return "seed-place-" + skewedIndex(storeCount);
+    }
+
+    public SurgeryCategory randomSurgeryCategory() {
+        return SURGERY_CATEGORIES[random().nextInt(SURGERY_CATEGORIES.length)];
+    }
+
+    public String randomKeyword() {
+        return KEYWORDS[random().nextInt(KEYWORDS.length)];
+    }
+
+    public ThreadLocalRandom random() {
+        return ThreadLocalRandom.current();
+    }
+
+    private long skewedIndex(long size) {
+        return Math.min(size - 1, (long) (size * Math.pow(random().nextDouble(), SKEW)));
+    }
+}
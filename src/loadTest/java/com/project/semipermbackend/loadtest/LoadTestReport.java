@@ -0,0 +1,60 @@
+package com.project.semipermbackend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트 결과를 JSON 으로 저장한다. (resultDir/load-test-yyyyMMdd-HHmmss.json, resultDir/latest.json)
+ * 같은 설정으로 변경 전/후 결과를 비교하는 용도.
+ */
+@Slf4j
+public class LoadTestReport {
+    private static final DateTimeFormatter FILE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * @param metrics 시나리오 외 측정값 (2차 캐시 hit ratio 등)
+     */
+    public Path write(Path resultDir, Map<String, Object> settings, Duration duration, List<ScenarioResult> results,
+                      Map<String, Object> metrics) throws IOException {
+        long requests = results.stream().mapToLong(ScenarioResult::getRequests).sum();
+        long errors = results.stream().mapToLong(ScenarioResult::getErrors).sum();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", LocalDateTime.now().toString());
+        report.put("settings", settings);
+        report.put("totalRequests", requests);
+        report.put("totalErrors", errors);
+        report.put("throughputPerSec", (double) requests / duration.toMillis() * 1000);
+        report.put("scenarios", results.stream().map(ScenarioResult::toMap).collect(Collectors.toList()));
+        report.put("metrics", metrics);
+
+        Files.createDirectories(resultDir);
+        Path resultFile = resultDir.resolve("load-test-" + LocalDateTime.now().format(FILE_NAME_FORMAT) + ".json");
+        objectMapper.writeValue(resultFile.toFile(), report);
+        Files.copy(resultFile, resultDir.resolve("latest.json"), StandardCopyOption.REPLACE_EXISTING);
+
+        for (ScenarioResult result : results) {
+            Map<String, Object> summary = result.toMap();
+            log.info("{} : {} 건, error {}, dropped {}, latency(ms) {}", result.getName(), summary.get("requests"),
+                    summary.get("errors"), summary.get("dropped"), summary.get("latencyMillis"));
+        }
+        metrics.forEach((name, value) -> log.info("{} : {}", name, value));
+        log.info("전체 {} 건, error {}, 처리량 {} 건/초 -> {}", requests, errors, report.get("throughputPerSec"), resultFile);
+        return resultFile;
+    }
+}
@@ -0,0 +1,117 @@
+package com.project.semipermbackend.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * open model 부하 발생기.
+ * - 시나리오마다 도착 간격을 지수 분포로 뽑아(Poisson 도착) 예정 시각에 요청을 보낸다. 이전 요청의 응답을 기다리지 않는다.
+ * - 응답 시간은 실제 전송 시각이 아닌 예정 시각부터 잰다. (서버가 느려져 발생기가 밀려도 지연이 가려지지 않도록)
+ * - 동시에 처리 중인 요청이 maxOutstanding 을 넘으면 보내지 않고 dropped 로 센다.
+ * - warmup 동안의 요청은 결과에서 제외한다.
+ */
+@Slf4j
+public class OpenModelLoadGenerator {
+    private final HttpClient httpClient;
+    private final LoadTestContext context;
+    private final int maxOutstanding;
+    private final Semaphore outstanding;
+
+    public OpenModelLoadGenerator(HttpClient httpClient, LoadTestContext context, int maxOutstanding) {
+        this.httpClient = httpClient;
+        this.context = context;
+        this.maxOutstanding = maxOutstanding;
+        this.outstanding = new Semaphore(maxOutstanding);
+    }
+
+    public List<ScenarioResult> run(List<LoadScenario> scenarios, double rateMultiplier, Duration warmup, Duration duration)
+            throws InterruptedException {
+        long startNanos = System.nanoTime() + Duration.ofMillis(100).toNanos();
+        long measureFromNanos = startNanos + warmup.toNanos();
+        long endNanos = measureFromNanos + duration.toNanos();
+
+        List<ScenarioResult> results = new ArrayList<>();
+        List<Thread> arrivalThreads = new ArrayList<>();
+        for (LoadScenario scenario : scenarios) {
+            double ratePerSec = scenario.getRatePerSec() * rateMultiplier;
+            ScenarioResult result = new ScenarioResult(scenario.getName(), ratePerSec, duration);
+            results.add(result);
+            Thread thread = new Thread(() -> arrive(scenario, ratePerSec, result, startNanos, measureFromNanos, endNanos),
+                    "load-" + scenario.getName());
+            thread.setDaemon(true);
+            arrivalThreads.add(thread);
+        }
+        arrivalThreads.forEach(Thread::start);
+        for (Thread thread : arrivalThreads) {
+            thread.join();
+        }
+        // 마지막 요청들의 응답 대기 (permit 이 모두 반납될 때까지)
+        if (outstanding.tryAcquire(maxOutstanding, 60, TimeUnit.SECONDS)) {
+            outstanding.release(maxOutstanding);
+        } else {
+            log.warn("60 초 안에 응답을 받지 못한 요청이 있습니다.");
+        }
+        return results;
+    }
+
+    private void arrive(LoadScenario scenario, double ratePerSec, ScenarioResult result,
+                        long startNanos, long measureFromNanos, long endNanos) {
+        if (ratePerSec <= 0) {
+            return;
+        }
+        double meanIntervalNanos = 1_000_000_000d / ratePerSec;
+        long intendedNanos = startNanos;
+        while (true) {
+            intendedNanos += (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanIntervalNanos);
+            if (intendedNanos >= endNanos) {
+                return;
+            }
+            long waitNanos = intendedNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            boolean measured = intendedNanos >= measureFromNanos;
+            if (!outstanding.tryAcquire()) {
+                if (measured) {
+                    result.recordDropped();
+                }
+                continue;
+            }
+            send(scenario, result, intendedNanos, measured);
+        }
+    }
+
+    private void send(LoadScenario scenario, ScenarioResult result, long intendedNanos, boolean measured) {
+        HttpRequest request;
+        try {
+            request = scenario.getRequest().apply(context);
+        } catch (RuntimeException e) {
+            outstanding.release();
+            log.warn("{} 요청 생성 실패", scenario.getName(), e);
+            return;
+        }
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, throwable) -> {
+                    long latencyNanos = System.nanoTime() - intendedNanos;
+                    outstanding.release();
+                    if (!measured) {
+                        return;
+                    }
+                    if (throwable != null) {
+                        result.recordFailure(latencyNanos, throwable);
+                    } else {
+                        result.recordResponse(latencyNanos, response.statusCode());
+                    }
+                });
+    }
+}
@@ -0,0 +1,104 @@
+package com.project.semipermbackend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시나리오별 측정 결과. 응답 시간은 마이크로초 단위 HdrHistogram 에 기록한다.
+ * - 4xx / 5xx 응답과 연결 실패, 타임아웃은 error 로 센다.
+ */
+public class ScenarioResult {
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final String name;
+    private final double targetRatePerSec;
+    private final Duration duration;
+
+    private final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    ScenarioResult(String name, double targetRatePerSec, Duration duration) {
+        this.name = name;
+        this.targetRatePerSec = targetRatePerSec;
+        this.duration = duration;
+    }
+
+    void recordResponse(long latencyNanos, int statusCode) {
+        record(latencyNanos);
+        if (statusCode >= 400) {
+            errors.increment();
+        }
+        outcomes.computeIfAbsent(String.valueOf(statusCode), key -> new LongAdder()).increment();
+    }
+
+    void recordFailure(long latencyNanos, Throwable throwable) {
+        record(latencyNanos);
+        errors.increment();
+        Throwable cause = throwable.getCause() != null ? throwable.getCause() : throwable;
+        outcomes.computeIfAbsent(cause.getClass().getSimpleName(), key -> new LongAdder()).increment();
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRequests() {
+        return latencies.getTotalCount();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public double getErrorRate() {
+        return getRequests() == 0 ? 0 : (double) getErrors() / getRequests();
+    }
+
+    /**
+     * JSON 결과용
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", name);
+        map.put("targetRatePerSec", targetRatePerSec);
+        map.put("requests", getRequests());
+        map.put("errors", getErrors());
+        map.put("dropped", dropped.sum());
+        map.put("throughputPerSec", (double) getRequests() / duration.toMillis() * 1000);
+        Map<String, Object> latencyMillis = new LinkedHashMap<>();
+        latencyMillis.put("mean", latencies.getMean() / 1000);
+        latencyMillis.put("p50", percentileMillis(50));
+        latencyMillis.put("p90", percentileMillis(90));
+        latencyMillis.put("p95", percentileMillis(95));
+        latencyMillis.put("p99", percentileMillis(99));
+        latencyMillis.put("p999", percentileMillis(99.9));
+        latencyMillis.put("max", latencies.getMaxValue() / 1000d);
+        map.put("latencyMillis", latencyMillis);
+        Map<String, Long> outcomeCounts = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> outcomeCounts.put(outcome, count.sum()));
+        map.put("outcomes", outcomeCounts);
+        return map;
+    }
+
+    private double percentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1000d;
+    }
+
+    private void record(long latencyNanos) {
+        latencies.recordValue(Math.min(MAX_LATENCY_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+    }
+}
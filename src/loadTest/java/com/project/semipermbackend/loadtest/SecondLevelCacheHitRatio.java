@@ -0,0 +1,81 @@
+package com.project.semipermbackend.loadtest;
+
+import com.project.semipermbackend.domain.account.Account;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.NaturalIdStatistics;
+import org.hibernate.stat.Statistics;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 동안의 Hibernate 2차 캐시 영역별 hit / miss (hibernate-cache.conf 의 영역)
+ * hit ratio = hit / (hit + miss). miss 는 DB 조회로 이어진 횟수이다.
+ */
+public class SecondLevelCacheHitRatio {
+    private static final List<String> ENTITY_REGIONS = List.of("member", "account", "store");
+    private static final List<String> QUERY_REGIONS = List.of("member-by-account");
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheHitRatio(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * 측정 시작 (이전 통계 초기화)
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+    /**
+     * 엔티티 영역 전체의 hit ratio (조회가 없으면 NaN)
+     */
+    public double entityHitRatio() {
+        long hits = 0;
+        long misses = 0;
+        for (String region : ENTITY_REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            hits += regionStatistics.getHitCount();
+            misses += regionStatistics.getMissCount();
+        }
+        return hitRatio(hits, misses);
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String region : ENTITY_REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            regions.put(region, counts(regionStatistics.getHitCount(), regionStatistics.getMissCount(), regionStatistics.getPutCount()));
+        }
+        NaturalIdStatistics naturalIdStatistics = statistics.getNaturalIdStatistics(Account.class.getName());
+        regions.put("account-natural-id", counts(naturalIdStatistics.getCacheHitCount(),
+                naturalIdStatistics.getCacheMissCount(), naturalIdStatistics.getCachePutCount()));
+        for (String region : QUERY_REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getQueryRegionStatistics(region);
+            regions.put(region, counts(regionStatistics.getHitCount(), regionStatistics.getMissCount(), regionStatistics.getPutCount()));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("entityHitRatio", entityHitRatio());
+        result.put("regions", regions);
+        return result;
+    }
+
+    private static Map<String, Object> counts(long hits, long misses, long puts) {
+        Map<String, Object> counts = new LinkedHashMap<>();
+        counts.put("hits", hits);
+        counts.put("misses", misses);
+        counts.put("puts", puts);
+        counts.put("hitRatio", hitRatio(hits, misses));
+        return counts;
+    }
+
+    private static double hitRatio(long hits, long misses) {
+        return hits + misses == 0 ? Double.NaN : (double) hits / (hits + misses);
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.semipermbackend.loadtest;
+
+import com.project.semipermbackend.auth.entity.SocialType;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * 소셜 로그인 스텁 : 애플 JWKS 를 로컬에서 제공하고, 그 키로 서명한 ID 토큰을 발급한다.
+ * 로그인 시나리오가 실제 소셜 API 를 호출하지 않고 ID 토큰 로그인 경로(JWKS 캐시, 서명 검증, 계정 조회, 토큰 발급)를 탄다.
+ */
+public class StubJwksServer implements AutoCloseable {
+    public static final SocialType SOCIAL_TYPE = SocialType.APPLE;
+    private static final String ISSUER = "https://appleid.apple.com";
+    public static final String CLIENT_ID = "semiperm-load-test";
+    private static final String KEY_ID = "load-test-key";
+
+    private final KeyPair keyPair;
+    private final HttpServer server;
+
+    public StubJwksServer() throws IOException, NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        this.keyPair = generator.generateKeyPair();
+
+        byte[] body = jwks().getBytes(StandardCharsets.UTF_8);
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/keys", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    public String getJwksUri() {
+        return "http://localhost:" + server.getAddress().getPort() + "/keys";
+    }
+
+    /**
+     * seed 계정(social_id = "seed-{accountId}") 의 ID 토큰
+     */
+    public String idToken(long accountId) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setHeaderParam("kid", KEY_ID)
+                .setIssuer(ISSUER)
+                .setAudience(CLIENT_ID)
+                .setSubject("seed-" + accountId)
+                .claim("email", "user" + accountId + "@seed.semiperm.com")
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + 600_000))
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private String jwks() {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "{\"keys\":[{\"kty\":\"RSA\",\"alg\":\"RS256\",\"use\":\"sig\",\"kid\":\"" + KEY_ID + "\""
+                + ",\"n\":\"" + encoder.encodeToString(publicKey.getModulus().toByteArray()) + "\""
+                + ",\"e\":\"" + encoder.encodeToString(publicKey.getPublicExponent().toByteArray()) + "\"}]}";
+    }
+}
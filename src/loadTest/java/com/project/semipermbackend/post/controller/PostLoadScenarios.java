@@ -0,0 +1,33 @@
+package com.project.semipermbackend.post.controller;
+
+import com.project.semipermbackend.loadtest.LoadScenario;
+import com.project.semipermbackend.loadtest.LoadScenarioProvider;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * PostController 부하 시나리오 (초당 요청 수는 rate-multiplier 1 기준)
+ */
+public class PostLoadScenarios implements LoadScenarioProvider {
+
+    @Override
+    public List<LoadScenario> scenarios() {
+        return List.of(
+                // 홈 피드 : 회원 관심 시술 기반
+                LoadScenario.of("feed", 40, context -> context.authorized("/community/feed?sorting=" +
+                        (context.random().nextInt(4) == 0 ? "LIKE" : "LATEST")).GET().build()),
+                // 카테고리 목록 (앞쪽 페이지 위주)
+                LoadScenario.of("post-list", 25, context -> context.authorized("/community/post?page=" +
+                        (1 + (int) Math.pow(context.random().nextDouble(), 3) * 20) +
+                        "&surgeryCategory=" + context.randomSurgeryCategory().name()).GET().build()),
+                LoadScenario.of("post-detail", 60, context -> context.authorized("/community/post/" +
+                        context.popularPostId()).GET().build()),
+                LoadScenario.of("post-search", 10, context -> context.authorized("/community/post/search?keyword=" +
+                        URLEncoder.encode(context.randomKeyword(), StandardCharsets.UTF_8)).GET().build()),
+                LoadScenario.of("post-like", 8, context -> context.authorized("/community/post/" +
+                        context.popularPostId() + "/like").GET().build())
+        );
+    }
+}
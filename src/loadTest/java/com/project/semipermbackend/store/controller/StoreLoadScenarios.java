@@ -0,0 +1,27 @@
+package com.project.semipermbackend.store.controller;
+
+import com.project.semipermbackend.loadtest.LoadScenario;
+import com.project.semipermbackend.loadtest.LoadScenarioProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static com.project.semipermbackend.loadtest.LoadTestContext.json;
+
+/**
+ * StoreController 부하 시나리오
+ */
+public class StoreLoadScenarios implements LoadScenarioProvider {
+
+    @Override
+    public List<LoadScenario> scenarios() {
+        return List.of(
+                LoadScenario.of("zzim-create", 4, context -> context.authorized("/store")
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .POST(json("{\"placeId\":\"" + context.popularStoreId() + "\"}"))
+                        .build()),
+                LoadScenario.of("zzim-list", 6, context -> context.authorized("/store").GET().build())
+        );
+    }
+}
@@ -1,10 +1,13 @@
 package com.project.semipermbackend.auth.controller;
 
 import com.project.semipermbackend.auth.dto.AuthResponseDto;
+import com.project.semipermbackend.auth.exception.TokenInvalidException;
 import com.project.semipermbackend.auth.jwt.JwtTokenProvider;
 import com.project.semipermbackend.auth.service.AuthService;
 import com.project.semipermbackend.common.dto.ApiResultDto;
+import com.project.semipermbackend.common.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,11 +17,21 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
     private final AuthService authService;
 
+    /**
+     * Authorization 헤더의 refresh token 으로 토큰 재발급 (refresh token 은 1회만 사용 가능)
+     * "Bearer " 로 시작하지 않는 헤더는 401 (INVALID_REFRESH_TOKEN)
+     */
     @PutMapping("/token-reissue")
-    public ResponseEntity<ApiResultDto<AuthResponseDto.AuthTokens>> reissue() {
+    public ResponseEntity<ApiResultDto<AuthResponseDto.AuthTokens>> reissue(
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
         Long accountId = JwtTokenProvider.getAccountIdFromContext();
+        if (!authorization.startsWith(JwtTokenProvider.TOKEN_PREFIX)
+                || authorization.length() == JwtTokenProvider.TOKEN_PREFIX.length()) {
+            throw new TokenInvalidException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        String refreshToken = authorization.substring(JwtTokenProvider.TOKEN_PREFIX.length());
 
-        AuthResponseDto.AuthTokens reissuedTokens  = authService.reissueTokens(accountId);
+        AuthResponseDto.AuthTokens reissuedTokens  = authService.reissueTokens(accountId, refreshToken);
         return new ResponseEntity<>(ApiResultDto.success(reissuedTokens), HttpStatus.ACCEPTED);
     }
 
@@ -4,18 +4,32 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.http.HttpMethod;
 
+import java.util.List;
+
 @Getter
 @AllArgsConstructor
 public enum SocialType {
 
-    GOOGLE("google", "https://www.googleapis.com/userinfo/v2/me", HttpMethod.GET)
-    , KAKAO ("kakao", "https://kapi.kakao.com/v2/user/me", HttpMethod.GET)
-    , NAVER("naver", "https://openapi.naver.com/v1/nid/me", HttpMethod.GET)
-    , APPLE("apple", "", HttpMethod.GET)
+    // 구글은 iss 를 https 없이 발급하기도 한다. (https://developers.google.com/identity/openid-connect/openid-connect#validatinganidtoken)
+    GOOGLE("google", "https://www.googleapis.com/userinfo/v2/me", HttpMethod.GET,
+            List.of("https://accounts.google.com", "accounts.google.com"), "https://www.googleapis.com/oauth2/v3/certs")
+    , KAKAO ("kakao", "https://kapi.kakao.com/v2/user/me", HttpMethod.GET,
+            List.of("https://kauth.kakao.com"), "https://kauth.kakao.com/.well-known/jwks.json")
+    , NAVER("naver", "https://openapi.naver.com/v1/nid/me", HttpMethod.GET, List.of(), null)
+    , APPLE("apple", "", HttpMethod.GET,
+            List.of("https://appleid.apple.com"), "https://appleid.apple.com/auth/keys")
     ;
 
     private final String socialName;
     private final String UserInfoRequestUrl;
     private final HttpMethod method;
 
+    // OIDC ID 토큰 발급자(iss, 허용하는 값 모두), 서명 공개키 목록(JWKS) 주소. ID 토큰을 지원하지 않으면 비어있음 / null
+    private final List<String> idTokenIssuers;
+    private final String jwksUri;
+
+    public boolean supportsIdToken() {
+        return !idTokenIssuers.isEmpty();
+    }
+
 }
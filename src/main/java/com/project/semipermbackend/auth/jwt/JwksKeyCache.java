@@ -0,0 +1,118 @@
+package com.project.semipermbackend.auth.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 소셜 로그인 ID 토큰 서명 검증용 공개키(JWKS)를 메모리에 캐싱한다.
+ * - kid 로 공개키를 조회하며, 캐시에 없는 kid 가 들어오면 (키 교체 가능성) JWKS 를 다시 조회한다.
+ * - 잘못된 kid 로 인한 과도한 재조회를 막기 위해 재조회 사이에는 최소 간격을 둔다.
+ * - 주기적인 갱신(refresh)은 호출하는 쪽에서 백그라운드로 수행한다.
+ */
+@Slf4j
+public class JwksKeyCache {
+    private static final int CONNECT_TIMEOUT_MILLIS = 2000;
+    private static final int READ_TIMEOUT_MILLIS = 3000;
+
+    private final Supplier<Map<String, Object>> jwksFetcher;
+    private final long minRefetchIntervalNanos;
+    private final Object fetchLock = new Object();
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long lastFetchNanos;
+    private volatile boolean fetchedOnce;
+
+    public JwksKeyCache(Supplier<Map<String, Object>> jwksFetcher, long minRefetchIntervalMillis) {
+        this.jwksFetcher = jwksFetcher;
+        this.minRefetchIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minRefetchIntervalMillis);
+    }
+
+    /**
+     * JWKS 주소로부터 공개키 목록을 조회하는 캐시를 생성한다.
+     */
+    public static JwksKeyCache forUri(String jwksUri, long minRefetchIntervalMillis) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        requestFactory.setReadTimeout(READ_TIMEOUT_MILLIS);
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        ParameterizedTypeReference<Map<String, Object>> responseType = new ParameterizedTypeReference<>() {};
+
+        return new JwksKeyCache(
+                () -> restTemplate.exchange(jwksUri, HttpMethod.GET, null, responseType).getBody(),
+                minRefetchIntervalMillis);
+    }
+
+    /**
+     * kid 에 해당하는 공개키를 반환한다. 없으면 null
+     */
+    public PublicKey getKey(String kid) {
+        PublicKey key = keys.get(kid);
+        if (key != null || kid == null) {
+            return key;
+        }
+        synchronized (fetchLock) {
+            key = keys.get(kid);
+            if (key == null && canRefetch()) {
+                refresh();
+                key = keys.get(kid);
+            }
+        }
+        return key;
+    }
+
+    /**
+     * JWKS 를 다시 조회한다. 조회에 실패하면 기존 키를 그대로 사용한다.
+     */
+    public void refresh() {
+        synchronized (fetchLock) {
+            try {
+                keys = parseKeys(jwksFetcher.get());
+            } catch (Exception e) {
+                log.warn("JWKS 조회에 실패하였습니다. 기존 공개키를 계속 사용합니다. ({})", e.getMessage());
+            } finally {
+                lastFetchNanos = System.nanoTime();
+                fetchedOnce = true;
+            }
+        }
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    private boolean canRefetch() {
+        return !fetchedOnce || System.nanoTime() - lastFetchNanos >= minRefetchIntervalNanos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, PublicKey> parseKeys(Map<String, Object> jwks) throws Exception {
+        if (Objects.isNull(jwks) || !(jwks.get("keys") instanceof List)) {
+            throw new IllegalArgumentException("JWKS 응답 형식이 올바르지 않습니다.");
+        }
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+
+        Map<String, PublicKey> parsedKeys = new HashMap<>();
+        for (Map<String, Object> jwk : (List<Map<String, Object>>) jwks.get("keys")) {
+            // Apple, Google, Kakao 모두 RS256 (RSA) 키만 사용한다.
+            if (!"RSA".equals(jwk.get("kty")) || Objects.isNull(jwk.get("kid"))) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, decoder.decode(jwk.get("n").toString()));
+            BigInteger exponent = new BigInteger(1, decoder.decode(jwk.get("e").toString()));
+            parsedKeys.put(jwk.get("kid").toString(), keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+        }
+        return Collections.unmodifiableMap(parsedKeys);
+    }
+}
@@ -22,6 +22,7 @@ import javax.xml.bind.DatatypeConverter;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 @Slf4j
 @Component
 public class JwtTokenProvider {
@@ -80,6 +81,7 @@ public class JwtTokenProvider {
         String jwt = Jwts.builder()
                 .setHeader(headers)
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())    // jti : 토큰 폐기(TokenRevocationRegistry) 식별자
                 .setExpiration(expireTime)
                 .signWith(secretKey, signatureAlgorithm)
                 .compact();
@@ -88,9 +90,12 @@ public class JwtTokenProvider {
 
     // parseClaimsJwt() : 서명되지 않은 일반 텍스트 JWT 인스턴스를 반환
     // parseClaimsJws() : 결과 Claims JWS 인스턴스를 반환
-    public void validateToken(String jwt) {
+    /**
+     * 검증 후 Claims 반환 (한 번만 파싱하도록 getAuthentication(Claims) 에 그대로 전달)
+     */
+    public Claims validateToken(String jwt) {
         try{
-            getClaims(jwt);
+            return getClaims(jwt);
         } catch (ExpiredJwtException e) {
             log.trace("JWT token is expired : ", e);
             throw new TokenInvalidException(ErrorCode.TOKEN_EXPIRED_ERROR);
@@ -119,13 +124,17 @@ public class JwtTokenProvider {
     /**
      * principal : memberId
      * credential : accountId
+     * details : Claims (로그아웃 시 jti, exp 사용)
      * authorities : null
-     * @param jwt
+     * @param claims validateToken 결과
      */
-    public Authentication getAuthentication(String jwt) {
+    public Authentication getAuthentication(Claims claims) {
 
-        UserDetails userDetails = new User(getMemberIdFromToken(jwt), "", AuthorityUtils.NO_AUTHORITIES);
-        return new UsernamePasswordAuthenticationToken(userDetails, getAccountIdFromToken(jwt), userDetails.getAuthorities());
+        UserDetails userDetails = new User(claims.get("memberId").toString(), "", AuthorityUtils.NO_AUTHORITIES);
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails,
+                claims.get("accountId").toString(), userDetails.getAuthorities());
+        authentication.setDetails(claims);
+        return authentication;
     }
 
     public static Long getMemberIdFromContext() {
@@ -138,12 +147,16 @@ public class JwtTokenProvider {
         return Long.valueOf(accountIdOfCredentials);
     }
 
-    public AuthResponseDto.AuthTokens reissueTokens(Member member, Account account) {
+    public static Claims getClaimsFromContext() {
+        return (Claims) SecurityContextHolder.getContext().getAuthentication().getDetails();
+    }
+
+    /**
+     * access token, refresh token 발급. refresh token 저장은 RefreshTokenStore 에서 한다.
+     */
+    public AuthResponseDto.AuthTokens issueTokens(Member member, Account account) {
         String accessToken = createAccessToken(member, account);
         String refreshToken = createRefreshToken(member, account);
-        AuthResponseDto.AuthTokens responseDto = new AuthResponseDto.AuthTokens(accessToken, refreshToken);
-
-        account.setLoginStatus(refreshToken);
-        return responseDto;
+        return new AuthResponseDto.AuthTokens(accessToken, refreshToken);
     }
 }
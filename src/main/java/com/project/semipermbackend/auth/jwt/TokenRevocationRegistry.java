@@ -0,0 +1,155 @@
+package com.project.semipermbackend.auth.jwt;
+
+import com.project.semipermbackend.common.utils.BloomFilter;
+import com.project.semipermbackend.domain.token.RevokedToken;
+import com.project.semipermbackend.domain.token.RevokedTokenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료 전에 폐기된 access token(jti) 목록. 요청마다 DB 조회 없이 O(1) 로 폐기 여부를 확인한다.
+ * - 토큰 만료 시각(exp) 기준으로 구간(bucket)을 나누고, 구간마다 블룸 필터 + 정확한 jti 집합을 둔다.
+ *   대부분의 (폐기되지 않은) 토큰은 블룸 필터에서 바로 걸러지고, 오탐일 때만 집합을 확인한다.
+ * - 구간의 모든 토큰이 만료되면 구간째로 버리므로 만료된 jti 가 메모리에 쌓이지 않는다.
+ * - 폐기 내역은 revoked_token 테이블에 저장하여, 기동 시 전체 / 이후 주기적으로 다른 인스턴스의 폐기 내역을 반영한다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+    private static final ZoneId ZONE_ID = ZoneId.systemDefault();
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long bucketMillis;
+    private final long expectedRevocationsPerBucket;
+    private final double falsePositiveRate;
+    private final long syncOverlapMillis;
+
+    // key : 구간 번호 (exp / bucketMillis)
+    private final ConcurrentNavigableMap<Long, Bucket> buckets = new ConcurrentSkipListMap<>();
+    private volatile LocalDateTime lastSyncedAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public TokenRevocationRegistry(RevokedTokenRepository revokedTokenRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${auth.revocation.bucket-sec:600}") long bucketSec,
+                                   @Value("${auth.revocation.expected-revocations-per-bucket:10000}") long expectedRevocationsPerBucket,
+                                   @Value("${auth.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                                   @Value("${auth.revocation.sync-interval-ms:5000}") long syncIntervalMillis) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.bucketMillis = TimeUnit.SECONDS.toMillis(bucketSec);
+        this.expectedRevocationsPerBucket = expectedRevocationsPerBucket;
+        this.falsePositiveRate = falsePositiveRate;
+        // 커밋 지연, 서버 간 시간 차이를 고려하여 이전 동기화 시점보다 조금 앞에서부터 다시 읽는다.
+        this.syncOverlapMillis = syncIntervalMillis + TimeUnit.MINUTES.toMillis(1);
+
+        Gauge.builder("auth.revocation.tokens", this, TokenRevocationRegistry::size).register(meterRegistry);
+    }
+
+    /**
+     * 폐기된 토큰인지 확인한다. jti 가 없는 토큰은 폐기 대상이 아니다.
+     */
+    public boolean isRevoked(String jti, Date expiration) {
+        if (Objects.isNull(jti) || Objects.isNull(expiration)) {
+            return false;
+        }
+        Bucket bucket = buckets.get(bucketOf(expiration.getTime()));
+        return bucket != null && bucket.contains(jti);
+    }
+
+    /**
+     * access token 폐기 (만료 시각까지 유효)
+     */
+    public void revoke(String jti, Long accountId, Date expiration) {
+        if (Objects.isNull(jti) || Objects.isNull(expiration) || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        add(jti, expiration.getTime());
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .accountId(accountId)
+                .expiresAt(LocalDateTime.ofInstant(expiration.toInstant(), ZONE_ID))
+                .build());
+    }
+
+    /**
+     * 기동 완료 시 아직 만료되지 않은 폐기 내역을 모두 불러온다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        sync();
+        log.info("폐기된 access token {} 건을 불러왔습니다.", size());
+    }
+
+    /**
+     * 다른 인스턴스에서 폐기한 토큰 반영
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval-ms:5000}",
+            initialDelayString = "${auth.revocation.sync-interval-ms:5000}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime revokedAfter = lastSyncedAt.minusNanos(TimeUnit.MILLISECONDS.toNanos(syncOverlapMillis));
+        for (RevokedToken revokedToken : revokedTokenRepository.findActiveRevokedAfter(revokedAfter, now)) {
+            add(revokedToken.getJti(), revokedToken.getExpiresAt().atZone(ZONE_ID).toInstant().toEpochMilli());
+        }
+        lastSyncedAt = now;
+    }
+
+    /**
+     * 만료된 구간 / 폐기 내역 삭제
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        buckets.headMap(bucketOf(System.currentTimeMillis())).clear();
+        Integer deleted = transactionTemplate.execute(status -> revokedTokenRepository.deleteExpired(LocalDateTime.now()));
+        log.debug("만료된 폐기 토큰 {} 건을 삭제하였습니다.", deleted);
+    }
+
+    public int size() {
+        return buckets.values().stream().mapToInt(bucket -> bucket.jtis.size()).sum();
+    }
+
+    private void add(String jti, long expirationMillis) {
+        if (expirationMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        buckets.computeIfAbsent(bucketOf(expirationMillis), key -> new Bucket()).add(jti);
+    }
+
+    private long bucketOf(long expirationMillis) {
+        return expirationMillis / bucketMillis;
+    }
+
+    private class Bucket {
+        private final BloomFilter bloomFilter = BloomFilter.create(expectedRevocationsPerBucket, falsePositiveRate);
+        private final Set<String> jtis = ConcurrentHashMap.newKeySet();
+
+        private void add(String jti) {
+            // 집합에 먼저 넣어야 블룸 필터 통과 후 집합 조회 시 누락되지 않는다.
+            jtis.add(jti);
+            bloomFilter.put(jti);
+        }
+
+        private boolean contains(String jti) {
+            return bloomFilter.mightContain(jti) && jtis.contains(jti);
+        }
+    }
+}
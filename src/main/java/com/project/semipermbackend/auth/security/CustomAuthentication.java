@@ -19,13 +19,20 @@ public class CustomAuthentication extends AbstractAuthenticationToken {
     @Getter
     private String accessToken;
     @Getter
+    private String idToken;     // OIDC ID 토큰 (있으면 소셜 API 호출 없이 로컬 검증)
+    @Getter
     private SocialType socialType;
 
     private Long memeberId;
 
     public CustomAuthentication(String accessToken, SocialType socialType) {
+        this(accessToken, null, socialType);
+    }
+
+    public CustomAuthentication(String accessToken, String idToken, SocialType socialType) {
         super(null);
         this.accessToken = accessToken;
+        this.idToken = idToken;
         this.socialType = socialType;
         setAuthenticated(false);
     }
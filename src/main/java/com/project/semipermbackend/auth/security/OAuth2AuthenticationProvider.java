@@ -8,6 +8,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 2. OAuth2LoginAuthenticationFilter에서 OAuth2LoginAuthenticationProvider 호출
  * - 화면에서 입력/소셜로부터 전달받은 로그인 정보와 DB에서 가져온 사용자의 정보를 비교해주는 인터페이스
@@ -30,6 +32,19 @@ public class OAuth2AuthenticationProvider implements AuthenticationProvider {
 
         // TODO 사용자 조회 결과가 없을 때 ErrorHandler로 가나??
 
+        return authenticated(customOAuth2UserInfo);
+    }
+
+    /**
+     * authenticate 와 같으나, 소셜 API 응답을 기다리지 않고 인증 객체의 future 를 반환한다.
+     * - OAuth2AccessTokenAuthenticationFilter 의 비동기 로그인에서 사용한다.
+     */
+    public CompletableFuture<Authentication> authenticateAsync(CustomAuthentication authentication) {
+        return oAuth2UserService.getCustomOAuth2UserAsync(authentication)
+                .thenApply(this::authenticated);
+    }
+
+    private Authentication authenticated(CustomOAuth2UserInfo customOAuth2UserInfo) {
         return CustomAuthentication.builder()
                 .principal(customOAuth2UserInfo)
                 .authorities(customOAuth2UserInfo.getAuthorities())   // null..
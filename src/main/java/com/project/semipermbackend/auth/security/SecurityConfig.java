@@ -2,6 +2,7 @@ package com.project.semipermbackend.auth.security;
 
 import com.project.semipermbackend.auth.security.filter.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -27,6 +28,13 @@ public class SecurityConfig {
             "/member"
     };
 
+    private final String[] GET_PERMITTED_URLS = {
+            "/member/nickname/availability",
+            "/codes",
+            "/livez",
+            "/readyz"
+    };
+
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity httpSecurity) throws Exception {
@@ -44,6 +52,9 @@ public class SecurityConfig {
 
                 .authorizeHttpRequests((authz) -> authz
                         .antMatchers(HttpMethod.POST, POST_PERMITTED_URLS).permitAll()
+                        .antMatchers(HttpMethod.GET, GET_PERMITTED_URLS).permitAll()
+                        // 관리용 포트는 127.0.0.1 에만 열려있다. (management.server)
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll()
                         .anyRequest().authenticated()
                 )
 
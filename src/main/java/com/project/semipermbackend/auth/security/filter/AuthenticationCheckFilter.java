@@ -1,6 +1,10 @@
 package com.project.semipermbackend.auth.security.filter;
 
+import com.project.semipermbackend.auth.exception.TokenInvalidException;
 import com.project.semipermbackend.auth.jwt.JwtTokenProvider;
+import com.project.semipermbackend.auth.jwt.TokenRevocationRegistry;
+import com.project.semipermbackend.common.error.ErrorCode;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
@@ -21,12 +25,14 @@ import java.io.IOException;
  * - jwt가 있고 유효할 경우 JWT 내 페이로드를 SecurityContextHolder에 저장한다.
  * - jwt가 없을 경우 다음 필터로 넘긴다.
  * - jwt가 유효하지 않으면 유효하지 않다는 에러를 반환한다. (jwtTokenProvider.validateToken 메서드 참고)
+ * - 로그아웃 등으로 폐기된 jwt 면 에러를 반환한다. (메모리에서 확인, TokenRevocationRegistry 참고)
  */
 @RequiredArgsConstructor
 @Component
 @Slf4j
 public class AuthenticationCheckFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
     /**
      * 헤더의 JWT 추출하여 존재하면 객체 정보 셋팅
      * - Authentication의 principal.getName() : memberId
@@ -39,8 +45,11 @@ public class AuthenticationCheckFilter extends OncePerRequestFilter {
         String jwt = extractToken(request);
         // 토큰에서 인증 정보 추출
         if (StringUtils.hasText(jwt)) { // TODO 여기가 문제 같은데
-            jwtTokenProvider.validateToken(jwt);
-            Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
+            Claims claims = jwtTokenProvider.validateToken(jwt);
+            if (tokenRevocationRegistry.isRevoked(claims.getId(), claims.getExpiration())) {
+                throw new TokenInvalidException(ErrorCode.REVOKED_TOKEN_ERROR);
+            }
+            Authentication authentication = jwtTokenProvider.getAuthentication(claims);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
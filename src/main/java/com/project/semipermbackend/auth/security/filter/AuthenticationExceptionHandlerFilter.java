@@ -7,6 +7,7 @@ import com.project.semipermbackend.auth.exception.NotProperSocialLoginTypeExcept
 import com.project.semipermbackend.auth.exception.TokenInvalidException;
 import com.project.semipermbackend.common.error.ErrorCode;
 import com.project.semipermbackend.common.error.ErrorResultResponseDto;
+import com.project.semipermbackend.common.error.exception.BusinessException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -17,6 +18,7 @@ import javax.servlet.FilterChain;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.concurrent.CompletionException;
 @Slf4j
 @Component
 public class AuthenticationExceptionHandlerFilter extends OncePerRequestFilter {
@@ -32,14 +34,26 @@ public class AuthenticationExceptionHandlerFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)  {
         try {
             filterChain.doFilter(request, response);
-        } catch (NotProperSocialLoginTypeException | TokenInvalidException | LoginDisableException ex) {
-            setErrorResponse(response, ex.getErrorCode(), ex.getMessage());
-
-        } catch (Exception ex) {    // 그외
-            setErrorResponse(response, ErrorCode.ERROR_DURING_FILTER, ex.getMessage());
+        } catch (Exception ex) {
+            writeErrorResponse(response, ex);
         }
     }
 
+    /**
+     * 필터 처리 중 발생한 예외를 에러 응답으로 쓴다.
+     * - 비동기 로그인(OAuth2AccessTokenAuthenticationFilter)은 이 필터 밖에서 끝나므로 직접 호출한다.
+     */
+    public void writeErrorResponse(HttpServletResponse response, Throwable throwable) {
+        Throwable ex = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        if (ex instanceof NotProperSocialLoginTypeException
+                || ex instanceof TokenInvalidException
+                || ex instanceof LoginDisableException) {
+            setErrorResponse(response, ((BusinessException) ex).getErrorCode(), ex.getMessage());
+            return;
+        }
+        // 그외
+        setErrorResponse(response, ErrorCode.ERROR_DURING_FILTER, ex.getMessage());
+    }
 
     private void setErrorResponse(HttpServletResponse response, ErrorCode errorCode, String msg) {
         log.error(errorCode.name() + " : " + msg);
@@ -1,10 +1,13 @@
 package com.project.semipermbackend.auth.security.filter;
 
 import com.project.semipermbackend.auth.entity.SocialType;
+import com.project.semipermbackend.auth.exception.LoginDisableException;
 import com.project.semipermbackend.auth.exception.NotProperSocialLoginTypeException;
 import com.project.semipermbackend.auth.security.CustomAuthentication;
 import com.project.semipermbackend.auth.security.OAuth2AuthenticationProvider;
+import com.project.semipermbackend.common.error.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -14,7 +17,13 @@ import org.springframework.security.web.authentication.AuthenticationSuccessHand
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.stereotype.Component;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
@@ -24,6 +33,7 @@ import java.io.IOException;
  * UsernamePasswordAuthenticationFilter.java 앞에서 수행된다.
  * attemptAuthentication() : AuthenticationManager의 authenticate() 호출하여 인증 진행  -> 여기서는 Provider의 authenticate() 호출.
  * - 이때 인자로, Authentication 구현체인 SocialAccessToken 전달
+ * 소셜 API 응답 대기는 서블릿 비동기로 처리하여 Tomcat 워커 스레드를 점유하지 않는다. (doFilter)
  */
 @Component
 @Slf4j
@@ -31,16 +41,58 @@ public class OAuth2AccessTokenAuthenticationFilter extends AbstractAuthenticatio
     private static final String DEFAULT_OAUTH2_LOGIN_REQUEST_URL_PREFIX = "/oauth2/login/";
     private static final String REQUEST_HTTP_METHOD = "POST";
     private static final String ACCESS_TOKEN_HEADER_NAME = "Authorization";
+    private static final String ID_TOKEN_HEADER_NAME = "X-Id-Token";
     private static final AntPathRequestMatcher DEFAULT_OAUTH2_LOGIN_REQUEST_MATCHER = new AntPathRequestMatcher
             (DEFAULT_OAUTH2_LOGIN_REQUEST_URL_PREFIX + "*", REQUEST_HTTP_METHOD);
 
+    private final OAuth2AuthenticationProvider authenticationProvider;
+    private final AuthenticationExceptionHandlerFilter authenticationExceptionHandler;
+    private final long asyncTimeoutMillis;
+
     public OAuth2AccessTokenAuthenticationFilter(OAuth2AuthenticationProvider OAuth2AuthenticationProvider,
                                                  AuthenticationSuccessHandler authenticationSuccessHandler,
-                                                 AuthenticationFailureHandler authenticationFailureHandler) {
+                                                 AuthenticationFailureHandler authenticationFailureHandler,
+                                                 AuthenticationExceptionHandlerFilter authenticationExceptionHandler,
+                                                 @Value("${social.api.timeout-ms:3000}") long socialApiTimeoutMillis) {
         super(DEFAULT_OAUTH2_LOGIN_REQUEST_MATCHER);
         this.setAuthenticationManager(new ProviderManager(OAuth2AuthenticationProvider));    // 커스텀 Provider를 포함시킨 ProviderManager 세팅
         this.setAuthenticationSuccessHandler(authenticationSuccessHandler);
         this.setAuthenticationFailureHandler(authenticationFailureHandler);
+        this.authenticationProvider = OAuth2AuthenticationProvider;
+        this.authenticationExceptionHandler = authenticationExceptionHandler;
+        // 소셜 API timeout 이 먼저 발생해야 한다. 컨테이너 timeout 은 응답이 유실되지 않도록 하는 안전장치
+        this.asyncTimeoutMillis = socialApiTimeoutMillis * 2;
+    }
+
+    /**
+     * 로그인 요청은 서블릿 비동기로 처리한다.
+     * - 소셜 API 응답을 기다리는 동안 Tomcat 워커 스레드를 반환하고, 응답이 오면 컨테이너 스레드에서 SuccessHandler 를 실행한다.
+     * - 비동기를 지원하지 않는 요청(asyncSupported=false 인 필터를 거친 경우)은 기존처럼 워커 스레드에서 기다린다.
+     */
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest request = (HttpServletRequest) req;
+        HttpServletResponse response = (HttpServletResponse) res;
+        if (!requiresAuthentication(request, response) || !request.isAsyncSupported()) {
+            super.doFilter(request, response, chain);
+            return;
+        }
+
+        CustomAuthentication loginRequest = extractLoginRequest(request);
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(asyncTimeoutMillis);
+        asyncContext.addListener(new LoginTimeoutListener());
+
+        authenticationProvider.authenticateAsync(loginRequest)
+                .whenComplete((authentication, failure) -> {
+                    try {
+                        asyncContext.start(() -> completeLogin(asyncContext, authentication, failure));
+                    } catch (IllegalStateException e) {
+                        // 컨테이너 timeout 으로 이미 응답한 경우
+                        log.warn("로그인 응답이 이미 완료되었습니다. ({})", e.getMessage());
+                    }
+                });
     }
 
     /**
@@ -49,15 +101,62 @@ public class OAuth2AccessTokenAuthenticationFilter extends AbstractAuthenticatio
      */
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException, IOException, ServletException {
+        // AuthenticationManager에게 인증 요청
+        return this.getAuthenticationManager().authenticate(extractLoginRequest(request));    // CustomOAuth2 객체 있어??
+    }
+
+    private CustomAuthentication extractLoginRequest(HttpServletRequest request) {
         // request에서 SocialType 추출
         SocialType socialType = extractSocialTypeFrom(request);
 
         // 소셜 로그인 위한 access token 추출
         String accessToken = request.getHeader(ACCESS_TOKEN_HEADER_NAME);
+        // ID 토큰 로그인 (애플은 필수, 구글/카카오는 선택)
+        String idToken = request.getHeader(ID_TOKEN_HEADER_NAME);
         log.info("소셜 로그인 타입 : {}", socialType.getSocialName());
 
-        // AuthenticationManager에게 인증 요청
-        return this.getAuthenticationManager().authenticate(new CustomAuthentication(accessToken, socialType));    // CustomOAuth2 객체 있어??
+        return new CustomAuthentication(accessToken, idToken, socialType);
+    }
+
+    /**
+     * 인증 결과로 응답을 쓰고 비동기 요청을 끝낸다. (컨테이너 스레드에서 실행)
+     * - 실패는 AuthenticationExceptionHandlerFilter 와 같은 형식으로 응답한다.
+     */
+    private void completeLogin(AsyncContext asyncContext, Authentication authentication, Throwable failure) {
+        HttpServletRequest request = (HttpServletRequest) asyncContext.getRequest();
+        HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+        try {
+            if (failure != null) {
+                authenticationExceptionHandler.writeErrorResponse(response, failure);
+            } else {
+                getSuccessHandler().onAuthenticationSuccess(request, response, authentication);
+            }
+        } catch (Exception e) {
+            authenticationExceptionHandler.writeErrorResponse(response, e);
+        } finally {
+            asyncContext.complete();
+        }
+    }
+
+    private class LoginTimeoutListener implements AsyncListener {
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            authenticationExceptionHandler.writeErrorResponse((HttpServletResponse) event.getSuppliedResponse(),
+                    new LoginDisableException(ErrorCode.SOCIAL_API_TIMEOUT));
+            event.getAsyncContext().complete();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
     }
 
     private SocialType extractSocialTypeFrom(HttpServletRequest request) {
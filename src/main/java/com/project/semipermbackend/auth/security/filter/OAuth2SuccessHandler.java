@@ -3,22 +3,19 @@ package com.project.semipermbackend.auth.security.filter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.semipermbackend.auth.dto.AuthResponseDto;
 import com.project.semipermbackend.auth.entity.CustomOAuth2UserInfo;
-import com.project.semipermbackend.auth.jwt.JwtTokenProvider;
 import com.project.semipermbackend.auth.service.AuthService;
 import com.project.semipermbackend.common.code.FlagYn;
 import com.project.semipermbackend.common.dto.ApiResultDto;
 import com.project.semipermbackend.common.error.ErrorCode;
 import com.project.semipermbackend.common.error.exception.EntityNotFoundException;
 import com.project.semipermbackend.domain.account.Account;
-import com.project.semipermbackend.domain.member.Member;
-import com.project.semipermbackend.member.service.MemberService;
+import com.project.semipermbackend.domain.account.AccountWithMember;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -38,19 +35,16 @@ import java.util.Optional;
 @Component
 @RequiredArgsConstructor
 public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
-    private final MemberService memberService;
     private final AuthService authService;
-    private final JwtTokenProvider jwtTokenProvider;
 
     private final ObjectMapper objectMapper;
 
     @Override
-    @Transactional
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException {
         CustomOAuth2UserInfo principal = (CustomOAuth2UserInfo) authentication.getPrincipal();
 
-        // 0. Account 조회
-        Optional<Account> optionalAccount = authService.getAccount(principal);
+        // 0. Account, Member 조회 (social_id)
+        Optional<AccountWithMember> optionalAccount = authService.getAccountWithMember(principal);
 
         response.setStatus(HttpServletResponse.SC_OK);
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
@@ -78,39 +72,25 @@ public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
             objectMapper.writeValue(response.getWriter(), apiResultDto);
             return;
         }
-        Account account = optionalAccount.get();
+        AccountWithMember accountWithMember = optionalAccount.get();
+        Account account = accountWithMember.getAccount();
         //  1. MemberYn : 회원이면 로그인
-        if (isPresentAndMember(optionalAccount)) {
-            Member member = memberService.getMemberByAccount(account)
-                    .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER, account.getAccountId()));
+        if (FlagYn.YES.equals(account.getMemberYn())) {
+            if (accountWithMember.getOptionalMember().isEmpty()) {
+                throw new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER, account.getAccountId());
+            }
 
-            // memberId, accountId를 세팅
-            String accessToken = jwtTokenProvider.createAccessToken(member, account);
-            String refreshToken = jwtTokenProvider.createRefreshToken(member, account);
-
-            // 로그인
-            account.setLoginStatus(refreshToken);
-            AuthResponseDto.AuthTokens responseDto = new AuthResponseDto.AuthTokens(accessToken, refreshToken);
+            // memberId, accountId를 세팅하여 토큰 발급 후 로그인
+            AuthResponseDto.AuthTokens responseDto = authService.login(accountWithMember);
             ApiResultDto<AuthResponseDto.AuthTokens> apiResult = ApiResultDto.success(responseDto);
 
             objectMapper.writeValue(response.getWriter(), apiResult);
             return;
         }
         //  2. MemberYn : 회원아니면 회원가입 창
-        if (isPresentButNotMember(optionalAccount)) {
-            AuthResponseDto.OAuth2Success resultApiDto = new AuthResponseDto.OAuth2Success(account.getAccountId());
-            ApiResultDto<AuthResponseDto.OAuth2Success> apiResultDto = ApiResultDto.success(resultApiDto);
-            objectMapper.writeValue(response.getWriter(), apiResultDto);
-        }
-
-    }
-
-    private boolean isPresentAndMember(Optional<Account> optionalAccount) {
-        return optionalAccount.isPresent() && FlagYn.YES.equals(optionalAccount.get().getMemberYn());
-    }
-
-    private boolean isPresentButNotMember(Optional<Account> optionalAccount) {
-        return optionalAccount.isPresent() && FlagYn.NO.equals(optionalAccount.get().getMemberYn());
+        AuthResponseDto.OAuth2Success resultApiDto = new AuthResponseDto.OAuth2Success(account.getAccountId());
+        ApiResultDto<AuthResponseDto.OAuth2Success> apiResultDto = ApiResultDto.success(resultApiDto);
+        objectMapper.writeValue(response.getWriter(), apiResultDto);
     }
 
 }
@@ -1,28 +1,60 @@
 package com.project.semipermbackend.auth.service;
 
+import com.project.semipermbackend.auth.entity.AppleOAuth2UserInfo;
 import com.project.semipermbackend.auth.entity.CustomOAuth2UserInfo;
 import com.project.semipermbackend.auth.entity.SocialType;
+import com.project.semipermbackend.auth.exception.LoginDisableException;
+import com.project.semipermbackend.common.error.ErrorCode;
 import com.project.semipermbackend.domain.account.Account;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.springframework.http.HttpEntity;
 import org.springframework.util.MultiValueMap;
 
 import java.util.Map;
-// TODO
+
+/**
+ * 애플은 access token 으로 사용자 정보를 조회하는 API 를 제공하지 않으므로 ID 토큰 로그인만 지원한다.
+ * ID 토큰 ex :
+ * {
+ *   "iss": "https://appleid.apple.com",
+ *   "aud": "${CLIENT_ID}",
+ *   "exp": 1661967972,
+ *   "iat": 1661967952,
+ *   "sub": "${USER_ID}",
+ *   "email": "jordy@privaterelay.appleid.com"
+ * }
+ */
 public class AppleLoadStrategy extends SocialLoadStrategy {
 
+    @Override
+    public CustomOAuth2UserInfo getOAuth2User(String accessToken) {
+        throw new LoginDisableException(ErrorCode.ID_TOKEN_REQUIRED);
+    }
+
     @Override
     public HttpEntity<MultiValueMap<String, String>> prepareRequest(String accessToken) {
-        return null;
+        throw new LoginDisableException(ErrorCode.ID_TOKEN_REQUIRED);
     }
 
     @Override
     protected CustomOAuth2UserInfo sendRequestToSocialApi(HttpEntity<MultiValueMap<String, String>> request) {
-        return null;
+        throw new LoginDisableException(ErrorCode.ID_TOKEN_REQUIRED);
     }
 
     @Override
     protected CustomOAuth2UserInfo makeOAuth2User(Map<String, Object> attributes) {
-        return null;
+        return makeOAuth2UserFromIdToken(Jwts.claims(attributes));
+    }
+
+    @Override
+    public AppleOAuth2UserInfo makeOAuth2UserFromIdToken(Claims claims) {
+        return AppleOAuth2UserInfo.builder()
+                .socialType(SocialType.APPLE)
+                .socialId(claims.getSubject())
+                .email(emailOf(claims))
+                .profileImgUrl("")  // 애플은 프로필 이미지를 제공하지 않는다.
+                .build();
     }
 
     @Override
@@ -31,7 +63,7 @@ public class AppleLoadStrategy extends SocialLoadStrategy {
                 .socialId(oAuth2User.getSocialId())
                 .socialType(SocialType.APPLE)
                 .email(oAuth2User.getEmail())
-                .profileImageUrl(oAuth2User.getProfileImgUrl()) // TODO 전달해주는지 확인 필요
+                .profileImageUrl(oAuth2User.getProfileImgUrl())
                 .build();
     }
 
@@ -2,26 +2,32 @@ package com.project.semipermbackend.auth.service;
 
 import com.project.semipermbackend.auth.dto.AuthResponseDto;
 import com.project.semipermbackend.auth.entity.CustomOAuth2UserInfo;
+import com.project.semipermbackend.auth.exception.TokenInvalidException;
 import com.project.semipermbackend.auth.jwt.JwtTokenProvider;
+import com.project.semipermbackend.auth.token.RefreshTokenStore;
 import com.project.semipermbackend.common.error.ErrorCode;
 import com.project.semipermbackend.common.error.exception.EntityNotFoundException;
 import com.project.semipermbackend.domain.account.Account;
 import com.project.semipermbackend.domain.account.AccountRepository;
-import com.project.semipermbackend.domain.member.Member;
+import com.project.semipermbackend.domain.account.AccountWithMember;
 import com.project.semipermbackend.domain.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final AccountRepository accountRepository;
     private final MemberRepository memberRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final LastLoginRecorder lastLoginRecorder;
 
     @Transactional
     public AuthResponseDto.OAuth2Success createAccount (Account account) {
@@ -30,18 +36,45 @@ public class AuthService {
         return new AuthResponseDto.OAuth2Success(savedAccount.getAccountId());
     }
 
-    public Optional<Account> getAccount(CustomOAuth2UserInfo principal) {
-        return accountRepository.findBySocialTypeAndEmail(principal.getSocialType(), principal.getEmail());
+    /**
+     * social_id 로 계정 + 회원 정보 조회 (2차 캐시에 있으면 쿼리 없이 조회한다.)
+     */
+    @Transactional(readOnly = true)
+    public Optional<AccountWithMember> getAccountWithMember(CustomOAuth2UserInfo principal) {
+        return accountRepository.findBySocialId(principal.getSocialId())
+                .map(account -> new AccountWithMember(account, memberRepository.findByAccount(account).orElse(null)));
     }
 
-    @Transactional
-    public AuthResponseDto.AuthTokens reissueTokens(Long accountId) {
+    /**
+     * 로그인 : 토큰 발급, refresh token 저장, 최종 로그인 일자 기록(write-behind)
+     */
+    public AuthResponseDto.AuthTokens login(AccountWithMember accountWithMember) {
+        Account account = accountWithMember.getAccount();
+        AuthResponseDto.AuthTokens tokens = jwtTokenProvider.issueTokens(accountWithMember.getMember(), account);
+
+        refreshTokenStore.save(account.getAccountId(), tokens.getRefreshToken());
+        lastLoginRecorder.record(account.getAccountId());
+        return tokens;
+    }
+
+    /**
+     * 토큰 재발급 : 요청한 refresh token 이 저장된 토큰과 일치할 때만 새 토큰으로 교체한다.
+     * 이미 교체된(재사용된) refresh token 이면 탈취 가능성이 있으므로 해당 계정의 refresh token 을 폐기한다.
+     */
+    public AuthResponseDto.AuthTokens reissueTokens(Long accountId, String refreshToken) {
         // Account, Member 조회
-        Account account = accountRepository.findByAccountId(accountId)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_ACCOUNT, accountId));
-        Member member = memberRepository.findByAccount(account)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER));
+        AccountWithMember accountWithMember = accountRepository.findWithMemberByAccountId(accountId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER, accountId));
+
+        AuthResponseDto.AuthTokens tokens =
+                jwtTokenProvider.issueTokens(accountWithMember.getMember(), accountWithMember.getAccount());
 
-        return jwtTokenProvider.reissueTokens(member, account);
+        if (!refreshTokenStore.rotate(accountId, refreshToken, tokens.getRefreshToken())) {
+            log.warn("유효하지 않은 refresh token 으로 재발급 요청되었습니다. (accountId : {})", accountId);
+            refreshTokenStore.revoke(accountId);
+            throw new TokenInvalidException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        lastLoginRecorder.record(accountId);
+        return tokens;
     }
 }
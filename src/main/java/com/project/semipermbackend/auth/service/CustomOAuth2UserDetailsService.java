@@ -3,8 +3,12 @@ import com.project.semipermbackend.auth.entity.CustomOAuth2UserInfo;
 import com.project.semipermbackend.auth.entity.SocialType;
 import com.project.semipermbackend.auth.security.CustomAuthentication;
 import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.Claims;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 사용자 정보는 SuccessHandler에서 진행
@@ -14,20 +18,56 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 @Slf4j
 public class CustomOAuth2UserDetailsService {
+    private final SocialApiCallExecutor socialApiCallExecutor;
+    private final SocialUserInfoCache socialUserInfoCache;
+    private final IdTokenVerifier idTokenVerifier;
 
     /**
      * 이용 소셜 로그인에 따라 사용자 정보 호출 api 수행.
+     * - 호출은 소셜 타입별 bulkhead 에서 수행되며, 서킷이 열려있으면 LoginDisableException 으로 즉시 실패한다.
+     * - 같은 access token 으로 짧은 시간 내 재요청하면 캐시된(또는 진행 중인) 조회 결과를 사용한다.
+     * - ID 토큰이 전달되면 소셜 API 호출 없이 캐싱된 공개키로 검증한다.
      */
     public CustomOAuth2UserInfo getCustomOAuth2User(CustomAuthentication authentication) {
-        SocialType socialType = authentication.getSocialType();
-        String accessToken = authentication.getAccessToken();
+        SocialLoadStrategy socialLoadStrategy = SocialLoadStrategy.getSocialLoadStrategy(authentication.getSocialType());
+
+        if (StringUtils.hasText(authentication.getIdToken())) {
+            return loadFromIdToken(authentication, socialLoadStrategy);
+        }
 
-        SocialLoadStrategy socialLoadStrategy = SocialLoadStrategy.getSocialLoadStrategy(socialType);
+        return socialApiCallExecutor.await(loadFromSocialApi(authentication, socialLoadStrategy));
+    }
+
+    /**
+     * getCustomOAuth2User 와 같으나, 소셜 API 응답을 기다리지 않고 future 를 반환한다. (timeout 적용)
+     * - 실패는 예외를 던지지 않고 실패한 future 로 전달한다.
+     */
+    public CompletableFuture<CustomOAuth2UserInfo> getCustomOAuth2UserAsync(CustomAuthentication authentication) {
+        try {
+            SocialLoadStrategy socialLoadStrategy = SocialLoadStrategy.getSocialLoadStrategy(authentication.getSocialType());
 
-        // 사용자 정보 조회 api 호출.
-        CustomOAuth2UserInfo oAuth2User = socialLoadStrategy.getOAuth2User(accessToken);
+            if (StringUtils.hasText(authentication.getIdToken())) {
+                return CompletableFuture.completedFuture(loadFromIdToken(authentication, socialLoadStrategy));
+            }
+
+            return socialApiCallExecutor.withTimeout(loadFromSocialApi(authentication, socialLoadStrategy));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CustomOAuth2UserInfo loadFromIdToken(CustomAuthentication authentication, SocialLoadStrategy socialLoadStrategy) {
+        Claims claims = idTokenVerifier.verify(authentication.getSocialType(), authentication.getIdToken());
+        return socialLoadStrategy.makeOAuth2UserFromIdToken(claims);
+    }
+
+    // 사용자 정보 조회 api 호출.
+    private CompletableFuture<CustomOAuth2UserInfo> loadFromSocialApi(CustomAuthentication authentication, SocialLoadStrategy socialLoadStrategy) {
+        SocialType socialType = authentication.getSocialType();
+        String accessToken = authentication.getAccessToken();
 
-        return oAuth2User;
+        return socialUserInfoCache.get(socialType, accessToken,
+                () -> socialApiCallExecutor.submit(socialType, () -> socialLoadStrategy.getOAuth2User(accessToken)));
     }
 
-}
\ No newline at end of file
+}
@@ -5,6 +5,7 @@ import com.project.semipermbackend.auth.entity.GoogleOAuth2UserInfo;
 import com.project.semipermbackend.auth.entity.SocialType;
 import com.project.semipermbackend.auth.jwt.JwtTokenProvider;
 import com.project.semipermbackend.domain.account.Account;
+import io.jsonwebtoken.Claims;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
@@ -42,6 +43,16 @@ public class GoogleLoadStrategy extends SocialLoadStrategy {
                 .build();
     }
 
+    @Override
+    public GoogleOAuth2UserInfo makeOAuth2UserFromIdToken(Claims claims) {
+        return GoogleOAuth2UserInfo.builder()
+                .socialType(SocialType.GOOGLE)
+                .profileImgUrl(pictureOf(claims))
+                .socialId(claims.getSubject())
+                .email(emailOf(claims))
+                .build();
+    }
+
     @Override
     public Account makeAccount(CustomOAuth2UserInfo oAuth2User) {
         return Account.builder()
@@ -0,0 +1,145 @@
+package com.project.semipermbackend.auth.service;
+
+import com.project.semipermbackend.auth.entity.SocialType;
+import com.project.semipermbackend.auth.exception.LoginDisableException;
+import com.project.semipermbackend.auth.exception.NotProperSocialLoginTypeException;
+import com.project.semipermbackend.auth.jwt.JwksKeyCache;
+import com.project.semipermbackend.common.error.ErrorCode;
+import io.jsonwebtoken.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PreDestroy;
+import java.security.Key;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소셜 로그인 ID 토큰(OIDC)을 소셜 서버 호출 없이 로컬에서 검증한다.
+ * - 서명 : 소셜 타입별 JWKS 공개키 (메모리 캐시, 백그라운드 주기 갱신, 모르는 kid 면 재조회)
+ * - 클레임 : iss(SocialType.idTokenIssuers 중 하나), aud(클라이언트 ID), exp
+ * 설정(social.id-token.audiences.{socialName})에 클라이언트 ID 가 없는 소셜 타입은 ID 토큰 로그인을 사용할 수 없다.
+ */
+@Slf4j
+@Component
+public class IdTokenVerifier {
+    private static final String PROPERTY_PREFIX = "social.id-token.";
+
+    private final Map<SocialType, ProviderVerifier> verifiers = new EnumMap<>(SocialType.class);
+    private final ScheduledExecutorService refresher;
+
+    public IdTokenVerifier(Environment environment) {
+        long refreshIntervalSec = environment.getProperty(PROPERTY_PREFIX + "jwks-refresh-interval-sec", Long.class, 3600L);
+        long minRefetchIntervalSec = environment.getProperty(PROPERTY_PREFIX + "jwks-min-refetch-interval-sec", Long.class, 10L);
+        long clockSkewSec = environment.getProperty(PROPERTY_PREFIX + "clock-skew-sec", Long.class, 60L);
+        boolean prefetchOnStartup = environment.getProperty(PROPERTY_PREFIX + "jwks-prefetch-on-startup", Boolean.class, true);
+
+        for (SocialType socialType : SocialType.values()) {
+            String audiences = environment.getProperty(PROPERTY_PREFIX + "audiences." + socialType.getSocialName());
+            if (!socialType.supportsIdToken() || !StringUtils.hasText(audiences)) {
+                continue;
+            }
+            String jwksUri = environment.getProperty(PROPERTY_PREFIX + "jwks-uri." + socialType.getSocialName(),
+                    socialType.getJwksUri());
+            JwksKeyCache keyCache = JwksKeyCache.forUri(jwksUri, TimeUnit.SECONDS.toMillis(minRefetchIntervalSec));
+            Set<String> allowedAudiences = StringUtils.commaDelimitedListToSet(audiences.replace(" ", ""));
+
+            verifiers.put(socialType, new ProviderVerifier(socialType, keyCache, allowedAudiences, clockSkewSec));
+        }
+
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!verifiers.isEmpty()) {
+            // 첫 로그인 요청이 JWKS 조회를 기다리지 않도록 기본적으로 기동 직후 바로 조회한다.
+            long initialDelaySec = prefetchOnStartup ? 0 : refreshIntervalSec;
+            refresher.scheduleWithFixedDelay(this::refreshAll, initialDelaySec, refreshIntervalSec, TimeUnit.SECONDS);
+        }
+    }
+
+    public boolean supports(SocialType socialType) {
+        return verifiers.containsKey(socialType);
+    }
+
+    /**
+     * ID 토큰을 검증하고 클레임을 반환한다.
+     * @throws LoginDisableException 서명/발급자/대상/만료 검증 실패
+     * @throws NotProperSocialLoginTypeException ID 토큰 로그인을 사용할 수 없는 소셜 타입
+     */
+    public Claims verify(SocialType socialType, String idToken) {
+        ProviderVerifier verifier = verifiers.get(socialType);
+        if (Objects.isNull(verifier)) {
+            throw new NotProperSocialLoginTypeException();
+        }
+        return verifier.verify(idToken);
+    }
+
+    public void refreshAll() {
+        verifiers.values().forEach(verifier -> verifier.keyCache.refresh());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private static class ProviderVerifier {
+        private final SocialType socialType;
+        private final JwksKeyCache keyCache;
+        private final Set<String> allowedAudiences;
+        private final JwtParser parser;
+
+        private ProviderVerifier(SocialType socialType, JwksKeyCache keyCache, Set<String> allowedAudiences,
+                                 long clockSkewSec) {
+            this.socialType = socialType;
+            this.keyCache = keyCache;
+            this.allowedAudiences = allowedAudiences;
+            // JwtParser 는 thread-safe 하므로 소셜 타입별로 하나만 생성하여 재사용한다.
+            this.parser = Jwts.parserBuilder()
+                    .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                        @Override
+                        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                            return resolveKey(header);
+                        }
+                    })
+                    .setAllowedClockSkewSeconds(clockSkewSec)
+                    .build();
+        }
+
+        private Key resolveKey(JwsHeader<?> header) {
+            // 소셜 서버는 RS256 으로만 서명한다. (alg 변조 방지)
+            String algorithm = header.getAlgorithm();
+            if (Objects.isNull(algorithm) || !algorithm.startsWith("RS")) {
+                throw new UnsupportedJwtException("지원하지 않는 서명 알고리즘입니다. : " + algorithm);
+            }
+            Key key = keyCache.getKey(header.getKeyId());
+            if (Objects.isNull(key)) {
+                throw new UnsupportedJwtException("서명 공개키를 찾을 수 없습니다. kid : " + header.getKeyId());
+            }
+            return key;
+        }
+
+        private Claims verify(String idToken) {
+            Claims claims;
+            try {
+                claims = parser.parseClaimsJws(idToken).getBody();
+            } catch (JwtException | IllegalArgumentException e) {
+                log.info("{} ID 토큰 검증 실패 : {}", socialType.getSocialName(), e.getMessage());
+                throw new LoginDisableException(ErrorCode.INVALID_ID_TOKEN);
+            }
+            // 발급자는 소셜 타입별로 여러 값일 수 있으므로 (구글) 직접 확인한다.
+            if (!socialType.getIdTokenIssuers().contains(claims.getIssuer())
+                    || !allowedAudiences.contains(claims.getAudience()) || Objects.isNull(claims.getExpiration())) {
+                log.info("{} ID 토큰 검증 실패 : iss {}, aud {}", socialType.getSocialName(), claims.getIssuer(), claims.getAudience());
+                throw new LoginDisableException(ErrorCode.INVALID_ID_TOKEN);
+            }
+            return claims;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.project.semipermbackend.auth.entity.KakaoOAuth2UserInfo;
 import com.project.semipermbackend.auth.entity.SocialType;
 import com.project.semipermbackend.auth.jwt.JwtTokenProvider;
 import com.project.semipermbackend.domain.account.Account;
+import io.jsonwebtoken.Claims;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
@@ -64,6 +65,19 @@ public class KakaoLoadStrategy extends SocialLoadStrategy {
                 .build();
     }
 
+    /**
+     * 카카오 OIDC ID 토큰 : sub 는 회원번호(사용자 정보 API 의 id)와 같다.
+     */
+    @Override
+    public KakaoOAuth2UserInfo makeOAuth2UserFromIdToken(Claims claims) {
+        return KakaoOAuth2UserInfo.builder()
+                .socialType(SocialType.KAKAO)
+                .socialId(claims.getSubject())
+                .email(emailOf(claims))
+                .profileImgUrl(pictureOf(claims))
+                .build();
+    }
+
     @Override
     public Account makeAccount(CustomOAuth2UserInfo oAuth2User) {
         return Account.builder()
@@ -0,0 +1,78 @@
+package com.project.semipermbackend.auth.service;
+
+import com.project.semipermbackend.domain.account.AccountRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최종 로그인 일자(account.last_login_date)를 로그인 요청마다 바로 update 하지 않고 모아서 반영한다. (write-behind)
+ * - 같은 계정의 여러 번 로그인은 하나로 합쳐진다.
+ * - 주기적으로 날짜별 "update ... where account_id in (...)" 쿼리로 batchSize 만큼씩 반영한다.
+ * - 종료 시 남은 기록을 반영한다. (비정상 종료 시 마지막 주기의 기록은 유실될 수 있다.)
+ */
+@Slf4j
+@Component
+public class LastLoginRecorder {
+    private final AccountRepository accountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Map<Long, LocalDate> pending = new ConcurrentHashMap<>();
+
+    public LastLoginRecorder(AccountRepository accountRepository,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${auth.last-login.batch-size:500}") int batchSize) {
+        this.accountRepository = accountRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        Gauge.builder("auth.last-login.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    public void record(Long accountId) {
+        pending.put(accountId, LocalDate.now());
+    }
+
+    @Scheduled(fixedDelayString = "${auth.last-login.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<LocalDate, List<Long>> accountIdsByDate = new HashMap<>();
+        for (Long accountId : new ArrayList<>(pending.keySet())) {
+            LocalDate loginDate = pending.remove(accountId);
+            if (loginDate != null) {
+                accountIdsByDate.computeIfAbsent(loginDate, date -> new ArrayList<>()).add(accountId);
+            }
+        }
+
+        accountIdsByDate.forEach((loginDate, accountIds) -> {
+            for (int from = 0; from < accountIds.size(); from += batchSize) {
+                List<Long> chunk = accountIds.subList(from, Math.min(from + batchSize, accountIds.size()));
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            accountRepository.updateLastLoginDate(chunk, loginDate));
+                } catch (RuntimeException e) {
+                    // 다음 주기에 다시 시도한다. (그 사이 새로 기록된 날짜가 있으면 그것을 유지)
+                    log.warn("최종 로그인 일자 반영에 실패하였습니다. ({} 건)", chunk.size(), e);
+                    chunk.forEach(accountId -> pending.putIfAbsent(accountId, loginDate));
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
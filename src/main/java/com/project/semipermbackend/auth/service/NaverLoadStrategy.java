@@ -12,7 +12,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.Map;
 import java.util.Objects;
@@ -34,8 +33,6 @@ public class NaverLoadStrategy extends SocialLoadStrategy {
      */
     @Override
     protected NaverOAuth2UserInfo sendRequestToSocialApi (HttpEntity<MultiValueMap<String, String>> request) {
-
-        RestTemplate restTemplate = new RestTemplate();
         ResponseEntity<Map<String, Object>> response = restTemplate.exchange(SocialType.NAVER.getUserInfoRequestUrl(),
                 SocialType.NAVER.getMethod(),
                 request,
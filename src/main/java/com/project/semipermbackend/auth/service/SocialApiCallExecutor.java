@@ -0,0 +1,228 @@
+package com.project.semipermbackend.auth.service;
+
+import com.project.semipermbackend.auth.entity.SocialType;
+import com.project.semipermbackend.auth.exception.LoginDisableException;
+import com.project.semipermbackend.common.error.ErrorCode;
+import com.project.semipermbackend.common.error.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 소셜 API 호출을 Tomcat 워커 스레드와 분리하여 수행한다.
+ * - 소셜 타입마다 전용 스레드풀(bulkhead)을 두어, 특정 소셜 서버가 느려져도 다른 요청이 워커 스레드를 잃지 않는다.
+ * - 소셜 타입마다 서킷 브레이커를 두어, 장애 중인 소셜 서버로의 로그인은 LoginDisableException 으로 즉시 실패시킨다.
+ * - 호출 지연시간(histogram)과 서킷 상태, bulkhead 사용량을 메트릭으로 노출한다.
+ * 로그인 요청(OAuth2AccessTokenAuthenticationFilter)은 withTimeout() 의 future 로 비동기 처리되어,
+ * 소셜 API 응답을 기다리는 동안 Tomcat 워커 스레드를 점유하지 않는다.
+ */
+@Slf4j
+@Component
+public class SocialApiCallExecutor {
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_CLIENT_ERROR = "client_error";
+    private static final String OUTCOME_SLOW = "slow";
+    private static final String OUTCOME_ERROR = "error";
+
+    private final Map<SocialType, ProviderLane> lanes = new EnumMap<>(SocialType.class);
+    private final MeterRegistry meterRegistry;
+    private final long timeoutMillis;
+
+    public SocialApiCallExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${social.api.timeout-ms:3000}") long timeoutMillis,
+            @Value("${social.api.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+            @Value("${social.api.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${social.api.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${social.api.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${social.api.circuit-breaker.open-duration-ms:30000}") long openDurationMillis) {
+        this.meterRegistry = meterRegistry;
+        this.timeoutMillis = timeoutMillis;
+
+        for (SocialType socialType : SocialType.values()) {
+            SocialApiCircuitBreaker circuitBreaker =
+                    new SocialApiCircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openDurationMillis);
+            lanes.put(socialType, new ProviderLane(socialType, maxConcurrentCalls, circuitBreaker));
+        }
+    }
+
+    /**
+     * 소셜 API 호출을 해당 소셜 타입의 bulkhead 에 제출한다.
+     * 서킷이 열려있거나 bulkhead 가 가득 찬 경우 실패한 future 를 즉시 반환한다.
+     */
+    public <T> CompletableFuture<T> submit(SocialType socialType, Supplier<T> socialApiCall) {
+        ProviderLane lane = lanes.get(socialType);
+
+        if (!lane.circuitBreaker.tryAcquirePermission()) {
+            lane.circuitOpenRejections.increment();
+            return CompletableFuture.failedFuture(new LoginDisableException(ErrorCode.SOCIAL_API_CIRCUIT_OPEN));
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> lane.invoke(socialApiCall), lane.executor);
+        } catch (RejectedExecutionException e) {
+            lane.circuitBreaker.releasePermission();
+            lane.bulkheadRejections.increment();
+            return CompletableFuture.failedFuture(new LoginDisableException(ErrorCode.SOCIAL_API_BULKHEAD_FULL));
+        }
+    }
+
+    /**
+     * 소셜 API 호출 결과를 최대 timeout 만큼만 기다린다.
+     * 호출한 스레드가 결과를 받을 때까지 대기하므로, 로그인 요청은 withTimeout() 으로 워커 스레드를 반환한다.
+     */
+    public <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            throw toLoginException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LoginDisableException(ErrorCode.SOCIAL_API_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * 대기하지 않고 timeout 과 예외 변환(await 와 같은 규칙)을 적용한 future 를 반환한다.
+     * 여러 요청이 공유하는 future(SocialUserInfoCache)에는 timeout 을 걸지 않도록 복사본에 적용한다.
+     */
+    public <T> CompletableFuture<T> withTimeout(CompletableFuture<T> future) {
+        return future.copy()
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .handle((result, failure) -> {
+                    if (failure != null) {
+                        throw toLoginException(failure);
+                    }
+                    return result;
+                });
+    }
+
+    private RuntimeException toLoginException(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof TimeoutException) {
+            return new LoginDisableException(ErrorCode.SOCIAL_API_TIMEOUT);
+        }
+        if (cause instanceof BusinessException) {
+            return (BusinessException) cause;
+        }
+        log.warn("소셜 API 호출 중 예외가 발생하였습니다.", cause);
+        return new LoginDisableException(ErrorCode.SOCIAL_API_UNAVAILABLE);
+    }
+
+    public <T> T call(SocialType socialType, Supplier<T> socialApiCall) {
+        return await(submit(socialType, socialApiCall));
+    }
+
+    public SocialApiCircuitBreaker.State getCircuitState(SocialType socialType) {
+        return lanes.get(socialType).circuitBreaker.getState();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.values().forEach(lane -> lane.executor.shutdownNow());
+    }
+
+    private class ProviderLane {
+        private final ThreadPoolExecutor executor;
+        private final SocialApiCircuitBreaker circuitBreaker;
+        private final Counter circuitOpenRejections;
+        private final Counter bulkheadRejections;
+        // 호출 결과(outcome)별 지연시간. 호출마다 registry 를 조회하지 않도록 미리 등록한다.
+        private final Map<String, Timer> callTimers = new HashMap<>();
+
+        private ProviderLane(SocialType socialType, int maxConcurrentCalls, SocialApiCircuitBreaker circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            // 대기 큐 없이 maxConcurrentCalls 까지만 동시 호출 허용 (초과 시 RejectedExecutionException)
+            this.executor = new ThreadPoolExecutor(maxConcurrentCalls, maxConcurrentCalls,
+                    60L, TimeUnit.SECONDS, new SynchronousQueue<>(), new LaneThreadFactory(socialType));
+            this.executor.allowCoreThreadTimeOut(true);
+
+            String socialName = socialType.getSocialName();
+            this.circuitOpenRejections = Counter.builder("social.api.rejections")
+                    .tag("socialType", socialName)
+                    .tag("reason", "circuit_open")
+                    .register(meterRegistry);
+            this.bulkheadRejections = Counter.builder("social.api.rejections")
+                    .tag("socialType", socialName)
+                    .tag("reason", "bulkhead_full")
+                    .register(meterRegistry);
+            Gauge.builder("social.api.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+                    .description("0 : CLOSED, 1 : OPEN, 2 : HALF_OPEN")
+                    .tag("socialType", socialName)
+                    .register(meterRegistry);
+            Gauge.builder("social.api.bulkhead.active", executor, ThreadPoolExecutor::getActiveCount)
+                    .tag("socialType", socialName)
+                    .register(meterRegistry);
+            for (String outcome : List.of(OUTCOME_SUCCESS, OUTCOME_CLIENT_ERROR, OUTCOME_SLOW, OUTCOME_ERROR)) {
+                callTimers.put(outcome, Timer.builder("social.api.calls")
+                        .tag("socialType", socialName)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+            }
+        }
+
+        private <T> T invoke(Supplier<T> socialApiCall) {
+            long startNanos = System.nanoTime();
+            String outcome = OUTCOME_SUCCESS;
+            try {
+                T result = socialApiCall.get();
+                // 호출자가 이미 timeout 으로 포기한 느린 응답은 실패로 기록한다.
+                if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) > timeoutMillis) {
+                    outcome = OUTCOME_SLOW;
+                    circuitBreaker.onFailure();
+                } else {
+                    circuitBreaker.onSuccess();
+                }
+                return result;
+            } catch (LoginDisableException e) {
+                if (ErrorCode.SOCIAL_API_UNAVAILABLE.equals(e.getErrorCode())) {
+                    outcome = OUTCOME_ERROR;
+                    circuitBreaker.onFailure();
+                } else {
+                    // 소셜 서버는 정상 응답함 (유효하지 않은 access token 등)
+                    outcome = OUTCOME_CLIENT_ERROR;
+                    circuitBreaker.onSuccess();
+                }
+                throw e;
+            } catch (RuntimeException e) {
+                outcome = OUTCOME_ERROR;
+                circuitBreaker.onFailure();
+                throw e;
+            } finally {
+                callTimers.get(outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private static class LaneThreadFactory implements ThreadFactory {
+        private final String namePrefix;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        private LaneThreadFactory(SocialType socialType) {
+            this.namePrefix = "social-api-" + socialType.getSocialName() + "-";
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, namePrefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.project.semipermbackend.auth.service;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 소셜 API 호출용 서킷 브레이커. (소셜 타입마다 하나씩 사용)
+ * - CLOSED : 최근 windowSize 건의 호출 결과를 기록하고, 실패율이 임계치 이상이면 OPEN 으로 전환한다.
+ * - OPEN : openDuration 동안 소셜 API 호출 없이 즉시 실패시킨다.
+ * - HALF_OPEN : openDuration 경과 후 시험 호출 1건만 허용하여 그 결과로 CLOSED/OPEN 을 결정한다.
+ */
+public class SocialApiCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    // 슬라이딩 윈도우 (true : 실패)
+    private final boolean[] outcomes;
+    private int nextIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private boolean trialCallInFlight;
+
+    public SocialApiCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openDurationMillis) {
+        this(windowSize, minimumCalls, failureRateThreshold, openDurationMillis, System::nanoTime);
+    }
+
+    SocialApiCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openDurationMillis,
+                            LongSupplier nanoClock) {
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationMillis * 1_000_000L;
+        this.nanoClock = nanoClock;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 가능 여부를 반환한다. true 를 받은 호출자는 반드시 onSuccess/onFailure 중 하나를 호출해야 한다.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialCallInFlight = false;
+        }
+        // HALF_OPEN : 시험 호출 1건만 허용
+        if (trialCallInFlight) {
+            return false;
+        }
+        trialCallInFlight = true;
+        return true;
+    }
+
+    /**
+     * 권한을 받았지만 소셜 API 를 호출하지 못한 경우 (ex. bulkhead 초과) 권한을 반납한다.
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            trialCallInFlight = false;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            transitionToClosed();
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionToOpen();
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (recordedCalls >= minimumCalls && (double) failedCalls / recordedCalls >= failureRateThreshold) {
+                transitionToOpen();
+            }
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == windowSize) {
+            // 가장 오래된 결과를 밀어낸다.
+            if (outcomes[nextIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[nextIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        nextIndex = (nextIndex + 1) % windowSize;
+    }
+
+    private void transitionToOpen() {
+        state = State.OPEN;
+        openedAtNanos = nanoClock.getAsLong();
+        trialCallInFlight = false;
+    }
+
+    private void transitionToClosed() {
+        state = State.CLOSED;
+        trialCallInFlight = false;
+        recordedCalls = 0;
+        failedCalls = 0;
+        nextIndex = 0;
+    }
+}
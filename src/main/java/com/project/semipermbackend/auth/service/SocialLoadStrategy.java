@@ -3,13 +3,19 @@ package com.project.semipermbackend.auth.service;
 import com.project.semipermbackend.auth.entity.CustomOAuth2UserInfo;
 import com.project.semipermbackend.auth.entity.SocialType;
 import com.project.semipermbackend.auth.exception.LoginDisableException;
+import com.project.semipermbackend.auth.exception.NotProperSocialLoginTypeException;
 import com.project.semipermbackend.common.error.ErrorCode;
 import com.project.semipermbackend.domain.account.Account;
+import io.jsonwebtoken.Claims;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -18,22 +24,31 @@ import java.util.Objects;
  *
  */
 public abstract class SocialLoadStrategy {
+    private static final int CONNECT_TIMEOUT_MILLIS = 2000;
+    private static final int READ_TIMEOUT_MILLIS = 3000;
+
+    // 상태가 없으므로 소셜 타입별로 하나의 인스턴스(및 RestTemplate)를 재사용한다.
+    private static final Map<SocialType, SocialLoadStrategy> STRATEGIES = new EnumMap<>(SocialType.class);
+
+    static {
+        STRATEGIES.put(SocialType.APPLE, new AppleLoadStrategy());
+        STRATEGIES.put(SocialType.NAVER, new NaverLoadStrategy());
+        STRATEGIES.put(SocialType.KAKAO, new KakaoLoadStrategy());
+        STRATEGIES.put(SocialType.GOOGLE, new GoogleLoadStrategy());
+    }
+
     ParameterizedTypeReference<Map<String, Object>> responseType = new ParameterizedTypeReference<>() {};
-    protected final RestTemplate restTemplate = new RestTemplate();
+    protected final RestTemplate restTemplate = createRestTemplate();
 
     public static SocialLoadStrategy getSocialLoadStrategy(SocialType socialType) {
-        SocialLoadStrategy socialLoadStrategy = null;
-        switch(socialType) {
-            case APPLE:
-                socialLoadStrategy = new AppleLoadStrategy();
-                break;
-            case NAVER: socialLoadStrategy = new NaverLoadStrategy();
-                break;
-            case KAKAO: socialLoadStrategy = new KakaoLoadStrategy();
-                break;
-            case GOOGLE: socialLoadStrategy = new GoogleLoadStrategy();
-        }
-        return socialLoadStrategy;
+        return STRATEGIES.get(socialType);
+    }
+
+    private static RestTemplate createRestTemplate() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        requestFactory.setReadTimeout(READ_TIMEOUT_MILLIS);
+        return new RestTemplate(requestFactory);
     }
 
     /**
@@ -45,6 +60,14 @@ public abstract class SocialLoadStrategy {
         CustomOAuth2UserInfo socialUserInfoResponse = null;
         try {
             socialUserInfoResponse = sendRequestToSocialApi(request);
+        } catch (LoginDisableException e) {
+            throw e;
+        } catch (HttpClientErrorException e) {
+            // 소셜 서버는 정상이나 access token 이 유효하지 않은 경우
+            throw new LoginDisableException();
+        } catch (RestClientException e) {
+            // 연결 실패, 응답 지연, 5xx 등 소셜 서버 장애 (서킷 브레이커 실패로 집계됨)
+            throw new LoginDisableException(ErrorCode.SOCIAL_API_UNAVAILABLE);
         } catch (Exception e) {
             throw new LoginDisableException();
         }
@@ -56,6 +79,29 @@ public abstract class SocialLoadStrategy {
         return socialUserInfoResponse;
     }
 
+    /**
+     * 검증이 끝난 ID 토큰(OIDC)의 클레임으로 사용자 정보 생성 (IdTokenVerifier 참고)
+     * - ID 토큰을 지원하지 않는 소셜 타입은 사용할 수 없다.
+     * @param claims sub, email 등 ID 토큰 페이로드
+     */
+    public CustomOAuth2UserInfo makeOAuth2UserFromIdToken(Claims claims) {
+        throw new NotProperSocialLoginTypeException();
+    }
+
+    /**
+     * ID 토큰의 이메일. 이메일 제공에 동의하지 않으면(카카오, 애플) 클레임이 없으므로 빈 문자열로 저장한다.
+     * (계정은 소셜 타입 + social_id 로 구분하므로 이메일이 없어도 로그인할 수 있다.)
+     */
+    protected static String emailOf(Claims claims) {
+        String email = claims.get("email", String.class);
+        return Objects.isNull(email) ? "" : email;
+    }
+
+    protected static String pictureOf(Claims claims) {
+        String picture = claims.get("picture", String.class);
+        return Objects.isNull(picture) ? "" : picture;
+    }
+
     public abstract HttpEntity<MultiValueMap<String, String>> prepareRequest(String accessToken);
 
     protected abstract CustomOAuth2UserInfo sendRequestToSocialApi(HttpEntity<MultiValueMap<String, String>> request);
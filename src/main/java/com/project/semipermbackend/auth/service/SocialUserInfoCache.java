@@ -0,0 +1,60 @@
+package com.project.semipermbackend.auth.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.semipermbackend.auth.entity.CustomOAuth2UserInfo;
+import com.project.semipermbackend.auth.entity.SocialType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 소셜 access token -> 사용자 정보 조회 결과를 짧은 시간 동안 캐싱한다.
+ * - 키 : (소셜 타입, access token) 의 SHA-256 해시 (토큰 원문은 메모리에 보관하지 않는다.)
+ * - 동일 토큰으로 동시에 들어온 로그인은 하나의 소셜 API 호출 결과를 함께 기다린다. (single-flight)
+ * - 실패한 호출은 캐싱되지 않는다.
+ */
+@Component
+public class SocialUserInfoCache {
+    private static final String CACHE_NAME = "socialUserInfo";
+
+    private final AsyncCache<String, CustomOAuth2UserInfo> cache;
+
+    public SocialUserInfoCache(MeterRegistry meterRegistry,
+                               @Value("${social.user-info-cache.ttl-sec:30}") long ttlSec,
+                               @Value("${social.user-info-cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSec))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 사용자 정보를 반환한다. 없으면 loader 로 소셜 API 를 호출하고, 진행 중인 호출이 있으면 그 결과를 공유한다.
+     */
+    public CompletableFuture<CustomOAuth2UserInfo> get(SocialType socialType, String accessToken,
+                                                       Supplier<CompletableFuture<CustomOAuth2UserInfo>> loader) {
+        return cache.get(cacheKey(socialType, accessToken), (key, executor) -> loader.get());
+    }
+
+    private String cacheKey(SocialType socialType, String accessToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest((socialType.name() + ":" + accessToken).getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
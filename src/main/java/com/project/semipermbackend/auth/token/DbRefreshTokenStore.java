@@ -0,0 +1,38 @@
+package com.project.semipermbackend.auth.token;
+
+import com.project.semipermbackend.domain.account.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * account.refresh_token 컬럼에 해시를 저장한다. (기본값)
+ * 해시 저장 이전에 평문으로 저장된 refresh token 은 일치하지 않으므로 재발급에 실패한다. (다시 로그인 필요)
+ * 교체는 "저장된 해시가 일치할 때만 update" 하는 단일 쿼리로 수행하므로 동시 재발급 요청 중 하나만 성공한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "db", matchIfMissing = true)
+public class DbRefreshTokenStore implements RefreshTokenStore {
+    private final AccountRepository accountRepository;
+
+    @Override
+    @Transactional
+    public void save(Long accountId, String refreshToken) {
+        accountRepository.updateRefreshToken(accountId, RefreshTokenStore.hash(refreshToken));
+    }
+
+    @Override
+    @Transactional
+    public boolean rotate(Long accountId, String presentedToken, String newToken) {
+        return accountRepository.compareAndSetRefreshToken(accountId,
+                RefreshTokenStore.hash(presentedToken), RefreshTokenStore.hash(newToken)) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void revoke(Long accountId) {
+        accountRepository.updateRefreshToken(accountId, null);
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.semipermbackend.auth.token;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 애플리케이션 메모리에 해시를 저장한다. (auth.refresh-token.store=memory)
+ * 단일 인스턴스 / 테스트 환경용이며, 재시작하면 모든 refresh token 이 무효화된다.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+    private final Map<Long, String> tokenHashes = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(Long accountId, String refreshToken) {
+        tokenHashes.put(accountId, RefreshTokenStore.hash(refreshToken));
+    }
+
+    @Override
+    public boolean rotate(Long accountId, String presentedToken, String newToken) {
+        return tokenHashes.replace(accountId, RefreshTokenStore.hash(presentedToken), RefreshTokenStore.hash(newToken));
+    }
+
+    @Override
+    public void revoke(Long accountId) {
+        tokenHashes.remove(accountId);
+    }
+}
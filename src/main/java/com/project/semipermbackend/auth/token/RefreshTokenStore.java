@@ -0,0 +1,40 @@
+package com.project.semipermbackend.auth.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 계정별 refresh token 저장소.
+ * - 토큰 원문은 저장하지 않고 SHA-256 해시만 보관한다.
+ * - 계정당 유효한 refresh token 은 하나이며, 재발급 시 이전 토큰과 일치할 때만 새 토큰으로 교체(rotate)한다.
+ * 구현체는 auth.refresh-token.store 설정(db, memory)으로 선택한다.
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 로그인 시 새 refresh token 저장 (기존 토큰은 폐기)
+     */
+    void save(Long accountId, String refreshToken);
+
+    /**
+     * 저장된 토큰이 presentedToken 과 같을 때만 newToken 으로 교체한다.
+     * @return 교체 성공 여부 (이미 사용된 토큰이거나 로그아웃된 경우 false)
+     */
+    boolean rotate(Long accountId, String presentedToken, String newToken);
+
+    /**
+     * 로그아웃 등으로 refresh token 폐기
+     */
+    void revoke(Long accountId);
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
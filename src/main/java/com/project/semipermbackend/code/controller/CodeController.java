@@ -0,0 +1,68 @@
+package com.project.semipermbackend.code.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.semipermbackend.code.dto.CodeDto;
+import com.project.semipermbackend.common.code.EnumMapper;
+import com.project.semipermbackend.common.code.EnumMapperType;
+import com.project.semipermbackend.common.code.Gender;
+import com.project.semipermbackend.common.dto.ApiResultDto;
+import com.project.semipermbackend.domain.code.MemberNeeds;
+import com.project.semipermbackend.domain.code.PostCategory;
+import com.project.semipermbackend.domain.code.PostSorting;
+import com.project.semipermbackend.domain.code.ReviewCategory;
+import com.project.semipermbackend.domain.code.SurgeryCategory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 화면에서 사용하는 코드(카테고리, 정렬 등) 목록
+ * 코드는 배포 시에만 바뀌므로 기동 시 한 번 직렬화한 응답을 그대로 내려주고, 클라이언트는 ETag 로 재검증한다.
+ */
+@RequestMapping("/codes")
+@RestController
+public class CodeController {
+    private final byte[] body;
+    private final String eTag;
+
+    public CodeController(ObjectMapper objectMapper) throws JsonProcessingException {
+        Map<String, List<CodeDto>> codes = new LinkedHashMap<>();
+        codes.put("postCategory", codes(PostCategory.class));
+        codes.put("surgeryCategory", codes(SurgeryCategory.class));
+        codes.put("postSorting", codes(PostSorting.class));
+        codes.put("reviewCategory", codes(ReviewCategory.class));
+        codes.put("gender", codes(Gender.class));
+        codes.put("memberNeeds", EnumMapper.of(MemberNeeds.class).getConstants().stream()
+                .map(needs -> new CodeDto(needs.name(), needs.getMessage()))
+                .collect(Collectors.toList()));
+
+        this.body = objectMapper.writeValueAsBytes(ApiResultDto.success(codes));
+        this.eTag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    @GetMapping
+    public ResponseEntity<byte[]> codes() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic())
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private static <E extends Enum<E> & EnumMapperType> List<CodeDto> codes(Class<E> type) {
+        return EnumMapper.of(type).getConstants().stream()
+                .map(CodeDto::from)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,16 @@
+package com.project.semipermbackend.code.dto;
+
+import com.project.semipermbackend.common.code.EnumMapperType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CodeDto {
+    private String code;
+    private String title;
+
+    public static CodeDto from(EnumMapperType type) {
+        return new CodeDto(type.getCode(), type.getTitle());
+    }
+}
@@ -7,9 +7,8 @@ import com.project.semipermbackend.comment.dto.CommentUpdateDto;
 import com.project.semipermbackend.comment.service.CommentService;
 import com.project.semipermbackend.common.dto.ApiResultDto;
 import com.project.semipermbackend.common.dto.Pagination;
-import com.project.semipermbackend.common.utils.PaginationUtil;
+import com.project.semipermbackend.common.pagination.TotalCountMode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -54,12 +53,13 @@ public class CommentController {
     @GetMapping("/my-comments")
     public ResponseEntity<ApiResultDto<Pagination<CommentFindDto.Response>>> getMyComments(
             @RequestParam(name = "page", defaultValue = "1", required = false) Integer page,
-            @RequestParam(name = "perSize", defaultValue = "10", required = false) Integer perSize) {
+            @RequestParam(name = "perSize", defaultValue = "10", required = false) Integer perSize,
+            @RequestParam(name = "totalCount", defaultValue = "EXACT", required = false) TotalCountMode countMode) {
 
         Long memberId = JwtTokenProvider.getMemberIdFromContext();
 
-        Page<CommentFindDto.Response> pageMyComments = commentService.findMyComments(page-1, perSize, memberId);
-        return new ResponseEntity<>(ApiResultDto.success(PaginationUtil.pageToPagination(pageMyComments)), HttpStatus.FOUND);
+        Pagination<CommentFindDto.Response> myComments = commentService.findMyComments(page-1, perSize, memberId, countMode);
+        return new ResponseEntity<>(ApiResultDto.success(myComments), HttpStatus.FOUND);
     }
 
     // 삭제
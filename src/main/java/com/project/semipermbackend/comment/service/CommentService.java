@@ -4,18 +4,21 @@ import com.project.semipermbackend.auth.jwt.JwtTokenProvider;
 import com.project.semipermbackend.comment.dto.CommentCreationDto;
 import com.project.semipermbackend.comment.dto.CommentFindDto;
 import com.project.semipermbackend.comment.dto.CommentUpdateDto;
+import com.project.semipermbackend.common.dto.Pagination;
 import com.project.semipermbackend.common.error.ErrorCode;
 import com.project.semipermbackend.common.error.exception.EntityNotFoundException;
 import com.project.semipermbackend.common.error.exception.InappropriatePermissionException;
+import com.project.semipermbackend.common.pagination.ApproximateCountCache;
+import com.project.semipermbackend.common.pagination.TotalCountMode;
+import com.project.semipermbackend.common.utils.PaginationUtil;
 import com.project.semipermbackend.domain.comment.Comment;
 import com.project.semipermbackend.domain.comment.CommentGroupNoMapping;
 import com.project.semipermbackend.domain.comment.CommentRepository;
 import com.project.semipermbackend.domain.member.Member;
 import com.project.semipermbackend.domain.post.Post;
 import com.project.semipermbackend.domain.post.PostRepository;
-import com.project.semipermbackend.member.service.MemberService;
+import com.project.semipermbackend.member.service.MemberContext;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -28,12 +31,13 @@ import java.util.Objects;
 public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
-    private final MemberService memberService;
+    private final MemberContext memberContext;
+    private final ApproximateCountCache approximateCountCache;
+
     @Transactional
     public CommentCreationDto.Response create(Long memberId, Long postId, CommentCreationDto.Request commentCreation) {
-        // 1. 회원 조회
-        Member member = memberService.getMemberByMemberId(memberId)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER));
+        // 1. 작성자 (FK 로만 사용하므로 조회하지 않는다.)
+        Member member = memberContext.getReference(memberId);
 
         // 2. 게시글 조회
         Post post = postRepository.findByPostId(postId)
@@ -69,13 +73,19 @@ public class CommentService {
     /**
      * 게시글 상세 조회 시에만 호출된다.
      */
-    public Page<CommentFindDto.Response> getComments(int page,
-                                                     int pagePerSize,
-                                                     Post post) {
+    @Transactional(readOnly = true)
+    public Pagination<CommentFindDto.Response> getComments(int page,
+                                                           int pagePerSize,
+                                                           Post post,
+                                                           TotalCountMode countMode) {
         Pageable pageable = PageRequest.of(page, pagePerSize);
+        Long postId = post.getPostId();
 
-        return commentRepository.findAllByPostOrderByGroupNoAscCreatedDateAsc(pageable, post)
-                .map(CommentFindDto.Response::from);
+        return PaginationUtil.paginate(countMode,
+                () -> commentRepository.findAllByPostOrderByGroupNoAscCreatedDateAsc(pageable, post),
+                () -> commentRepository.findSliceByPostOrderByGroupNoAscCreatedDateAsc(pageable, post),
+                () -> approximateCountCache.get("comment:post:" + postId, () -> commentRepository.countByPostPostId(postId)),
+                CommentFindDto.Response::from);
     }
 
     @Transactional
@@ -90,27 +100,28 @@ public class CommentService {
     /**
      * 내가 쓴 댓글 조회
      */
-    public Page<CommentFindDto.Response> findMyComments(int page, int perSize, Long memberId) {
-        Member member = memberService.getMemberByMemberId(memberId)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_COMMENT));
+    @Transactional(readOnly = true)
+    public Pagination<CommentFindDto.Response> findMyComments(int page, int perSize, Long memberId, TotalCountMode countMode) {
+        Member member = memberContext.getReference(memberId);
 
         Pageable pageable = PageRequest.of(page, perSize);
 
-        return commentRepository.findAllByMember(pageable, member)
-                .map(CommentFindDto.Response::forMyPage);
+        return PaginationUtil.paginate(countMode,
+                () -> commentRepository.findAllByMember(pageable, member),
+                () -> commentRepository.findSliceByMember(pageable, member),
+                () -> approximateCountCache.get("comment:member:" + memberId, () -> commentRepository.countByMemberMemberId(memberId)),
+                CommentFindDto.Response::forMyPage);
     }
 
     // 수정
     @Transactional
     public void updateOne(Long commentId, CommentUpdateDto.Request requestDto) {
         Long memberId = JwtTokenProvider.getMemberIdFromContext();
-        Member loginedUser = memberService.getMemberByMemberId(memberId)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER));
 
         Comment comment = commentRepository.findByCommentId(commentId)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_COMMENT, commentId));
 
-        if (!loginedUser.getMemberId().equals(comment.getMember().getMemberId())) {
+        if (!memberContext.isOwner(memberId, comment.getMember())) {
             throw new InappropriatePermissionException();
         }
         comment.update(requestDto);
@@ -119,8 +130,7 @@ public class CommentService {
     @Transactional
     public void deleteOne(Long commentId) {
         Long memberId = JwtTokenProvider.getMemberIdFromContext();
-        Member member = memberService.getMemberByMemberId(memberId)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER));
+        Member member = memberContext.getReference(memberId);
 
         Comment comment = commentRepository.findByCommentIdAndMember(commentId, member)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_COMMENT, commentId));
@@ -0,0 +1,16 @@
+package com.project.semipermbackend.common;
+
+import com.project.semipermbackend.common.code.EnumMapperConverterFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        // 코드 enum 요청 파라미터 변환
+        registry.addConverterFactory(new EnumMapperConverterFactory());
+    }
+}
@@ -0,0 +1,90 @@
+package com.project.semipermbackend.common.code;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 코드 enum 조회 테이블. 상수 이름(code) / title 로 O(1) 조회한다.
+ * - enum 타입별로 한 번만 만들어 재사용한다. (EnumMapper.of)
+ * - title 은 EnumMapperType 을 구현한 enum 만 조회할 수 있다.
+ * - AttributeConverter(EnumTitleConverter), 요청 파라미터 변환(EnumMapperConverterFactory), @JsonCreator 에서 사용한다.
+ */
+public final class EnumMapper<E extends Enum<E>> {
+    private static final ClassValue<EnumMapper<?>> MAPPERS = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumMapper<?> computeValue(Class<?> type) {
+            return new EnumMapper(type);
+        }
+    };
+
+    private final Class<E> type;
+    private final List<E> constants;
+    private final Map<String, E> byName;
+    private final Map<String, E> byTitle;
+    private final Map<String, E> byUpperCaseTitle;
+
+    private EnumMapper(Class<E> type) {
+        this.type = type;
+        this.constants = List.of(type.getEnumConstants());
+        Map<String, E> byName = new HashMap<>();
+        Map<String, E> byTitle = new HashMap<>();
+        Map<String, E> byUpperCaseTitle = new HashMap<>();
+        for (E constant : constants) {
+            byName.put(constant.name(), constant);
+            if (constant instanceof EnumMapperType) {
+                String title = ((EnumMapperType) constant).getTitle();
+                byTitle.put(title, constant);
+                byUpperCaseTitle.putIfAbsent(title.toUpperCase(Locale.ROOT), constant);
+            }
+        }
+        this.byName = Collections.unmodifiableMap(byName);
+        this.byTitle = Collections.unmodifiableMap(byTitle);
+        this.byUpperCaseTitle = Collections.unmodifiableMap(byUpperCaseTitle);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumMapper<E> of(Class<E> type) {
+        return (EnumMapper<E>) MAPPERS.get(type);
+    }
+
+    public Class<E> getType() {
+        return type;
+    }
+
+    /**
+     * 선언 순서대로의 상수 목록
+     */
+    public List<E> getConstants() {
+        return constants;
+    }
+
+    /**
+     * 상수 이름(code)으로 조회 (없거나 null 이면 null)
+     */
+    public E fromName(String name) {
+        return Objects.isNull(name) ? null : byName.get(name);
+    }
+
+    /**
+     * title 로 조회 (없거나 null 이면 null)
+     */
+    public E fromTitle(String title) {
+        return Objects.isNull(title) ? null : byTitle.get(title);
+    }
+
+    /**
+     * title 로 대소문자 구분 없이 조회 (없거나 null 이면 null)
+     */
+    public E fromTitleIgnoreCase(String title) {
+        if (Objects.isNull(title)) {
+            return null;
+        }
+        E constant = byTitle.get(title);
+        return Objects.nonNull(constant) ? constant : byUpperCaseTitle.get(title.toUpperCase(Locale.ROOT));
+    }
+}
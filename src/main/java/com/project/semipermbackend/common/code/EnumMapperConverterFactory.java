@@ -0,0 +1,38 @@
+package com.project.semipermbackend.common.code;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.converter.ConverterFactory;
+import org.springframework.util.StringUtils;
+
+/**
+ * 요청 파라미터 / path variable 의 상수 이름(code) -> 코드 enum 변환 (EnumMapper 로 O(1) 조회)
+ * 일치하는 상수가 없으면 변환 실패(400)로 처리된다.
+ */
+public class EnumMapperConverterFactory implements ConverterFactory<String, EnumMapperType> {
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T extends EnumMapperType> Converter<String, T> getConverter(Class<T> targetType) {
+        return new NameToEnumConverter(EnumMapper.of((Class) targetType));
+    }
+
+    private static class NameToEnumConverter<E extends Enum<E>> implements Converter<String, E> {
+        private final EnumMapper<E> enumMapper;
+
+        private NameToEnumConverter(EnumMapper<E> enumMapper) {
+            this.enumMapper = enumMapper;
+        }
+
+        @Override
+        public E convert(String source) {
+            if (!StringUtils.hasText(source)) {
+                return null;
+            }
+            E constant = enumMapper.fromName(source.trim());
+            if (constant == null) {
+                throw new IllegalArgumentException("No enum constant " + enumMapper.getType().getSimpleName() + "." + source);
+            }
+            return constant;
+        }
+    }
+}
@@ -3,8 +3,6 @@ package com.project.semipermbackend.common.code;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.RequiredArgsConstructor;
 
-import java.util.stream.Stream;
-
 @RequiredArgsConstructor
 public enum FlagYn implements EnumMapperType {
     YES("Y"),
@@ -27,9 +25,6 @@ public enum FlagYn implements EnumMapperType {
      */
     @JsonCreator
     public static FlagYn inputStrToEnum(String input) {
-        return Stream.of(FlagYn.values())
-                .filter(flag -> flag.title.equals(input.toUpperCase()))
-                .findFirst()
-                .orElse(null);
+        return EnumMapper.of(FlagYn.class).fromTitleIgnoreCase(input);
     }
 }
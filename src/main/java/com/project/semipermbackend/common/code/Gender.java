@@ -1,11 +1,8 @@
 package com.project.semipermbackend.common.code;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-import java.util.stream.Stream;
-
 @RequiredArgsConstructor
 public enum Gender implements EnumMapperType{
     WOMAN("W")
@@ -29,10 +26,6 @@ public enum Gender implements EnumMapperType{
      */
     @JsonCreator
     public static Gender inputStrToEnum(String input) {
-        System.out.println("=============" + input);
-        return Stream.of(Gender.values())
-                .filter(gender -> gender.title.equals(input.toUpperCase()))
-                .findFirst()
-                .orElse(null);
+        return EnumMapper.of(Gender.class).fromTitleIgnoreCase(input);
     }
 }
@@ -0,0 +1,9 @@
+package com.project.semipermbackend.common.datasource;
+
+/**
+ * ReplicationRoutingDataSource 의 라우팅 대상
+ */
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
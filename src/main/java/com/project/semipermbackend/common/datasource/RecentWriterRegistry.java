@@ -0,0 +1,30 @@
+package com.project.semipermbackend.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 최근에 쓰기 트랜잭션을 커밋한 회원 목록 (read-your-writes)
+ * - 쓰기 직후 stickyWindow 동안은 그 회원의 읽기 전용 트랜잭션도 primary 에서 읽어, 복제 지연으로 방금 쓴 내용이 안 보이는 일을 막는다.
+ * - 인스턴스 메모리에만 기록하므로 다음 요청이 다른 인스턴스로 가면 적용되지 않는다. (stickyWindow 는 평소 복제 지연보다 길게 잡는다.)
+ */
+public class RecentWriterRegistry {
+    private final Cache<Long, Boolean> recentWriters;
+
+    public RecentWriterRegistry(Duration stickyWindow, long maximumSize) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public void markWrite(Long memberId) {
+        recentWriters.put(memberId, Boolean.TRUE);
+    }
+
+    public boolean wroteRecently(Long memberId) {
+        return recentWriters.getIfPresent(memberId) != null;
+    }
+}
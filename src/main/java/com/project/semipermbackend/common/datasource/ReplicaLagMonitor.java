@@ -0,0 +1,82 @@
+package com.project.semipermbackend.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * replica 복제 지연 측정 (heartbeat)
+ * - 인스턴스마다 주기적으로 primary 의 replication_heartbeat 에 현재 시각을 쓰고, replica 에서 읽어 (현재 시각 - 읽은 시각) 을 지연으로 본다.
+ *   복제 방식(MySQL 복제, 관리형 DB 등)과 관계없이 실제로 데이터가 넘어오는 시간을 잰다.
+ * - 측정값은 heartbeat 주기만큼 실제보다 클 수 있으므로 maxLagMillis 는 heartbeat 주기보다 크게 잡는다.
+ * - 측정 실패, heartbeat 없음, 지연 초과 시 replica 를 사용하지 않는다. (primary 로 읽기)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+    static final String HEARTBEAT_TABLE = "replication_heartbeat";
+    private static final int HEARTBEAT_ID = 1;
+
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMillis;
+
+    // 측정 전에는 사용하지 않는다.
+    private volatile long lagMillis = Long.MAX_VALUE;
+
+    public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource, long maxLagMillis, MeterRegistry meterRegistry) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagMillis = maxLagMillis;
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMillis == Long.MAX_VALUE ? Double.NaN : monitor.lagMillis)
+                .baseUnit("milliseconds")
+                .description("replica heartbeat 지연")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.isReplicaUsable() ? 1 : 0)
+                .description("replica 로 읽기 가능 여부 (1 : 사용, 0 : primary 로 대체)")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        return lagMillis <= maxLagMillis;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.heartbeat-interval-ms:1000}")
+    public void writeHeartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            int updated = primaryJdbcTemplate.update("update " + HEARTBEAT_TABLE + " set beat_at_millis = ? where id = ?", now, HEARTBEAT_ID);
+            if (updated == 0) {
+                primaryJdbcTemplate.update("insert into " + HEARTBEAT_TABLE + " (id, beat_at_millis) values (?, ?)", HEARTBEAT_ID, now);
+            }
+        } catch (RuntimeException e) {
+            log.warn("replication heartbeat 기록 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        long previous = lagMillis;
+        try {
+            List<Long> beats = replicaJdbcTemplate.queryForList(
+                    "select beat_at_millis from " + HEARTBEAT_TABLE + " where id = ?", Long.class, HEARTBEAT_ID);
+            lagMillis = beats.isEmpty() ? Long.MAX_VALUE : Math.max(0, System.currentTimeMillis() - beats.get(0));
+        } catch (RuntimeException e) {
+            lagMillis = Long.MAX_VALUE;
+            log.debug("replica 지연 측정 실패", e);
+        }
+        if ((previous <= maxLagMillis) != isReplicaUsable()) {
+            log.warn("replica {} (지연 {} ms, 기준 {} ms)", isReplicaUsable() ? "사용 재개" : "사용 중지, primary 로 읽기",
+                    lagMillis == Long.MAX_VALUE ? "측정 불가" : lagMillis, maxLagMillis);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.project.semipermbackend.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 replica 로, 나머지는 primary 로 보낸다.
+ * 다음의 경우 읽기 전용이어도 primary 를 사용한다.
+ * - 요청한 회원이 방금 쓰기를 커밋한 경우 (RecentWriterRegistry, read-your-writes)
+ * - replica 복제 지연이 기준을 넘었거나 측정할 수 없는 경우 (ReplicaLagMonitor)
+ * 트랜잭션의 readOnly 여부가 정해진 뒤 커넥션을 가져오도록 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    private static final Object WRITE_SYNCHRONIZATION_KEY = new Object();
+
+    private final RecentWriterRegistry recentWriterRegistry;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Map<Route, Counter> routeCounters = new EnumMap<>(Route.class);
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica,
+                                        RecentWriterRegistry recentWriterRegistry,
+                                        ReplicaLagMonitor replicaLagMonitor,
+                                        MeterRegistry meterRegistry) {
+        this.recentWriterRegistry = recentWriterRegistry;
+        this.replicaLagMonitor = replicaLagMonitor;
+        setTargetDataSources(Map.<Object, Object>of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        for (Route route : Route.values()) {
+            routeCounters.put(route, Counter.builder("datasource.routing")
+                    .description("커넥션 라우팅 결과")
+                    .tag("target", route.target.name().toLowerCase())
+                    .tag("reason", route.reason)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Route route = route();
+        routeCounters.get(route).increment();
+        if (route == Route.READ_WRITE) {
+            markWriterAfterCommit();
+        }
+        return route.target;
+    }
+
+    private Route route() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.NO_TRANSACTION;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.READ_WRITE;
+        }
+        Long memberId = currentMemberId();
+        if (memberId != null && recentWriterRegistry.wroteRecently(memberId)) {
+            return Route.RECENT_WRITER;
+        }
+        if (!replicaLagMonitor.isReplicaUsable()) {
+            return Route.REPLICA_LAGGING;
+        }
+        return Route.READ_ONLY;
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋되면 요청한 회원을 최근 쓰기 회원으로 기록한다. (트랜잭션당 1번)
+     */
+    private void markWriterAfterCommit() {
+        Long memberId = currentMemberId();
+        if (memberId == null || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_SYNCHRONIZATION_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_SYNCHRONIZATION_KEY, memberId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriterRegistry.markWrite(memberId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_SYNCHRONIZATION_KEY);
+            }
+        });
+    }
+
+    /**
+     * 인증된 요청의 memberId (AuthenticationCheckFilter 에서 principal 의 username 으로 설정)
+     */
+    private static Long currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetails)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(((UserDetails) authentication.getPrincipal()).getUsername());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private enum Route {
+        NO_TRANSACTION(DataSourceRole.PRIMARY, "no-transaction"),
+        READ_WRITE(DataSourceRole.PRIMARY, "read-write"),
+        RECENT_WRITER(DataSourceRole.PRIMARY, "recent-writer"),
+        REPLICA_LAGGING(DataSourceRole.PRIMARY, "replica-lagging"),
+        READ_ONLY(DataSourceRole.REPLICA, "read-only");
+
+        private final DataSourceRole target;
+        private final String reason;
+
+        Route(DataSourceRole target, String reason) {
+            this.target = target;
+            this.reason = reason;
+        }
+    }
+}
@@ -12,9 +12,13 @@ public class Pagination<T> {
 
     private final int perSize;
 
-    private final long totalCount;
+    // 전체 개수 없이 조회한 경우(totalCount=NONE) null
+    private final Long totalCount;
 
-    private final long totalPages;
+    private final Long totalPages;
+
+    // totalCount 가 근사값인지 (totalCount=APPROXIMATE)
+    private final boolean approximate;
 
     private final boolean prev;
 
@@ -23,19 +27,23 @@ public class Pagination<T> {
     private final List<T> contents;
 
     @Builder
-    private Pagination(int page, int perSize, long totalCount, List<T> contents) {
+    private Pagination(int page, int perSize, Long totalCount, boolean approximate, boolean prev, boolean next, List<T> contents) {
         this.page = page;
         this.perSize = perSize;
         this.totalCount = totalCount;
+        this.approximate = approximate;
+        this.prev = prev;
+        this.next = next;
 
         this.contents = Objects.requireNonNullElseGet(contents, ArrayList::new);
 
         // 연산된 값
-        long pageWithFullContent = totalCount / perSize;
-        long pageWithLackContent = totalCount % perSize == 0 ? 0 : 1;
-        this.totalPages = pageWithFullContent + pageWithLackContent;
-
-        this.prev = page > 1;
-        this.next = page < totalPages;
+        if (Objects.isNull(totalCount)) {
+            this.totalPages = null;
+        } else {
+            long pageWithFullContent = totalCount / perSize;
+            long pageWithLackContent = totalCount % perSize == 0 ? 0 : 1;
+            this.totalPages = pageWithFullContent + pageWithLackContent;
+        }
     }
 }
@@ -13,6 +13,12 @@ public enum ErrorCode {
 //   login
     LOGIN_DISABLE_STATUS (SC_CONFLICT, "소셜 로그인 통해 사용자 조회 중 문제 발생하였습니다."),
     INVALID_RESPONSE_DATA(SC_NOT_FOUND, "소셜 로그인으로부터 전달된 응답 데이터가 유효하지 않습니다."),
+    SOCIAL_API_UNAVAILABLE(SC_SERVICE_UNAVAILABLE, "소셜 로그인 서버와의 통신에 실패하였습니다."),
+    SOCIAL_API_TIMEOUT(SC_GATEWAY_TIMEOUT, "소셜 로그인 서버의 응답 시간이 초과되었습니다."),
+    SOCIAL_API_CIRCUIT_OPEN(SC_SERVICE_UNAVAILABLE, "소셜 로그인 서버 장애로 일시적으로 로그인할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    SOCIAL_API_BULKHEAD_FULL(SC_SERVICE_UNAVAILABLE, "소셜 로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_ID_TOKEN(SC_UNAUTHORIZED, "소셜 로그인 ID 토큰이 유효하지 않습니다."),
+    ID_TOKEN_REQUIRED(SC_BAD_REQUEST, "ID 토큰 로그인만 지원하는 소셜 로그인 타입입니다."),
 
     NOT_PROPER_SOCIALLOGIN_TYPE(SC_BAD_REQUEST, "적절하지 않은 소셜로그인 타입입니다."),
     NEED_SONAIL_AUTH_INFO(SC_NOT_ACCEPTABLE, "소셜로그인 인증되지 않은 사용자입니다. 인증이 필요합니다.(Account 계정 정보 X)"),
@@ -22,10 +28,13 @@ public enum ErrorCode {
     NOT_FOUND_ACCOUNT(SC_NOT_FOUND, "해당 계정(account)이 존재하지 않습니다."),
     INAPPROPRIATE_PERMISSION(SC_BAD_REQUEST, "부적합한 권한입니다."),
     SAME_NICKNAME_EXISTS(SC_CONFLICT, "동일한 닉네임이 이미 존재합니다."),
+    RESERVED_NICKNAME(SC_BAD_REQUEST, "자동 생성 닉네임 형식(소셜타입_숫자)은 사용할 수 없습니다."),
 //    token
     TOKEN_EXPIRED_ERROR(SC_BAD_REQUEST, "JWT 토큰이 만료되었습니다."),
     UNSUPPORTED_TOKEN_ERROR(SC_NOT_ACCEPTABLE, "지원하지 않는 JWT 토큰입니다."),
     JWT_ERROR(SC_NOT_ACCEPTABLE, "JWT 토큰 관련 문제 발생하였습니다."),
+    REVOKED_TOKEN_ERROR(SC_UNAUTHORIZED, "로그아웃 등으로 폐기된 JWT 토큰입니다."),
+    INVALID_REFRESH_TOKEN(SC_UNAUTHORIZED, "이미 사용되었거나 폐기된 refresh token 입니다. 다시 로그인해주세요."),
     ERROR_DURING_FILTER(SC_CONFLICT, "필터 수행 중 문제 발생하였습니다.")
 
     // post & comment
@@ -7,4 +7,8 @@ public class InvalidRequestDataException extends BusinessException {
         super(ErrorCode.INVALID_REQUEST_DATA);
     }
 
+    public InvalidRequestDataException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
 }
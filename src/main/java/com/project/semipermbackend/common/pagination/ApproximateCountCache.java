@@ -0,0 +1,65 @@
+package com.project.semipermbackend.common.pagination;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 조회의 근사 전체 개수 캐시 (totalCount=APPROXIMATE)
+ * - 조건(key)별 count 결과를 저장하고, refresh-interval 이 지난 뒤 조회되면 이전 값을 응답하면서 백그라운드에서 다시 센다.
+ *   요청 경로에서 count 쿼리는 조건별로 처음 한 번만 실행된다.
+ * - expire-after-access 동안 조회되지 않은 조건은 버린다. (검색어 등 조건 수가 많은 경우)
+ * - 백그라운드 갱신은 읽기 전용 트랜잭션으로 실행한다. (replica 사용)
+ */
+@Component
+public class ApproximateCountCache {
+    private static final String CACHE_NAME = "approximateCount";
+
+    private final LoadingCache<CountKey, Long> cache;
+
+    public ApproximateCountCache(MeterRegistry meterRegistry,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${pagination.approximate-count.refresh-interval-sec:60}") long refreshIntervalSec,
+                                 @Value("${pagination.approximate-count.expire-after-access-sec:600}") long expireAfterAccessSec,
+                                 @Value("${pagination.approximate-count.maximum-size:10000}") long maximumSize) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        this.cache = Caffeine.newBuilder()
+                .refreshAfterWrite(Duration.ofSeconds(refreshIntervalSec))
+                .expireAfterAccess(Duration.ofSeconds(expireAfterAccessSec))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build(key -> readOnlyTransaction.execute(status -> key.counter.getAsLong()));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * @param key     조건을 구분하는 값 (ex. "post:FREE:3")
+     * @param counter 정확한 개수를 세는 쿼리. 캐시에 저장되어 갱신 시 다시 실행되므로 요청에 묶인 객체(엔티티 등)를 참조하지 않는다.
+     */
+    public long get(String key, LongSupplier counter) {
+        return cache.get(new CountKey(key, counter));
+    }
+
+    @EqualsAndHashCode(onlyExplicitlyIncluded = true)
+    private static class CountKey {
+        @EqualsAndHashCode.Include
+        private final String key;
+        private final LongSupplier counter;
+
+        private CountKey(String key, LongSupplier counter) {
+            this.key = key;
+            this.counter = counter;
+        }
+    }
+}
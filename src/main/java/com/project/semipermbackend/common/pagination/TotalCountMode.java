@@ -0,0 +1,13 @@
+package com.project.semipermbackend.common.pagination;
+
+/**
+ * 목록 조회 응답의 전체 개수(totalCount) 계산 방식 (요청 파라미터 totalCount)
+ * - EXACT : count 쿼리로 정확한 개수를 구한다. (첫 페이지 / 마지막 페이지는 조회 결과 수로 계산하여 count 생략)
+ * - APPROXIMATE : 주기적으로 갱신되는 개수 캐시(ApproximateCountCache)의 값. 갱신 주기만큼 지난 값일 수 있다.
+ * - NONE : 전체 개수 없이 perSize + 1 건을 조회하여 다음 페이지 여부(next)만 알려준다.
+ */
+public enum TotalCountMode {
+    EXACT,
+    APPROXIMATE,
+    NONE
+}
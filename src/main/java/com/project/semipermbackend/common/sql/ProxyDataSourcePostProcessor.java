@@ -0,0 +1,35 @@
+package com.project.semipermbackend.common.sql;
+
+import com.zaxxer.hikari.HikariDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커넥션 풀(HikariDataSource)을 datasource-proxy 로 감싸 모든 SQL 실행 시간을 SqlQueryRecorder 에 기록한다.
+ * - 읽기/쓰기 분리 시 primary / replica 풀을 각각 감싸므로 pool 이름으로 구분된다. (라우팅 DataSource 는 감싸지 않는다.)
+ * - 커넥션 풀 메트릭(hikaricp.*)은 감싼 DataSource 에서 unwrap 하여 그대로 수집된다.
+ * - SqlQueryRecorder 는 첫 SQL 실행 시점에 가져온다. (BeanPostProcessor 가 MeterRegistry 등을 일찍 생성하지 않도록)
+ */
+@Component
+public class ProxyDataSourcePostProcessor implements BeanPostProcessor {
+    private final ObjectProvider<SqlQueryRecorder> sqlQueryRecorder;
+
+    public ProxyDataSourcePostProcessor(ObjectProvider<SqlQueryRecorder> sqlQueryRecorder) {
+        this.sqlQueryRecorder = sqlQueryRecorder;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof HikariDataSource)) {
+            return bean;
+        }
+        HikariDataSource dataSource = (HikariDataSource) bean;
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(dataSource.getPoolName())
+                .beforeQuery((executionInfo, queryInfoList) -> sqlQueryRecorder.getObject().beforeQuery(executionInfo, queryInfoList))
+                .afterQuery((executionInfo, queryInfoList) -> sqlQueryRecorder.getObject().afterQuery(executionInfo, queryInfoList))
+                .build();
+    }
+}
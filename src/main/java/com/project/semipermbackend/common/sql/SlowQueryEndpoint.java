@@ -0,0 +1,84 @@
+package com.project.semipermbackend.common.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * SQL 형태별 실행 통계 상위 N 개 (관리용 포트의 /actuator/slowqueries)
+ * ex) GET /actuator/slowqueries?limit=20&orderBy=max  (orderBy : total(기본) | max | slow | count)
+ *     DELETE /actuator/slowqueries : 누적 통계 초기화
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SqlQueryRecorder sqlQueryRecorder;
+
+    @ReadOperation
+    public List<QueryView> top(@Nullable Integer limit, @Nullable String orderBy) {
+        return sqlQueryRecorder.top(Objects.requireNonNullElse(limit, DEFAULT_LIMIT), orderBy).stream()
+                .map(QueryView::new)
+                .collect(Collectors.toList());
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlQueryRecorder.reset();
+    }
+
+    public static class QueryView {
+        private final SqlQueryRecorder.QueryStatistics statistics;
+
+        private QueryView(SqlQueryRecorder.QueryStatistics statistics) {
+            this.statistics = statistics;
+        }
+
+        public String getId() {
+            return statistics.getId();
+        }
+
+        public String getSql() {
+            return statistics.getSql();
+        }
+
+        public long getCount() {
+            return statistics.getCount();
+        }
+
+        public double getTotalMillis() {
+            return toMillis(statistics.getTotalNanos());
+        }
+
+        public double getMeanMillis() {
+            long count = statistics.getCount();
+            return count == 0 ? 0 : toMillis(statistics.getTotalNanos()) / count;
+        }
+
+        public double getMaxMillis() {
+            return toMillis(statistics.getMaxNanos());
+        }
+
+        public long getSlowCount() {
+            return statistics.getSlowCount();
+        }
+
+        public SqlQueryRecorder.SlowQuerySample getLastSlowSample() {
+            return statistics.getLastSlowSample();
+        }
+
+        private static double toMillis(long nanos) {
+            return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.project.semipermbackend.common.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 커넥션 풀(ProxyDataSourcePostProcessor)에서 실행된 모든 SQL 의 실행 시간을 기록한다.
+ * - db.query : 같은 형태(바인딩 값, in 절 길이 무시)의 SQL 별 실행 시간 히스토그램 (태그 pool, query = SQL 형태의 id)
+ * - 느린 SQL(threshold-ms 이상)은 sample-rate 비율로 바인딩 값, 요청 API 와 함께 slow-query 로거(비동기 appender)에 남긴다.
+ * - SQL 형태별 누적 통계는 /actuator/slowqueries 로 조회한다.
+ * SQL 형태 종류가 max-distinct-queries 를 넘으면 이후 형태는 "other" 로 모은다. (메트릭 태그 수 제한)
+ */
+@Component
+public class SqlQueryRecorder {
+    private static final Logger SLOW_QUERY_LOG = LoggerFactory.getLogger("slow-query");
+    private static final String START_NANOS = SqlQueryRecorder.class.getName() + ".startNanos";
+    private static final String OTHER_QUERY_ID = "other";
+    private static final int MAX_LOGGED_BATCH_PARAMETERS = 3;
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final int maxBindValueLength;
+    private final int maxDistinctQueries;
+
+    private final Map<String, QueryStatistics> statistics = new ConcurrentHashMap<>();
+    private final Map<String, Counter> slowCountersByPool = new ConcurrentHashMap<>();
+
+    public SqlQueryRecorder(MeterRegistry meterRegistry,
+                            @Value("${sql.slow-query.threshold-ms:200}") long slowThresholdMillis,
+                            @Value("${sql.slow-query.sample-rate:1.0}") double sampleRate,
+                            @Value("${sql.slow-query.max-bind-value-length:64}") int maxBindValueLength,
+                            @Value("${sql.slow-query.max-distinct-queries:500}") int maxDistinctQueries) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.sampleRate = sampleRate;
+        this.maxBindValueLength = maxBindValueLength;
+        this.maxDistinctQueries = maxDistinctQueries;
+    }
+
+    /**
+     * datasource-proxy 의 실행 시간은 ms 단위이므로 직접 잰다.
+     */
+    void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        executionInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        Long startNanos = executionInfo.getCustomValue(START_NANOS, Long.class);
+        if (Objects.isNull(startNanos) || queryInfoList.isEmpty()) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        String pool = Objects.requireNonNullElse(executionInfo.getDataSourceName(), "default");
+
+        // Statement batch 는 여러 SQL 을 한 번에 실행하므로 첫 SQL 의 형태로 기록한다.
+        QueryStatistics queryStatistics = statisticsOf(SqlStatementCounter.shapeOf(queryInfoList.get(0).getQuery()));
+        queryStatistics.record(pool, elapsedNanos);
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            queryStatistics.slowCount.increment();
+            slowCountersByPool.computeIfAbsent(pool, key -> Counter.builder("db.query.slow")
+                            .tag("pool", key)
+                            .register(meterRegistry))
+                    .increment();
+            if (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                logSlowQuery(queryStatistics, pool, elapsedNanos, executionInfo, queryInfoList);
+            }
+        }
+    }
+
+    /**
+     * 누적 실행 시간(total), 최대 실행 시간(max), 느린 실행 수(slow), 실행 수(count) 순으로 상위 limit 개
+     */
+    public List<QueryStatistics> top(int limit, String orderBy) {
+        Comparator<QueryStatistics> comparator = switch (Objects.requireNonNullElse(orderBy, "total")) {
+            case "max" -> Comparator.comparingLong(QueryStatistics::getMaxNanos);
+            case "slow" -> Comparator.comparingLong(QueryStatistics::getSlowCount);
+            case "count" -> Comparator.comparingLong(QueryStatistics::getCount);
+            default -> Comparator.comparingLong(QueryStatistics::getTotalNanos);
+        };
+        return statistics.values().stream()
+                .sorted(comparator.reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 누적 통계 초기화 (메트릭은 유지)
+     */
+    public void reset() {
+        statistics.values().forEach(QueryStatistics::reset);
+    }
+
+    private QueryStatistics statisticsOf(String shape) {
+        QueryStatistics queryStatistics = statistics.get(shape);
+        if (queryStatistics != null) {
+            return queryStatistics;
+        }
+        if (statistics.size() >= maxDistinctQueries) {
+            return statistics.computeIfAbsent(OTHER_QUERY_ID, key -> new QueryStatistics(OTHER_QUERY_ID, "(other)"));
+        }
+        return statistics.computeIfAbsent(shape, key -> new QueryStatistics(Integer.toHexString(key.hashCode()), key));
+    }
+
+    private void logSlowQuery(QueryStatistics queryStatistics, String pool, long elapsedNanos,
+                              ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        String endpoint = currentEndpoint();
+        String statement = queryInfoList.get(0).getQuery();
+        String parameters = formatParameters(queryInfoList.get(0));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+
+        queryStatistics.lastSlowSample.set(new SlowQuerySample(LocalDateTime.now(), elapsedMillis, pool, endpoint, statement, parameters));
+        SLOW_QUERY_LOG.warn("{}ms pool={} query={} endpoint=[{}] success={} batch={} sql=[{}] params={}",
+                elapsedMillis, pool, queryStatistics.getId(), endpoint, executionInfo.isSuccess(),
+                executionInfo.isBatch() ? executionInfo.getBatchSize() : 0, statement, parameters);
+    }
+
+    /**
+     * SQL 을 실행한 API (요청 스레드가 아니면 스레드 이름)
+     */
+    private String currentEndpoint() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (!(requestAttributes instanceof ServletRequestAttributes)) {
+            return "thread:" + Thread.currentThread().getName();
+        }
+        HttpServletRequest request = ((ServletRequestAttributes) requestAttributes).getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (Objects.nonNull(pattern) ? pattern : request.getRequestURI());
+    }
+
+    /**
+     * 바인딩 값. 긴 문자열(토큰 등)은 잘라서 남긴다. batch 는 앞의 몇 건만 남긴다.
+     */
+    private String formatParameters(QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+        String formatted = parametersList.stream()
+                .limit(MAX_LOGGED_BATCH_PARAMETERS)
+                .map(parameters -> parameters.stream()
+                        .map(this::formatParameter)
+                        .collect(Collectors.joining(", ", "[", "]")))
+                .collect(Collectors.joining(", "));
+        return parametersList.size() > MAX_LOGGED_BATCH_PARAMETERS ? formatted + " ... (" + parametersList.size() + ")" : formatted;
+    }
+
+    private String formatParameter(ParameterSetOperation operation) {
+        Object[] args = operation.getArgs();
+        if ("setNull".equals(operation.getMethod().getName()) || args.length < 2 || Objects.isNull(args[1])) {
+            return args[0] + "=null";
+        }
+        String value = String.valueOf(args[1]);
+        if (value.length() > maxBindValueLength) {
+            value = value.substring(0, maxBindValueLength) + "...(" + value.length() + ")";
+        }
+        return args[0] + "=" + value;
+    }
+
+    public class QueryStatistics {
+        private final String id;
+        private final String sql;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder slowCount = new LongAdder();
+        private final AtomicReference<SlowQuerySample> lastSlowSample = new AtomicReference<>();
+        private final Map<String, Timer> timersByPool = new ConcurrentHashMap<>();
+
+        private QueryStatistics(String id, String sql) {
+            this.id = id;
+            this.sql = sql;
+        }
+
+        private void record(String pool, long elapsedNanos) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            timersByPool.computeIfAbsent(pool, key -> Timer.builder("db.query")
+                            .tag("pool", key)
+                            .tag("query", id)
+                            .register(meterRegistry))
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void reset() {
+            count.reset();
+            totalNanos.reset();
+            maxNanos.set(0);
+            slowCount.reset();
+            lastSlowSample.set(null);
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        public long getSlowCount() {
+            return slowCount.sum();
+        }
+
+        public SlowQuerySample getLastSlowSample() {
+            return lastSlowSample.get();
+        }
+    }
+
+    @Getter
+    public static class SlowQuerySample {
+        private final LocalDateTime executedAt;
+        private final long elapsedMillis;
+        private final String pool;
+        private final String endpoint;
+        private final String sql;
+        private final String parameters;
+
+        private SlowQuerySample(LocalDateTime executedAt, long elapsedMillis, String pool, String endpoint, String sql, String parameters) {
+            this.executedAt = executedAt;
+            this.elapsedMillis = elapsedMillis;
+            this.pool = pool;
+            this.endpoint = endpoint;
+            this.sql = sql;
+            this.parameters = parameters;
+        }
+    }
+}
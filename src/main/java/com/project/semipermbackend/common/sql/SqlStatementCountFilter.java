@@ -0,0 +1,117 @@
+package com.project.semipermbackend.common.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+/**
+ * 요청마다 실행된 SQL 수를 응답 헤더(X-Sql-Statement-Count)와 로그로 남긴다.
+ * - 같은 형태의 SQL 이 n-plus-one-threshold 번 이상 반복되면 N+1 의심으로 warn 로그를 남긴다.
+ * - 헤더는 응답 본문을 쓰기 직전까지의 수이다. (본문 직렬화 중 지연 로딩된 SQL 은 로그에만 포함)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+    public static final String HEADER_NAME = "X-Sql-Statement-Count";
+
+    private final boolean headerEnabled;
+    private final int nPlusOneThreshold;
+
+    public SqlStatementCountFilter(@Value("${sql.statement-count.header-enabled:true}") boolean headerEnabled,
+                                   @Value("${sql.statement-count.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        this.headerEnabled = headerEnabled;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.begin()) {
+            HeaderWritingResponse headerWritingResponse = new HeaderWritingResponse(response, scope);
+            try {
+                filterChain.doFilter(request, headerWritingResponse);
+            } finally {
+                headerWritingResponse.writeHeader();
+                report(request, scope);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementCounter.Scope scope) {
+        log.debug("SQL {} 건 : {} {}", scope.getCount(), request.getMethod(), request.getRequestURI());
+
+        Map<String, Integer> repeated = scope.getRepeatedStatements(nPlusOneThreshold);
+        if (!repeated.isEmpty()) {
+            log.warn("N+1 의심 : {} {} (SQL {} 건) 반복 SQL {}", request.getMethod(), request.getRequestURI(), scope.getCount(), repeated);
+        }
+    }
+
+    /**
+     * 본문을 쓰기 시작하면 헤더를 더 이상 추가할 수 없으므로 그 직전에 헤더를 쓴다.
+     */
+    private class HeaderWritingResponse extends HttpServletResponseWrapper {
+        private final SqlStatementCounter.Scope scope;
+        private boolean headerWritten = false;
+
+        private HeaderWritingResponse(HttpServletResponse response, SqlStatementCounter.Scope scope) {
+            super(response);
+            this.scope = scope;
+        }
+
+        private void writeHeader() {
+            if (headerEnabled && !headerWritten && !isCommitted()) {
+                setIntHeader(HEADER_NAME, scope.getCount());
+            }
+            headerWritten = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
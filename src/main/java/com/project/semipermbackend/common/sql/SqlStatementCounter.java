@@ -0,0 +1,111 @@
+package com.project.semipermbackend.common.sql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 현재 스레드(요청)에서 실행된 SQL 수와, 같은 형태의 SQL 이 반복 실행된 횟수를 센다. (N+1 확인용)
+ * - SqlStatementInspector 가 Hibernate 가 실행하는 모든 SQL 을 기록한다.
+ * - begin() 으로 연 구간에서만 기록하며, 이미 열린 구간 안에서 다시 열면 바깥 구간과 기록을 공유한다. (필터 + 테스트)
+ * - 실행 시에는 SQL 문자열만 순서대로 기록하고, 형태 변환은 반복 SQL 을 조회할 때 한다. (변환 결과는 캐시)
+ */
+public final class SqlStatementCounter {
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("in\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // 실행된 SQL 문자열 -> 형태. Hibernate 가 만드는 SQL 은 대부분 같은 문자열이므로 매번 정규식으로 변환하지 않는다. (SqlQueryRecorder 와 공유)
+    private static final Cache<String, String> SHAPES = Caffeine.newBuilder().maximumSize(10_000).build();
+
+    private SqlStatementCounter() {
+    }
+
+    public static Scope begin() {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            return new Scope(recording, recording.statements.size(), false);
+        }
+        recording = new Recording();
+        CURRENT.set(recording);
+        return new Scope(recording, 0, true);
+    }
+
+    static void record(String sql) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.statements.add(sql);
+        }
+    }
+
+    /**
+     * 바인딩 값, in 절 길이가 달라도 같은 형태로 본다.
+     */
+    static String shapeOf(String sql) {
+        return SHAPES.get(sql, SqlStatementCounter::normalize);
+    }
+
+    private static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    private static class Recording {
+        // 실행 순서대로 기록한다. 안쪽 구간은 연 시점(offset) 이후만 센다.
+        private final List<String> statements = new ArrayList<>();
+    }
+
+    public static class Scope implements AutoCloseable {
+        private final Recording recording;
+        private final int offset;
+        private final boolean owner;
+
+        private Scope(Recording recording, int offset, boolean owner) {
+            this.recording = recording;
+            this.offset = offset;
+            this.owner = owner;
+        }
+
+        /**
+         * 구간을 연 이후 실행된 SQL 수
+         */
+        public int getCount() {
+            return recording.statements.size() - offset;
+        }
+
+        /**
+         * 구간을 연 이후 threshold 번 이상 실행된 같은 형태의 SQL 과 실행 횟수 (많은 순)
+         */
+        public Map<String, Integer> getRepeatedStatements(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            if (getCount() < threshold) {
+                return repeated;
+            }
+            Map<String, Integer> countsBySql = new LinkedHashMap<>();
+            for (String sql : recording.statements.subList(offset, recording.statements.size())) {
+                countsBySql.merge(sql, 1, Integer::sum);
+            }
+            Map<String, Integer> countsByShape = new LinkedHashMap<>();
+            countsBySql.forEach((sql, count) -> countsByShape.merge(shapeOf(sql), count, Integer::sum));
+            countsByShape.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+            return repeated;
+        }
+
+        @Override
+        public void close() {
+            if (owner) {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.project.semipermbackend.common.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 SqlStatementCounter 에 기록한다. SQL 은 바꾸지 않는다.
+ * (spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록)
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.semipermbackend.common.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * enum 집합 <-> 정수 비트마스크 변환. 상수의 선언 순서(ordinal)가 비트 위치이다.
+ * DB 에 저장된 값의 의미가 바뀌므로 enum 상수는 순서를 바꾸거나 중간에 추가하면 안 되고, 끝에만 추가한다.
+ * (int 컬럼이므로 상수는 31개까지)
+ */
+public final class EnumBitmask {
+    private static final int MAX_CONSTANTS = Integer.SIZE - 1;
+
+    private EnumBitmask() {
+    }
+
+    public static <E extends Enum<E>> int bitOf(E value) {
+        return 1 << value.ordinal();
+    }
+
+    public static <E extends Enum<E>> int toMask(Collection<E> values) {
+        if (Objects.isNull(values)) {
+            return 0;
+        }
+        int mask = 0;
+        for (E value : values) {
+            mask |= bitOf(value);
+        }
+        return mask;
+    }
+
+    public static <E extends Enum<E>> EnumSet<E> fromMask(Class<E> enumType, int mask) {
+        EnumSet<E> values = EnumSet.noneOf(enumType);
+        for (E constant : enumType.getEnumConstants()) {
+            if ((mask & bitOf(constant)) != 0) {
+                values.add(constant);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * value 를 포함하는 모든 마스크 (오름차순). 상수가 n 개면 2^(n-1) 개.
+     * "mask & bit != 0" 조건은 인덱스를 탈 수 없으므로, 대신 "mask in (...)" 로 인덱스 범위 조회하기 위해 사용한다.
+     */
+    public static <E extends Enum<E>> List<Integer> masksContaining(E value) {
+        int constantCount = value.getDeclaringClass().getEnumConstants().length;
+        if (constantCount > MAX_CONSTANTS) {
+            throw new IllegalArgumentException("too many enum constants : " + value.getDeclaringClass());
+        }
+        int bit = bitOf(value);
+        List<Integer> masks = new ArrayList<>(1 << (constantCount - 1));
+        for (int mask = 0; mask < (1 << constantCount); mask++) {
+            if ((mask & bit) != 0) {
+                masks.add(mask);
+            }
+        }
+        return masks;
+    }
+}
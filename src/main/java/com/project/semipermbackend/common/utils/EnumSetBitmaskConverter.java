@@ -0,0 +1,27 @@
+package com.project.semipermbackend.common.utils;
+
+import javax.persistence.AttributeConverter;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Entity 내 enum 집합 필드를 정수 비트마스크 컬럼 하나로 저장한다. (EnumBitmask 참고)
+ * - 별도 테이블(@ElementCollection) 대비 조회 시 추가 쿼리, 수정 시 delete/insert 가 없다.
+ */
+public abstract class EnumSetBitmaskConverter<E extends Enum<E>> implements AttributeConverter<Set<E>, Integer> {
+    private final Class<E> enumType;
+
+    protected EnumSetBitmaskConverter(Class<E> enumType) {
+        this.enumType = enumType;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(Set<E> attribute) {
+        return EnumBitmask.toMask(attribute);
+    }
+
+    @Override
+    public Set<E> convertToEntityAttribute(Integer dbData) {
+        return EnumBitmask.fromMask(enumType, Objects.isNull(dbData) ? 0 : dbData);
+    }
+}
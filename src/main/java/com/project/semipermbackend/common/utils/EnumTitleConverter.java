@@ -0,0 +1,29 @@
+package com.project.semipermbackend.common.utils;
+
+import com.project.semipermbackend.common.code.EnumMapper;
+import com.project.semipermbackend.common.code.EnumMapperType;
+
+import javax.persistence.AttributeConverter;
+import java.util.Objects;
+
+/**
+ * Entity 내 코드 enum 필드를 title 값으로 저장한다. (조회 시 EnumMapper 로 O(1) 변환)
+ * 저장된 값과 일치하는 상수가 없으면 null 로 읽는다.
+ */
+public abstract class EnumTitleConverter<E extends Enum<E> & EnumMapperType> implements AttributeConverter<E, String> {
+    private final EnumMapper<E> enumMapper;
+
+    protected EnumTitleConverter(Class<E> enumType) {
+        this.enumMapper = EnumMapper.of(enumType);
+    }
+
+    @Override
+    public String convertToDatabaseColumn(E attribute) {
+        return Objects.isNull(attribute) ? null : attribute.getTitle();
+    }
+
+    @Override
+    public E convertToEntityAttribute(String dbData) {
+        return enumMapper.fromTitleIgnoreCase(dbData);
+    }
+}
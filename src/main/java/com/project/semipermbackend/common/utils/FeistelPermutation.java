@@ -0,0 +1,77 @@
+package com.project.semipermbackend.common.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * [0, domainSize) 범위의 정수를 같은 범위의 정수로 일대일 대응시키는 키 기반 순열. (format-preserving)
+ * - 2^bits (>= domainSize) 범위에서 균형 Feistel 네트워크로 섞고,
+ *   결과가 범위를 벗어나면 범위 안에 들어올 때까지 다시 섞는다. (cycle-walking)
+ * - 서로 다른 입력은 항상 서로 다른 출력이 되므로, 순차 번호를 넣으면 중복 없는 "랜덤해 보이는" 번호가 나온다.
+ * 같은 키로 만든 순열은 항상 같은 결과를 내므로, 운영 중에는 키를 바꾸면 안 된다.
+ */
+public class FeistelPermutation {
+    private static final int ROUNDS = 4;
+
+    private final long domainSize;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] roundKeys = new long[ROUNDS];
+
+    public FeistelPermutation(long domainSize, String key) {
+        if (domainSize < 2) {
+            throw new IllegalArgumentException("domainSize must be greater than 1");
+        }
+        int bits = 64 - Long.numberOfLeadingZeros(domainSize - 1);
+        this.domainSize = domainSize;
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+
+        ByteBuffer digest = ByteBuffer.wrap(sha256(key));
+        for (int i = 0; i < ROUNDS; i++) {
+            roundKeys[i] = digest.getLong();
+        }
+    }
+
+    public long permute(long value) {
+        if (value < 0 || value >= domainSize) {
+            throw new IllegalArgumentException("value out of range : " + value);
+        }
+        long result = value;
+        do {
+            result = encrypt(result);
+        } while (result >= domainSize);
+        return result;
+    }
+
+    private long encrypt(long value) {
+        long left = (value >>> halfBits) & halfMask;
+        long right = value & halfMask;
+        for (long roundKey : roundKeys) {
+            long next = left ^ (mix(right ^ roundKey) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    // murmur3 fmix64
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static byte[] sha256(String key) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.project.semipermbackend.common.utils;
+
+import com.project.semipermbackend.domain.code.MemberNeeds;
+
+import javax.persistence.Converter;
+
+@Converter
+public class MemberNeedsSetConverter extends EnumSetBitmaskConverter<MemberNeeds> {
+    public MemberNeedsSetConverter() {
+        super(MemberNeeds.class);
+    }
+}
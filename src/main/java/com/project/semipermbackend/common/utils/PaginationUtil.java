@@ -1,16 +1,85 @@
 package com.project.semipermbackend.common.utils;
 
 import com.project.semipermbackend.common.dto.Pagination;
+import com.project.semipermbackend.common.pagination.TotalCountMode;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 public interface PaginationUtil {
 
     static <T> Pagination<T> pageToPagination(Page<T> page) {
         return Pagination.<T>builder()
-                .page(page.getPageable().getPageNumber())
-                .perSize(page.getPageable().getPageSize())
-                .totalCount((int) page.getTotalElements())
+                .page(page.getNumber())
+                .perSize(page.getSize())
+                .totalCount(page.getTotalElements())
+                .prev(page.hasPrevious())
+                .next(page.hasNext())
                 .contents(page.getContent())
                 .build();
     }
+
+    /**
+     * count 없이 조회한 Slice -> Pagination
+     * @param approximateCount 근사 전체 개수 (null 이면 전체 개수 없이 응답)
+     */
+    static <T> Pagination<T> sliceToPagination(Slice<T> slice, LongSupplier approximateCount) {
+        Long totalCount = null;
+        boolean approximate = false;
+        if (Objects.nonNull(approximateCount)) {
+            long countUntilThisPage = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements();
+            if (!slice.hasNext() && (slice.hasContent() || slice.isFirst())) {
+                // 마지막 페이지면 조회 결과로 정확한 개수를 알 수 있다.
+                totalCount = countUntilThisPage;
+            } else {
+                // 다음 페이지가 있으면 적어도 한 건은 더 있다. (갱신 전 캐시 값이 현재 페이지보다 작은 경우)
+                totalCount = Math.max(approximateCount.getAsLong(), slice.hasNext() ? countUntilThisPage + 1 : 0);
+                approximate = true;
+            }
+        }
+
+        return Pagination.<T>builder()
+                .page(slice.getNumber())
+                .perSize(slice.getSize())
+                .totalCount(totalCount)
+                .approximate(approximate)
+                .prev(slice.hasPrevious())
+                .next(slice.hasNext())
+                .contents(slice.getContent())
+                .build();
+    }
+
+    /**
+     * totalCount 계산 방식에 따라 Page(count 쿼리) / Slice(perSize + 1 건) 중 하나로 조회한다.
+     * @param pageQuery        EXACT
+     * @param sliceQuery       APPROXIMATE, NONE
+     * @param approximateCount APPROXIMATE 의 전체 개수 (ApproximateCountCache)
+     * @param converter        엔티티 -> 응답 dto
+     */
+    static <E, T> Pagination<T> paginate(TotalCountMode countMode,
+                                         Supplier<Page<E>> pageQuery,
+                                         Supplier<Slice<E>> sliceQuery,
+                                         LongSupplier approximateCount,
+                                         Function<? super E, ? extends T> converter) {
+        return switch (countMode) {
+            case EXACT -> pageToPagination(pageQuery.get().map(converter));
+            case APPROXIMATE -> sliceToPagination(sliceQuery.get().map(converter), approximateCount);
+            case NONE -> sliceToPagination(sliceQuery.get().map(converter), null);
+        };
+    }
+
+    /**
+     * limit + 1 건으로 조회한 결과 -> Slice. 한 건이 더 있으면 다음 페이지가 있다.
+     */
+    static <T> Slice<T> toSlice(List<T> contents, Pageable pageable) {
+        boolean hasNext = contents.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? contents.subList(0, pageable.getPageSize()) : contents, pageable, hasNext);
+    }
 }
@@ -0,0 +1,61 @@
+package com.project.semipermbackend.common.utils;
+
+import lombok.Getter;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * 조건부 GET (ETag / Last-Modified) 용 리소스 버전
+ * 본문을 만들기 전에 수정 시각, 개수 등 가벼운 값만 조회하여 만들고, 변경되지 않았으면 본문 없이 304 로 응답한다.
+ * - ETag : 수정 시각 + 개수로 만든 weak ETag. 버전에 넣지 않은 값(조회수 등)은 304 응답에서 이전 값으로 남을 수 있다.
+ * - Last-Modified : 가장 최근 수정 시각. 개수만 바뀐 경우(삭제 등)는 ETag(If-None-Match)로만 구분된다.
+ */
+@Getter
+public class ResourceVersion {
+    private static final ZoneId ZONE_ID = ZoneId.systemDefault();
+    // 저장하되 매번 재검증한다. (회원별 응답이므로 공유 캐시에는 저장하지 않는다.)
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private final String eTag;
+    private final long lastModifiedMillis;
+
+    private ResourceVersion(String eTag, long lastModifiedMillis) {
+        this.eTag = eTag;
+        this.lastModifiedMillis = lastModifiedMillis;
+    }
+
+    /**
+     * @param modifiedDates 본문에 포함되는 row 들의 최종 수정 시각 (null 은 무시)
+     * @param counters      본문에 영향을 주는 개수 (댓글 수, 좋아요 수 등)
+     */
+    public static ResourceVersion of(Collection<LocalDateTime> modifiedDates, long... counters) {
+        long lastModifiedMillis = modifiedDates.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(modifiedDate -> modifiedDate.atZone(ZONE_ID).toInstant().toEpochMilli())
+                .max()
+                .orElse(0L);
+
+        StringBuilder eTag = new StringBuilder("W/\"").append(Long.toString(lastModifiedMillis, 36));
+        for (long counter : counters) {
+            eTag.append('-').append(Long.toString(counter, 36));
+        }
+        return new ResourceVersion(eTag.append('"').toString(), lastModifiedMillis);
+    }
+
+    /**
+     * 요청의 If-None-Match / If-Modified-Since 와 비교하여 변경되지 않았으면 true.
+     * true 면 응답 상태가 304 로 설정되므로 컨트롤러는 본문을 만들지 않고 null 을 반환한다.
+     */
+    public boolean checkNotModified(ServletWebRequest request) {
+        if (Objects.nonNull(request.getResponse())) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        return request.checkNotModified(eTag, lastModifiedMillis);
+    }
+}
@@ -0,0 +1,12 @@
+package com.project.semipermbackend.common.utils;
+
+import com.project.semipermbackend.domain.code.ReviewCategory;
+
+import javax.persistence.Converter;
+
+@Converter
+public class ReviewCategoryConverter extends EnumTitleConverter<ReviewCategory> {
+    public ReviewCategoryConverter() {
+        super(ReviewCategory.class);
+    }
+}
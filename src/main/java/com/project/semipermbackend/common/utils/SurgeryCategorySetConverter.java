@@ -0,0 +1,12 @@
+package com.project.semipermbackend.common.utils;
+
+import com.project.semipermbackend.domain.code.SurgeryCategory;
+
+import javax.persistence.Converter;
+
+@Converter
+public class SurgeryCategorySetConverter extends EnumSetBitmaskConverter<SurgeryCategory> {
+    public SurgeryCategorySetConverter() {
+        super(SurgeryCategory.class);
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.semipermbackend.common.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+/**
+ * 워밍업 진행 상황 (readiness 그룹에 포함, 워밍업이 끝나기 전이나 실패한 경로가 있으면(FAILED) OUT_OF_SERVICE)
+ */
+@RequiredArgsConstructor
+@Component
+public class WarmUpHealthIndicator extends AbstractHealthIndicator {
+    private final WarmUpRunner warmUpRunner;
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        WarmUpRunner.State state = warmUpRunner.getState();
+        if (state == WarmUpRunner.State.COMPLETED || state == WarmUpRunner.State.SKIPPED) {
+            builder.up();
+        } else {
+            builder.outOfService();
+        }
+        builder.withDetail("state", state)
+                .withDetail("elapsedMs", warmUpRunner.getElapsedMillis())
+                .withDetail("coverage", warmUpRunner.getCoverage())
+                .withDetail("iterations", warmUpRunner.getCompletedIterations())
+                .withDetail("failed", warmUpRunner.getFailedTasks());
+    }
+}
@@ -0,0 +1,70 @@
+package com.project.semipermbackend.common.warmup;
+
+import org.springframework.web.context.request.AbstractRequestAttributes;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 워밍업 실행 1회를 요청 하나로 묶는다. 요청 범위 빈(MemberContext)을 실제 요청과 같이 요청마다 새로 만든다.
+ * 세션은 없다. (세션 범위 빈을 사용하는 경로는 워밍업하지 않는다.)
+ */
+class WarmUpRequestAttributes extends AbstractRequestAttributes {
+    private final Map<String, Object> attributes = new HashMap<>();
+
+    @Override
+    public Object getAttribute(String name, int scope) {
+        checkRequestScope(scope);
+        return attributes.get(name);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value, int scope) {
+        checkRequestScope(scope);
+        attributes.put(name, value);
+    }
+
+    @Override
+    public void removeAttribute(String name, int scope) {
+        checkRequestScope(scope);
+        attributes.remove(name);
+        removeRequestDestructionCallback(name);
+    }
+
+    @Override
+    public String[] getAttributeNames(int scope) {
+        checkRequestScope(scope);
+        return attributes.keySet().toArray(new String[0]);
+    }
+
+    @Override
+    public void registerDestructionCallback(String name, Runnable callback, int scope) {
+        checkRequestScope(scope);
+        registerRequestDestructionCallback(name, callback);
+    }
+
+    @Override
+    public Object resolveReference(String key) {
+        return null;
+    }
+
+    @Override
+    public String getSessionId() {
+        throw new IllegalStateException("워밍업 요청에는 세션이 없습니다.");
+    }
+
+    @Override
+    public Object getSessionMutex() {
+        throw new IllegalStateException("워밍업 요청에는 세션이 없습니다.");
+    }
+
+    @Override
+    protected void updateAccessedSessionAttributes() {
+    }
+
+    private static void checkRequestScope(int scope) {
+        if (scope != SCOPE_REQUEST) {
+            throw new IllegalStateException("워밍업 요청에는 세션이 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.project.semipermbackend.common.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기동 직후 첫 요청들의 응답 지연(쿼리 플랜, 클래스 로딩, JIT, 캐시)을 줄이기 위해 주요 요청 경로(WarmUpTask)를 미리 실행한다.
+ * - ApplicationRunner 가 끝나야 readiness 가 ACCEPTING_TRAFFIC 이 되므로, 워밍업이 끝날 때까지 /readyz 는 OUT_OF_SERVICE 이다.
+ *   (진행 상황은 WarmUpHealthIndicator)
+ * - warmup.tasks 의 경로를 번갈아 경로별 warmup.iterations 번 실행한다. warmup.max-duration-sec 이 지나면 남은 실행은 건너뛴다.
+ * - 실행 1회를 요청 하나로 묶어 요청 범위 빈(MemberContext)도 실제 요청과 같이 사용한다. (WarmUpRequestAttributes)
+ * - 실패한 경로는 이후 실행에서 제외한다. warmup.fail-on-error 이면 FAILED 로 끝나 readiness 가 OUT_OF_SERVICE 로 남는다.
+ * 메트릭 : warmup.task (경로별 1회 실행 시간, outcome), warmup.duration, warmup.coverage (실패 없이 실행한 경로 비율)
+ */
+@Slf4j
+@Order(Ordered.LOWEST_PRECEDENCE)
+@Component
+public class WarmUpRunner implements ApplicationRunner {
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final List<WarmUpTask> tasks;
+    private final int iterations;
+    private final long maxDurationNanos;
+    private final boolean failOnError;
+
+    private volatile State state = State.PENDING;
+    private volatile long elapsedNanos;
+    // 경로 목록은 생성 시 고정, 횟수만 바뀐다. (health / 메트릭 조회 스레드에서 읽음)
+    private final Map<String, AtomicInteger> completedIterations = new LinkedHashMap<>();
+    private final List<String> failedTasks = Collections.synchronizedList(new ArrayList<>());
+
+    public WarmUpRunner(List<WarmUpTask> warmUpTasks,
+                        ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry,
+                        @Value("${warmup.enabled:true}") boolean enabled,
+                        @Value("${warmup.tasks:feed,post-list,post-detail,search,my-page,auth}") List<String> taskNames,
+                        @Value("${warmup.iterations:200}") int iterations,
+                        @Value("${warmup.max-duration-sec:60}") long maxDurationSec,
+                        @Value("${warmup.fail-on-error:true}") boolean failOnError) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.tasks = select(warmUpTasks, taskNames);
+        this.iterations = iterations;
+        this.maxDurationNanos = TimeUnit.SECONDS.toNanos(maxDurationSec);
+        this.failOnError = failOnError;
+        this.tasks.forEach(task -> completedIterations.put(task.getName(), new AtomicInteger()));
+
+        TimeGauge.builder("warmup.duration", this, TimeUnit.NANOSECONDS, runner -> runner.elapsedNanos)
+                .register(meterRegistry);
+        Gauge.builder("warmup.coverage", this, WarmUpRunner::getCoverage)
+                .register(meterRegistry);
+    }
+
+    private static List<WarmUpTask> select(List<WarmUpTask> warmUpTasks, List<String> taskNames) {
+        Map<String, WarmUpTask> tasksByName = warmUpTasks.stream()
+                .collect(Collectors.toMap(WarmUpTask::getName, Function.identity()));
+        List<WarmUpTask> selected = new ArrayList<>(taskNames.size());
+        for (String taskName : taskNames) {
+            WarmUpTask task = tasksByName.get(taskName.trim());
+            if (Objects.isNull(task)) {
+                log.warn("알 수 없는 워밍업 경로입니다. ({}, 사용 가능 : {})", taskName, tasksByName.keySet());
+                continue;
+            }
+            selected.add(task);
+        }
+        return selected;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled || tasks.isEmpty()) {
+            state = State.SKIPPED;
+            return;
+        }
+        state = State.RUNNING;
+        long startNanos = System.nanoTime();
+        log.info("워밍업을 시작합니다. (경로 : {}, 경로별 {} 회)", completedIterations.keySet(), iterations);
+
+        List<WarmUpTask> remaining = new ArrayList<>(tasks);
+        for (int iteration = 0; iteration < iterations && !remaining.isEmpty(); iteration++) {
+            if (System.nanoTime() - startNanos > maxDurationNanos) {
+                log.warn("워밍업 최대 시간이 지나 중단합니다. ({} / {} 회)", iteration, iterations);
+                break;
+            }
+            for (WarmUpTask task : new ArrayList<>(remaining)) {
+                if (!runOnce(task, iteration)) {
+                    remaining.remove(task);
+                }
+            }
+            elapsedNanos = System.nanoTime() - startNanos;
+        }
+
+        elapsedNanos = System.nanoTime() - startNanos;
+        if (failOnError && !failedTasks.isEmpty()) {
+            state = State.FAILED;
+            log.error("워밍업 중 실패한 경로가 있어 트래픽을 받지 않습니다. ({} ms, 실행 횟수 : {}, 실패 : {})",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), getCompletedIterations(), failedTasks);
+            return;
+        }
+        state = State.COMPLETED;
+        log.info("워밍업을 마쳤습니다. ({} ms, 실행 횟수 : {}, 실패 : {})",
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), getCompletedIterations(), failedTasks);
+    }
+
+    /**
+     * 요청 하나로 실행한다. (요청 범위 빈은 실행이 끝나면 정리)
+     * @return 다음 실행 여부 (실패했거나 실행할 대상이 없으면 false)
+     */
+    private boolean runOnce(WarmUpTask task, int iteration) {
+        long startNanos = System.nanoTime();
+        String outcome = "success";
+        WarmUpRequestAttributes requestAttributes = new WarmUpRequestAttributes();
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        try {
+            Object response = task.run(iteration);
+            if (Objects.isNull(response)) {
+                log.info("워밍업 대상 데이터가 없어 건너뜁니다. ({})", task.getName());
+                return false;
+            }
+            // 응답 직렬화 (DTO serializer 생성)
+            objectMapper.writeValueAsBytes(response);
+            completedIterations.get(task.getName()).incrementAndGet();
+            return true;
+        } catch (Exception e) {
+            outcome = "error";
+            failedTasks.add(task.getName());
+            log.warn("워밍업 실행 중 오류가 발생하여 이후 실행에서 제외합니다. ({})", task.getName(), e);
+            return false;
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+            requestAttributes.requestCompleted();
+            Timer.builder("warmup.task")
+                    .tag("task", task.getName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 설정한 경로 중 한 번 이상, 실패 없이 실행한 경로 비율
+     */
+    public double getCoverage() {
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        long covered = completedIterations.entrySet().stream()
+                .filter(entry -> entry.getValue().get() > 0 && !failedTasks.contains(entry.getKey()))
+                .count();
+        return (double) covered / tasks.size();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    public Map<String, Integer> getCompletedIterations() {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        completedIterations.forEach((name, count) -> result.put(name, count.get()));
+        return result;
+    }
+
+    public List<String> getFailedTasks() {
+        return List.copyOf(failedTasks);
+    }
+
+    public enum State {
+        PENDING, RUNNING, COMPLETED, SKIPPED, FAILED
+    }
+}
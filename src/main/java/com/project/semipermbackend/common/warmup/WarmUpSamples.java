@@ -0,0 +1,95 @@
+package com.project.semipermbackend.common.warmup;
+
+import com.project.semipermbackend.domain.code.PostCategory;
+import com.project.semipermbackend.domain.code.PostSorting;
+import com.project.semipermbackend.domain.post.Post;
+import com.project.semipermbackend.domain.post.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 워밍업에 사용할 게시글 / 회원 / 계정 id. 최근 게시글에서 뽑아 처음 사용할 때 한 번만 조회한다.
+ * (데이터가 없으면 비어있고, 해당 id 가 필요한 워밍업은 건너뛴다.)
+ */
+@Component
+public class WarmUpSamples {
+    private final PostRepository postRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int sampleSize;
+
+    private volatile Samples samples;
+
+    public WarmUpSamples(PostRepository postRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${warmup.sample-size:50}") int sampleSize) {
+        this.postRepository = postRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.sampleSize = sampleSize;
+    }
+
+    public Long postId(int iteration) {
+        return pick(samples().postIds, iteration);
+    }
+
+    public Long memberId(int iteration) {
+        return pick(samples().memberIds, iteration);
+    }
+
+    public Long accountId(int iteration) {
+        return pick(samples().accountIds, iteration);
+    }
+
+    private static Long pick(List<Long> ids, int iteration) {
+        return ids.isEmpty() ? null : ids.get(iteration % ids.size());
+    }
+
+    private Samples samples() {
+        Samples loaded = samples;
+        if (Objects.isNull(loaded)) {
+            synchronized (this) {
+                if (Objects.isNull(samples)) {
+                    samples = readOnlyTransaction.execute(status -> load());
+                }
+                loaded = samples;
+            }
+        }
+        return loaded;
+    }
+
+    private Samples load() {
+        List<Post> posts = postRepository.findSliceByFiltering(PageRequest.of(0, sampleSize),
+                Collections.emptySet(), PostCategory.TOTAL, PostSorting.LATEST).getContent();
+
+        List<Long> postIds = new ArrayList<>(posts.size());
+        List<Long> memberIds = new ArrayList<>(posts.size());
+        List<Long> accountIds = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            postIds.add(post.getPostId());
+            // 작성자는 fetch join, 계정은 프록시의 id 만 사용한다.
+            memberIds.add(post.getMember().getMemberId());
+            accountIds.add(post.getMember().getAccount().getAccountId());
+        }
+        return new Samples(postIds, memberIds, accountIds);
+    }
+
+    private static class Samples {
+        private final List<Long> postIds;
+        private final List<Long> memberIds;
+        private final List<Long> accountIds;
+
+        private Samples(List<Long> postIds, List<Long> memberIds, List<Long> accountIds) {
+            this.postIds = postIds;
+            this.memberIds = memberIds;
+            this.accountIds = accountIds;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.project.semipermbackend.common.warmup;
+
+import java.util.function.IntFunction;
+
+/**
+ * 기동 시 미리 실행해 두는 요청 경로 (WarmUpRunner)
+ * 실행 결과는 JSON 으로 직렬화하여 응답 직렬화 경로까지 함께 실행한다.
+ */
+public interface WarmUpTask {
+
+    /**
+     * 설정(warmup.tasks)에서 사용하는 이름
+     */
+    String getName();
+
+    /**
+     * @param iteration 0 부터 증가하는 실행 순번 (조회 조건, 샘플을 바꿔가며 실행)
+     * @return 응답 객체 (실행할 대상이 없으면 null)
+     */
+    Object run(int iteration);
+
+    static WarmUpTask of(String name, IntFunction<Object> action) {
+        return new WarmUpTask() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Object run(int iteration) {
+                return action.apply(iteration);
+            }
+        };
+    }
+}
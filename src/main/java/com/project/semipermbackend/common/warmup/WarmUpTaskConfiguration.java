@@ -0,0 +1,145 @@
+package com.project.semipermbackend.common.warmup;
+
+import com.project.semipermbackend.auth.jwt.JwtTokenProvider;
+import com.project.semipermbackend.auth.jwt.TokenRevocationRegistry;
+import com.project.semipermbackend.comment.service.CommentService;
+import com.project.semipermbackend.common.pagination.TotalCountMode;
+import com.project.semipermbackend.domain.account.AccountRepository;
+import com.project.semipermbackend.domain.code.PostCategory;
+import com.project.semipermbackend.domain.code.PostSorting;
+import com.project.semipermbackend.member.service.MemberService;
+import com.project.semipermbackend.post.service.PostFeedService;
+import com.project.semipermbackend.post.service.PostService;
+import com.project.semipermbackend.store.service.StoreService;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 워밍업 대상 요청 경로. 서비스 메서드를 실제 요청과 같은 조건으로 호출한다. (조회만, 쓰기는 rollback)
+ * - 전체 개수는 EXACT / APPROXIMATE 를 번갈아 사용하여 근사 개수 캐시도 함께 채운다.
+ */
+@Configuration
+public class WarmUpTaskConfiguration {
+    private static final int PER_SIZE = 10;
+    private static final TotalCountMode[] COUNT_MODES = {TotalCountMode.EXACT, TotalCountMode.APPROXIMATE};
+
+    private final WarmUpSamples samples;
+
+    public WarmUpTaskConfiguration(WarmUpSamples samples) {
+        this.samples = samples;
+    }
+
+    /**
+     * 홈 피드 (회원 관심 시술, 최신순 / 좋아요순)
+     */
+    @Bean
+    public WarmUpTask feedWarmUpTask(PostFeedService postFeedService) {
+        List<PostSorting> sortings = List.of(PostSorting.LATEST, PostSorting.LIKE);
+        return WarmUpTask.of("feed", iteration -> {
+            Long memberId = samples.memberId(iteration);
+            return Objects.isNull(memberId) ? null : postFeedService.getFeed(memberId, Collections.emptySet(), PostCategory.TOTAL,
+                    sortings.get(iteration % sortings.size()), null, PER_SIZE);
+        });
+    }
+
+    /**
+     * 게시글 목록 (정렬별)
+     */
+    @Bean
+    public WarmUpTask postListWarmUpTask(PostService postService) {
+        List<PostSorting> sortings = List.of(PostSorting.LATEST, PostSorting.LIKE, PostSorting.POPULARITY);
+        return WarmUpTask.of("post-list", iteration -> postService.getAll(0, PER_SIZE, Collections.emptySet(), PostCategory.TOTAL,
+                sortings.get(iteration % sortings.size()), countMode(iteration)));
+    }
+
+    /**
+     * 게시글 상세 (조회수 증가 포함, 실행 후 rollback) + 조건부 조회 버전
+     */
+    @Bean
+    public WarmUpTask postDetailWarmUpTask(PostService postService, PlatformTransactionManager transactionManager) {
+        TransactionTemplate rollbackTransaction = new TransactionTemplate(transactionManager);
+        return WarmUpTask.of("post-detail", iteration -> {
+            Long postId = samples.postId(iteration);
+            if (Objects.isNull(postId)) {
+                return null;
+            }
+            postService.getVersion(postId);
+            return rollbackTransaction.execute(status -> {
+                status.setRollbackOnly();
+                return postService.getOne(postId, countMode(iteration));
+            });
+        });
+    }
+
+    /**
+     * 게시글 검색 (warmup.search-keywords)
+     */
+    @Bean
+    public WarmUpTask searchWarmUpTask(PostService postService,
+                                       @Value("${warmup.search-keywords:}") List<String> keywords) {
+        return WarmUpTask.of("search", iteration -> {
+            String keyword = keywords.isEmpty() ? null : keywords.get(iteration % keywords.size());
+            return postService.searchKeyword(0, PER_SIZE, keyword, PostSorting.LATEST, countMode(iteration));
+        });
+    }
+
+    /**
+     * 마이페이지 (프로필 캐시, 내가 쓴 게시글 / 댓글, 찜 목록)
+     */
+    @Bean
+    public WarmUpTask myPageWarmUpTask(MemberService memberService, PostService postService,
+                                       CommentService commentService, StoreService storeService) {
+        return WarmUpTask.of("my-page", iteration -> {
+            Long memberId = samples.memberId(iteration);
+            if (Objects.isNull(memberId)) {
+                return null;
+            }
+            memberService.getProfileVersion(memberId);
+            storeService.getVersion(memberId);
+            TotalCountMode countMode = countMode(iteration);
+            return Map.of("profile", memberService.findProfile(memberId),
+                    "posts", postService.findMyPosts(0, PER_SIZE, memberId, countMode),
+                    "comments", commentService.findMyComments(0, PER_SIZE, memberId, countMode),
+                    "zzims", storeService.find(0, PER_SIZE, memberId, countMode));
+        });
+    }
+
+    /**
+     * 인증 : 계정 + 회원 조회(토큰 재발급), access token 발급 / 검증, 폐기 여부 확인
+     * refresh token 저장, 최종 로그인 일자 기록은 하지 않는다.
+     */
+    @Bean
+    public WarmUpTask authWarmUpTask(AccountRepository accountRepository, JwtTokenProvider jwtTokenProvider,
+                                     TokenRevocationRegistry tokenRevocationRegistry,
+                                     PlatformTransactionManager transactionManager) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return WarmUpTask.of("auth", iteration -> {
+            Long accountId = samples.accountId(iteration);
+            if (Objects.isNull(accountId)) {
+                return null;
+            }
+            return readOnlyTransaction.execute(status -> accountRepository.findWithMemberByAccountId(accountId)
+                    .map(accountWithMember -> {
+                        String accessToken = jwtTokenProvider.createAccessToken(accountWithMember.getMember(), accountWithMember.getAccount());
+                        Claims claims = jwtTokenProvider.validateToken(accessToken);
+                        tokenRevocationRegistry.isRevoked(claims.getId(), claims.getExpiration());
+                        return jwtTokenProvider.getAuthentication(claims).getName();
+                    })
+                    .orElse(null));
+        });
+    }
+
+    private static TotalCountMode countMode(int iteration) {
+        return COUNT_MODES[iteration % COUNT_MODES.length];
+    }
+}
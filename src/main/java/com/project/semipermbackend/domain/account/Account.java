@@ -6,6 +6,11 @@ import com.project.semipermbackend.common.utils.FlagYnConverter;
 import com.project.semipermbackend.domain.common.BaseTimeEntity;
 import com.project.semipermbackend.member.dto.MemberCreation;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
@@ -16,6 +21,9 @@ import java.time.LocalDate;
 @Builder
 @Entity
 @Where(clause = "use_yn = true")
+@DynamicUpdate  // refresh_token, last_login_date 는 별도 update 쿼리로 갱신하므로 변경된 컬럼만 update 한다.
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "account")
+@NaturalIdCache(region = "account-natural-id")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Table(name = "account")
@@ -25,6 +33,7 @@ public class Account extends BaseTimeEntity {
     @Column(name = "account_id")
     private Long accountId;
 
+    @NaturalId
     @Column(name = "social_id", unique = true, nullable = false)
     private String socialId;
 
@@ -38,8 +47,9 @@ public class Account extends BaseTimeEntity {
     @Column(name = "social_type", length = 10, nullable = false)
     private SocialType socialType;
 
+    // refresh_token, last_login_date 는 2차 캐시를 무효화하지 않는 별도 update 쿼리로만 갱신한다. (캐시된 엔티티의 값은 오래된 값일 수 있다.)
     @Column(name="refresh_token", length = 200)
-    private String refreshToken;
+    private String refreshToken;    // SHA-256 해시 (RefreshTokenStore 참고)
 
     @Convert(converter = FlagYnConverter.class)
     @Builder.Default
@@ -64,11 +74,6 @@ public class Account extends BaseTimeEntity {
     @Column(name = "is_order_than_14", nullable = false, length = 2)
     private FlagYn isOrderThan14 = FlagYn.NO;
 
-    public void setLoginStatus(String refreshToken) {
-        this.refreshToken = refreshToken;
-        this.lastLoginDate = LocalDate.now();
-    }
-
     public void joinSuccess() {
         this.memberYn = FlagYn.YES;
     }
@@ -78,8 +83,4 @@ public class Account extends BaseTimeEntity {
         this.isOrderThan14 = memberCreation.getIsOrderThan14();
         this.agreeToADYn = memberCreation.getAgreeToADYn();
     }
-
-    public void logout() {
-        this.refreshToken = null;
-    }
 }
@@ -2,12 +2,19 @@ package com.project.semipermbackend.domain.account;
 
 import com.project.semipermbackend.auth.entity.SocialType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 @Repository
-public interface AccountRepository extends JpaRepository<Account, Long> {
+public interface AccountRepository extends JpaRepository<Account, Long>, AccountRepositoryCustom {
     Optional<Account> findBySocialTypeAndEmail(SocialType socialType, String email);
 
     Optional<Account> findByAccountId(Long accountId);
+
+    @Query("select new com.project.semipermbackend.domain.account.AccountWithMember(a, m) " +
+            "from Account a join Member m on m.account = a and m.useYn = true " +
+            "where a.accountId = :accountId")
+    Optional<AccountWithMember> findWithMemberByAccountId(@Param("accountId") Long accountId);
 }
@@ -0,0 +1,21 @@
+package com.project.semipermbackend.domain.account;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface AccountRepositoryCustom {
+    /**
+     * social_id(natural id) 로 계정 조회 (2차 캐시 : social_id -> account_id -> 계정)
+     */
+    Optional<Account> findBySocialId(String socialId);
+
+    int updateRefreshToken(Long accountId, String refreshToken);
+
+    /**
+     * 저장된 refresh token 이 refreshToken 일 때만 newRefreshToken 으로 교체한다.
+     */
+    int compareAndSetRefreshToken(Long accountId, String refreshToken, String newRefreshToken);
+
+    int updateLastLoginDate(Collection<Long> accountIds, LocalDate lastLoginDate);
+}
@@ -0,0 +1,68 @@
+package com.project.semipermbackend.domain.account;
+
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * refresh_token, last_login_date 갱신은 로그인마다 실행되므로 account 2차 캐시 영역을 비우지 않도록 native 쿼리로 실행한다.
+ * (JPQL update 는 실행할 때마다 account 영역 전체를 비운다. 두 컬럼은 엔티티 값으로 읽지 않으므로 캐시에 남은 이전 값은 사용되지 않는다.)
+ */
+public class AccountRepositoryCustomImpl implements AccountRepositoryCustom {
+    /**
+     * 갱신 쿼리의 query space : 엔티티 테이블과 겹치지 않으므로 어떤 2차 캐시 영역도 무효화하지 않는다.
+     */
+    private static final String CREDENTIAL_COLUMNS_SPACE = "account_credential_columns";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Account> findBySocialId(String socialId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Account.class)
+                .loadOptional(socialId)
+                // natural id 조회에는 @Where(use_yn) 조건이 적용되지 않는다.
+                .filter(account -> Boolean.TRUE.equals(account.getUseYn()));
+    }
+
+    @Override
+    public int updateRefreshToken(Long accountId, String refreshToken) {
+        return credentialUpdate("update account set refresh_token = :refreshToken where account_id = :accountId")
+                .setParameter("refreshToken", refreshToken, StandardBasicTypes.STRING)    // 폐기 시 null
+                .setParameter("accountId", accountId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int compareAndSetRefreshToken(Long accountId, String refreshToken, String newRefreshToken) {
+        return credentialUpdate("update account set refresh_token = :newRefreshToken " +
+                "where account_id = :accountId and refresh_token = :refreshToken")
+                .setParameter("newRefreshToken", newRefreshToken)
+                .setParameter("accountId", accountId)
+                .setParameter("refreshToken", refreshToken)
+                .executeUpdate();
+    }
+
+    @Override
+    public int updateLastLoginDate(Collection<Long> accountIds, LocalDate lastLoginDate) {
+        return credentialUpdate("update account set last_login_date = :lastLoginDate " +
+                "where account_id in (:accountIds) and (last_login_date is null or last_login_date < :lastLoginDate)")
+                .setParameterList("accountIds", accountIds)
+                .setParameter("lastLoginDate", lastLoginDate)
+                .executeUpdate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private NativeQuery<?> credentialUpdate(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(CREDENTIAL_COLUMNS_SPACE);
+    }
+}
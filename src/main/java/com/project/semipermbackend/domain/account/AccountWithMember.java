@@ -0,0 +1,21 @@
+package com.project.semipermbackend.domain.account;
+
+import com.project.semipermbackend.domain.member.Member;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * 로그인 시 계정 + 회원 조회 결과 (회원가입 전이면 member 는 null)
+ */
+@Getter
+@AllArgsConstructor
+public class AccountWithMember {
+    private final Account account;
+    private final Member member;
+
+    public Optional<Member> getOptionalMember() {
+        return Optional.ofNullable(member);
+    }
+}
@@ -1,12 +1,14 @@
 package com.project.semipermbackend.domain.code;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.project.semipermbackend.common.code.EnumMapper;
 import com.project.semipermbackend.common.error.exception.InvalidRequestDataException;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-import java.util.stream.Stream;
+import java.util.Optional;
 
+// 회원 정보에 선언 순서(ordinal)를 비트 위치로 저장하므로 상수는 끝에만 추가한다. (EnumBitmask)
 @Getter
 @RequiredArgsConstructor
 public enum MemberNeeds {
@@ -20,9 +22,7 @@ public enum MemberNeeds {
 
     @JsonCreator
     public static MemberNeeds inputStrToEnum(String input) {
-        return Stream.of(MemberNeeds.values())
-                .filter(needs -> needs.name().equals(input))
-                .findFirst()
+        return Optional.ofNullable(EnumMapper.of(MemberNeeds.class).fromName(input))
                 .orElseThrow(InvalidRequestDataException::new);
     }
 }
\ No newline at end of file
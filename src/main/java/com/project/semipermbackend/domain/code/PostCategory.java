@@ -1,14 +1,13 @@
 package com.project.semipermbackend.domain.code;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.project.semipermbackend.common.code.EnumMapper;
 import com.project.semipermbackend.common.code.EnumMapperType;
 import com.project.semipermbackend.common.error.exception.InvalidRequestDataException;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
-import java.util.stream.Stream;
+import java.util.Optional;
 
-@Slf4j
 @RequiredArgsConstructor
 public enum PostCategory implements EnumMapperType {
     WORRY("고민"),
@@ -29,13 +28,9 @@ public enum PostCategory implements EnumMapperType {
         return title;
     }
 
-
     @JsonCreator
     public static PostCategory inputStrToEnum(String input) {
-        log.info("inputStrToEnum");
-        return Stream.of(PostCategory.values())
-                .filter(category -> category.name().equals(input))
-                .findFirst()
+        return Optional.ofNullable(EnumMapper.of(PostCategory.class).fromName(input))
                 .orElseThrow(InvalidRequestDataException::new);
     }
 }
@@ -1,11 +1,10 @@
 package com.project.semipermbackend.domain.code;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.project.semipermbackend.common.code.EnumMapper;
 import com.project.semipermbackend.common.code.EnumMapperType;
 import lombok.RequiredArgsConstructor;
 
-import java.util.stream.Stream;
-
 @RequiredArgsConstructor
 public enum PostSorting implements EnumMapperType {
     POPULARITY("인기순"),
@@ -29,9 +28,6 @@ public enum PostSorting implements EnumMapperType {
     }
     @JsonCreator
     public static PostSorting inputStrToEnum(String input) {
-        return Stream.of(PostSorting.values())
-                .filter(sorting -> sorting.name().equals(input))
-                .findFirst()
-                .orElse(null);
+        return EnumMapper.of(PostSorting.class).fromName(input);
     }
 }
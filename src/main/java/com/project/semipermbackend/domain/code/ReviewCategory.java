@@ -1,9 +1,35 @@
 package com.project.semipermbackend.domain.code;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.project.semipermbackend.common.code.EnumMapper;
+import com.project.semipermbackend.common.code.EnumMapperType;
+import com.project.semipermbackend.common.error.exception.InvalidRequestDataException;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Optional;
+
+// 리뷰 카테고리는 아직 정해지지 않아 상수가 없다.
+// - 리뷰 작성 요청은 카테고리 변환(inputStrToEnum)에서 InvalidRequestDataException 으로 거부되고, /codes 의 reviewCategory 는 빈 목록이다.
+// - 시드 데이터(SeedDataRunner)와 EntityInsertBenchmark 는 리뷰를 만들지 않는다. 상수를 추가하면 SeedDataRunner 는 리뷰도 만든다.
 @RequiredArgsConstructor
-public enum ReviewCategory {
+public enum ReviewCategory implements EnumMapperType {
+    ;
+
+    private final String title;
+
+    @Override
+    public String getCode() {
+        return name();
+    }
 
+    @Override
+    public String getTitle() {
+        return title;
+    }
 
+    @JsonCreator
+    public static ReviewCategory inputStrToEnum(String input) {
+        return Optional.ofNullable(EnumMapper.of(ReviewCategory.class).fromName(input))
+                .orElseThrow(InvalidRequestDataException::new);
+    }
 }
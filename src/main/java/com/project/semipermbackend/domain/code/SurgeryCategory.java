@@ -1,12 +1,14 @@
 package com.project.semipermbackend.domain.code;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.project.semipermbackend.common.code.EnumMapper;
 import com.project.semipermbackend.common.code.EnumMapperType;
 import com.project.semipermbackend.common.error.exception.InvalidRequestDataException;
 import lombok.RequiredArgsConstructor;
 
-import java.util.stream.Stream;
+import java.util.Optional;
 
+// 회원 정보에 선언 순서(ordinal)를 비트 위치로 저장하므로 상수는 끝에만 추가한다. (EnumBitmask)
 @RequiredArgsConstructor
 public enum SurgeryCategory implements EnumMapperType {
     SMP("SMP두피"),
@@ -34,9 +36,7 @@ public enum SurgeryCategory implements EnumMapperType {
 
     @JsonCreator
     public static SurgeryCategory inputStrToEnum(String input) {
-        return Stream.of(SurgeryCategory.values())
-                .filter(category -> category.name().equals(input))
-                .findFirst()
+        return Optional.ofNullable(EnumMapper.of(SurgeryCategory.class).fromName(input))
                 .orElseThrow(InvalidRequestDataException::new);
     }
 }
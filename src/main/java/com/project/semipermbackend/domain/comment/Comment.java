@@ -4,8 +4,11 @@ import com.project.semipermbackend.comment.dto.CommentUpdateDto;
 import com.project.semipermbackend.domain.common.BaseTimeEntity;
 import com.project.semipermbackend.domain.member.Member;
 import com.project.semipermbackend.domain.post.Post;
+import com.project.semipermbackend.domain.sequence.PooledIdGenerator;
 import lombok.*;
 import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -23,7 +26,9 @@ import javax.persistence.*;
 public class Comment extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "comment_id")
+    @GenericGenerator(name = "comment_id", strategy = PooledIdGenerator.STRATEGY,
+            parameters = @Parameter(name = PooledIdGenerator.SEGMENT_VALUE_PARAM, value = "comment"))
     @Column(name = "comment_id")
     private Long commentId;
 
@@ -4,6 +4,8 @@ import com.project.semipermbackend.domain.member.Member;
 import com.project.semipermbackend.domain.post.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -11,13 +13,27 @@ import java.util.Optional;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    // 게시글 상세의 댓글 : 작성자 닉네임
+    @EntityGraph(attributePaths = "member")
     Page<Comment> findAllByPostOrderByGroupNoAscCreatedDateAsc(Pageable pageable, Post post);
 
+    @EntityGraph(attributePaths = "member")
+    Slice<Comment> findSliceByPostOrderByGroupNoAscCreatedDateAsc(Pageable pageable, Post post);
+
+    long countByPostPostId(Long postId);
+
     CommentGroupNoMapping findTopByPostOrderByGroupNoDesc(Post post);
 
     Optional<Comment> findByCommentId(Long commentId);
 
+    // 내가 쓴 댓글 : 게시글 제목
+    @EntityGraph(attributePaths = "post")
     Page<Comment> findAllByMember(Pageable pageable, Member member);
 
+    @EntityGraph(attributePaths = "post")
+    Slice<Comment> findSliceByMember(Pageable pageable, Member member);
+
+    long countByMemberMemberId(Long memberId);
+
     Optional<Comment> findByCommentIdAndMember(Long commentId, Member member);
 }
@@ -2,33 +2,48 @@ package com.project.semipermbackend.domain.member;
 
 import com.project.semipermbackend.common.code.Gender;
 import com.project.semipermbackend.common.utils.GenderConverter;
+import com.project.semipermbackend.common.utils.MemberNeedsSetConverter;
+import com.project.semipermbackend.common.utils.SurgeryCategorySetConverter;
 import com.project.semipermbackend.domain.account.Account;
 import com.project.semipermbackend.domain.code.SurgeryCategory;
 import com.project.semipermbackend.domain.code.MemberNeeds;
 import com.project.semipermbackend.domain.common.BaseTimeEntity;
+import com.project.semipermbackend.domain.sequence.PooledIdGenerator;
 import com.project.semipermbackend.domain.store.MemberZzimStore;
 import com.project.semipermbackend.member.dto.MyPageDto;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)  // 기본 생성자를 무분별하게 사용하지 못하게 하여 setter통한 불완전한 객체 생성을 막는다.
 @AllArgsConstructor
-@Table(name = "member")
+@Table(name = "member",
+        uniqueConstraints = @UniqueConstraint(name = "uk_member_nickname", columnNames = "nickname"),
+        indexes = {
+                @Index(name = "idx_member_last_modified_date", columnList = "last_modified_date"),
+                @Index(name = "idx_member_interesting_fields", columnList = "interesting_fields_mask, member_id")
+        })
 @SQLDelete(sql = "UPDATE member SET use_yn = false WHERE member_id = ?")
 @Where(clause = "use_yn = true")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")  // 관심 시술 / 필요 정보는 비트마스크 컬럼이므로 엔티티와 함께 캐시된다.
 @Builder
 public class Member extends BaseTimeEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "member_id")
+    @GenericGenerator(name = "member_id", strategy = PooledIdGenerator.STRATEGY,
+            parameters = @Parameter(name = PooledIdGenerator.SEGMENT_VALUE_PARAM, value = "member"))
     @Column(name = "member_id")
     private Long memberId;
 
@@ -43,20 +58,16 @@ public class Member extends BaseTimeEntity {
     @Column(nullable = false, length = 5)
     private Gender gender;
 
-    @ElementCollection(fetch = FetchType.LAZY)  // 바로 연달아 select문 수행 X. 필요할 때 N+1 발생
-    @CollectionTable(name = "member_interest_fields", joinColumns = @JoinColumn(name = "member_id", nullable = false))
-    @Enumerated(EnumType.STRING)    // ENUM의 name값을 Database의 저장
-    @Column(name = "field", length = 50, nullable = true)
+    // 별도 테이블 없이 비트마스크 컬럼 하나로 저장한다. (enum 선언 순서 = 비트 위치, EnumBitmask 참고)
+    @Convert(converter = SurgeryCategorySetConverter.class)
+    @Column(name = "interesting_fields_mask", nullable = false)
     @Builder.Default
-    private Set<SurgeryCategory> interestingFields = new HashSet<>();
+    private Set<SurgeryCategory> interestingFields = EnumSet.noneOf(SurgeryCategory.class);
 
-
-    @ElementCollection(fetch = FetchType.LAZY)  // 바로 연달아 select문 수행 X. 필요할 때 N+1 발생
-    @CollectionTable(name = "member_needs", joinColumns = @JoinColumn(name = "member_id", nullable = false))
-    @Enumerated(EnumType.STRING)
-    @Column(name = "needs", length = 100, nullable = true)
+    @Convert(converter = MemberNeedsSetConverter.class)
+    @Column(name = "need_informations_mask", nullable = false)
     @Builder.Default
-    private Set<MemberNeeds> needInformations = new HashSet<>();
+    private Set<MemberNeeds> needInformations = EnumSet.noneOf(MemberNeeds.class);
 
     @Column(name="nickname", nullable = false, length = 50)
     private String nickname;
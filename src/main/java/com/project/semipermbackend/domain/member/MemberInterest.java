@@ -0,0 +1,10 @@
+package com.project.semipermbackend.domain.member;
+
+/**
+ * 관심 시술로 회원 조회 결과 (keyset 페이징 커서 : interestingFieldsMask, memberId)
+ */
+public interface MemberInterest {
+    Long getMemberId();
+
+    Integer getInterestingFieldsMask();
+}
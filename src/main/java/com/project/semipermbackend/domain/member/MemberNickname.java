@@ -0,0 +1,10 @@
+package com.project.semipermbackend.domain.member;
+
+/**
+ * 닉네임 레지스트리 적재용 projection
+ */
+public interface MemberNickname {
+    Long getMemberId();
+
+    String getNickname();
+}
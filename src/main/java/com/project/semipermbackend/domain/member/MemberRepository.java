@@ -1,16 +1,79 @@
 package com.project.semipermbackend.domain.member;
 
 import com.project.semipermbackend.domain.account.Account;
+import com.project.semipermbackend.member.dto.MyPageRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByMemberId(Long memberId);
 
+    /**
+     * 계정의 회원 조회 (로그인). 쿼리 캐시 : member 테이블이 변경되면 무효화된다.
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.annotations.QueryHints.CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.annotations.QueryHints.CACHE_REGION, value = "member-by-account")
+    })
     Optional<Member> findByAccount(Account account);
 
-    Boolean existsByNickname(String nickname);
+    /**
+     * 닉네임 사용 여부 (탈퇴 회원 포함, uk_member_nickname 과 같은 범위)
+     */
+    @Query(value = "select count(*) from member where nickname = :nickname", nativeQuery = true)
+    long countByNicknameIncludingWithdrawn(@Param("nickname") String nickname);
+
+    /**
+     * 닉네임 레지스트리 적재 : member_id 기준 keyset 페이징 (탈퇴 회원 포함)
+     */
+    @Query(value = "select member_id as memberId, nickname from member " +
+            "where member_id > :afterMemberId order by member_id limit :limit", nativeQuery = true)
+    List<MemberNickname> findNicknamesAfter(@Param("afterMemberId") Long afterMemberId, @Param("limit") int limit);
+
+    /**
+     * 닉네임 레지스트리 갱신 : 이후 가입 / 수정된 회원의 닉네임
+     */
+    @Query(value = "select nickname from member where last_modified_date >= :modifiedSince", nativeQuery = true)
+    List<String> findNicknamesModifiedSince(@Param("modifiedSince") LocalDateTime modifiedSince);
+
+    /**
+     * 마이페이지 조회 : member, account 를 한 번에 조회한다. (관심 시술은 member 의 비트마스크 컬럼)
+     */
+    @Query("select new com.project.semipermbackend.member.dto.MyPageRow(" +
+            "m.nickname, a.profileImageUrl, m.birth, m.gender, m.interestingFields) " +
+            "from Member m join m.account a " +
+            "where m.memberId = :memberId")
+    Optional<MyPageRow> findMyPageRow(@Param("memberId") Long memberId);
+
+    /**
+     * 마이페이지 응답의 버전 : member, account 중 최종 수정 시각
+     */
+    @Query("select case when m.lastModifiedDate > a.lastModifiedDate then m.lastModifiedDate else a.lastModifiedDate end " +
+            "from Member m join m.account a " +
+            "where m.memberId = :memberId")
+    Optional<LocalDateTime> findMyPageModifiedDate(@Param("memberId") Long memberId);
+
+    /**
+     * 특정 관심 시술이 있는 회원 조회 (개인화 fan-out 용)
+     * - masks : 해당 비트를 포함하는 모든 마스크 (EnumBitmask.masksContaining). 비트 연산 조건 대신 in 으로 인덱스 범위 조회한다.
+     * - (interesting_fields_mask, member_id) 인덱스 순서대로 keyset 페이징한다.
+     */
+    @Query(value = "select member_id as memberId, interesting_fields_mask as interestingFieldsMask from member " +
+            "where interesting_fields_mask in (:masks) and use_yn = true " +
+            "and (interesting_fields_mask > :afterMask or (interesting_fields_mask = :afterMask and member_id > :afterMemberId)) " +
+            "order by interesting_fields_mask, member_id limit :limit", nativeQuery = true)
+    List<MemberInterest> findInterestedMembers(@Param("masks") Collection<Integer> masks,
+                                               @Param("afterMask") int afterMask,
+                                               @Param("afterMemberId") long afterMemberId,
+                                               @Param("limit") int limit);
 }
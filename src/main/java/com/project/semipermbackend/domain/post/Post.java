@@ -7,8 +7,11 @@ import com.project.semipermbackend.domain.code.SurgeryCategory;
 import com.project.semipermbackend.domain.comment.Comment;
 import com.project.semipermbackend.domain.common.BaseTimeEntity;
 import com.project.semipermbackend.domain.member.Member;
+import com.project.semipermbackend.domain.sequence.PooledIdGenerator;
 import com.project.semipermbackend.post.dto.PostUpdate;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -23,10 +26,16 @@ import java.util.List;
 @SQLDelete(sql = "UPDATE post SET use_yn = false WHERE post_id = ?")
 @Where(clause = "use_yn = true")
 @Entity
-@Table(name = "post")
+@Table(name = "post", indexes = {
+        // 피드 : 카테고리별 keyset 조회 (PostRepositoryCustomImpl.findFeedChunk)
+        @Index(name = "idx_post_surgery_category_created", columnList = "surgery_category, created_date, post_id"),
+        @Index(name = "idx_post_surgery_category_like", columnList = "surgery_category, like_count, post_id")
+})
 public class Post extends BaseTimeEntity {
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = "post_id")
+    @GenericGenerator(name = "post_id", strategy = PooledIdGenerator.STRATEGY,
+            parameters = @Parameter(name = PooledIdGenerator.SEGMENT_VALUE_PARAM, value = "post"))
     @Column(name = "post_id")
     private Long postId;
 
@@ -69,10 +78,6 @@ public class Post extends BaseTimeEntity {
         likeCount += 1;
     }
 
-    public void addViewCount() {
-        viewCount += 1;
-    }
-
     public void update(PostUpdate.RequestDto requestDto) {
         this.content = requestDto.getContent();
         this.title = requestDto.getTitle();
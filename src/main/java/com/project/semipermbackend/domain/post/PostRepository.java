@@ -3,15 +3,40 @@ package com.project.semipermbackend.domain.post;
 import com.project.semipermbackend.domain.member.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
     Optional<Post> findByPostId(Long postId);
 
+    /**
+     * 게시글 상세 조회 : 작성자를 함께 조회하고, 수정하지 않으므로 읽기 전용으로 로드한다. (스냅샷 / dirty checking 생략)
+     */
+    @EntityGraph(attributePaths = "member")
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.READ_ONLY, value = "true"))
+    Optional<Post> findWithMemberByPostId(Long postId);
+
     Page<Post> findAllByMember(Pageable pageable, Member member);
 
+    Slice<Post> findSliceByMember(Pageable pageable, Member member);
+
+    long countByMemberMemberId(Long memberId);
+
     void deleteByPostId(Long postId);
+
+    /**
+     * 조회수 증가 : 엔티티를 수정하지 않으므로 last_modified_date(게시글 버전)는 바뀌지 않는다.
+     */
+    @Modifying
+    @Query("update Post p set p.viewCount = p.viewCount + 1 where p.postId = :postId")
+    int increaseViewCount(@Param("postId") Long postId);
 }
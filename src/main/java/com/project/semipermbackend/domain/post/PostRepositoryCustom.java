@@ -1,13 +1,41 @@
 package com.project.semipermbackend.domain.post;
 
+import com.project.semipermbackend.common.utils.ResourceVersion;
 import com.project.semipermbackend.domain.code.PostCategory;
 import com.project.semipermbackend.domain.code.PostSorting;
 import com.project.semipermbackend.domain.code.SurgeryCategory;
+import com.project.semipermbackend.post.dto.FeedCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface PostRepositoryCustom {
-    Page<Post> findAllByFilteringOrderByDefaultCreatedDateDesc(Pageable pageable, SurgeryCategory surgeryCategory, PostCategory postCategory, PostSorting postSorting);
+    Page<Post> findAllByFilteringOrderByDefaultCreatedDateDesc(Pageable pageable, Collection<SurgeryCategory> surgeryCategories, PostCategory postCategory, PostSorting postSorting);
+
+    /**
+     * count 쿼리 없이 perSize + 1 건을 조회하여 다음 페이지 여부만 확인한다.
+     */
+    Slice<Post> findSliceByFiltering(Pageable pageable, Collection<SurgeryCategory> surgeryCategories, PostCategory postCategory, PostSorting postSorting);
+
+    long countByFiltering(Collection<SurgeryCategory> surgeryCategories, PostCategory postCategory);
+
+    /**
+     * 피드용 keyset 조회 : 한 시술 카테고리(null 이면 전체)에서 after 다음 게시글을 (정렬 값, postId) 내림차순으로 limit 개
+     */
+    List<Post> findFeedChunk(SurgeryCategory surgeryCategory, PostCategory postCategory, PostSorting sorting, FeedCursor after, int limit);
 
     Page<Post> findAllByTitleOrContentIsContainsIgnoreCaseOrderBySorting(Pageable pageable, String keyword, PostSorting sorting);
+
+    Slice<Post> findSliceByKeyword(Pageable pageable, String keyword, PostSorting sorting);
+
+    long countByKeyword(String keyword);
+
+    /**
+     * 게시글 상세 조회 응답의 버전 : 게시글 / 작성자 / 댓글의 최종 수정 시각 + 좋아요 수, 댓글 수 (조회수 제외)
+     */
+    Optional<ResourceVersion> findVersion(Long postId);
 }
@@ -3,19 +3,29 @@ package com.project.semipermbackend.domain.post;
 import com.project.semipermbackend.domain.code.PostCategory;
 import com.project.semipermbackend.domain.code.PostSorting;
 import com.project.semipermbackend.domain.code.SurgeryCategory;
+import com.project.semipermbackend.common.utils.PaginationUtil;
+import com.project.semipermbackend.common.utils.ResourceVersion;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.project.semipermbackend.post.dto.FeedCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
+import static com.project.semipermbackend.domain.comment.QComment.comment;
+import static com.project.semipermbackend.domain.member.QMember.member;
 import static com.project.semipermbackend.domain.post.QPost.post;
 
 @RequiredArgsConstructor
@@ -23,33 +33,64 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
     private final JPAQueryFactory query;
 
     @Override
-    public Page<Post> findAllByFilteringOrderByDefaultCreatedDateDesc(Pageable pageable, SurgeryCategory surgeryCategory, PostCategory postCategory, PostSorting postSorting) {
+    public Page<Post> findAllByFilteringOrderByDefaultCreatedDateDesc(Pageable pageable, Collection<SurgeryCategory> surgeryCategories, PostCategory postCategory, PostSorting postSorting) {
+        List<Post> posts = fetchPosts(filtering(surgeryCategories, postCategory), postSorting, pageable.getOffset(), pageable.getPageSize());
 
-        List<Post> posts = query
+        // 첫 페이지 / 마지막 페이지는 조회 결과 수로 전체 개수를 알 수 있으므로 count 쿼리를 생략한다.
+        return PageableExecutionUtils.getPage(posts, pageable, () -> countByFiltering(surgeryCategories, postCategory));
+    }
+
+    @Override
+    public Slice<Post> findSliceByFiltering(Pageable pageable, Collection<SurgeryCategory> surgeryCategories, PostCategory postCategory, PostSorting postSorting) {
+        List<Post> posts = fetchPosts(filtering(surgeryCategories, postCategory), postSorting, pageable.getOffset(), pageable.getPageSize() + 1);
+        return PaginationUtil.toSlice(posts, pageable);
+    }
+
+    @Override
+    public long countByFiltering(Collection<SurgeryCategory> surgeryCategories, PostCategory postCategory) {
+        return query
+                .select(post.count())
+                .from(post)
+                .where(filtering(surgeryCategories, postCategory))
+                .fetchOne();
+    }
+
+    @Override
+    public List<Post> findFeedChunk(SurgeryCategory surgeryCategory, PostCategory postCategory, PostSorting sorting, FeedCursor after, int limit) {
+        return query
                 .select(post)
                 .from(post)
+                .join(post.member).fetchJoin()
                 .where(
                         postCategoryEq(postCategory)
                                 .and(surgeryCategoryEq(surgeryCategory))
+                                .and(feedCursorAfter(sorting, after))
                 )
-                .orderBy(
-                        postSortingEq(postSorting)
-                )
-                .orderBy(post.createdDate.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .orderBy(feedOrder(sorting))
+                .limit(limit)
                 .fetch();
+    }
 
-        Long totalCount = query
-                .select(post.count())
-                .from(post)
-                .where(
-                        postCategoryEq(postCategory)
-                                .and(surgeryCategoryEq(surgeryCategory))
-                )
-                .fetchOne();
+    /**
+     * (정렬 값, postId) 내림차순 기준으로 after 다음 게시글. (surgery_category, 정렬 값, post_id) 인덱스 범위 조회
+     */
+    private BooleanBuilder feedCursorAfter(PostSorting sorting, FeedCursor after) {
+        if (Objects.isNull(after)) {
+            return new BooleanBuilder();
+        }
+        if (sorting == PostSorting.LIKE) {
+            return new BooleanBuilder(post.likeCount.lt(after.getLikeCount())
+                    .or(post.likeCount.eq(after.getLikeCount()).and(post.postId.lt(after.getPostId()))));
+        }
+        return new BooleanBuilder(post.createdDate.lt(after.getCreatedDate())
+                .or(post.createdDate.eq(after.getCreatedDate()).and(post.postId.lt(after.getPostId()))));
+    }
 
-        return new PageImpl<>(posts, pageable, totalCount);
+    private OrderSpecifier<?>[] feedOrder(PostSorting sorting) {
+        if (sorting == PostSorting.LIKE) {
+            return new OrderSpecifier<?>[]{post.likeCount.desc(), post.postId.desc()};
+        }
+        return new OrderSpecifier<?>[]{post.createdDate.desc(), post.postId.desc()};
     }
 
     private OrderSpecifier[] postSortingEq(PostSorting postSorting) {
@@ -70,34 +111,81 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
         return !(Objects.isNull(filteredPostCategory) || filteredPostCategory.equals(PostCategory.TOTAL)) ? new BooleanBuilder(post.postCategory.eq(filteredPostCategory)) : new BooleanBuilder();
     }
 
+    // 비어있거나 ALL 이 포함되면 필터링하지 않는다.
+    private BooleanBuilder surgeryCategoryIn(Collection<SurgeryCategory> filteredSurgeryCategories) {
+        return !(Objects.isNull(filteredSurgeryCategories) || filteredSurgeryCategories.isEmpty() || filteredSurgeryCategories.contains(SurgeryCategory.ALL)) ? new BooleanBuilder(post.surgeryCategory.in(filteredSurgeryCategories)) : new BooleanBuilder();
+    }
+
     private BooleanBuilder surgeryCategoryEq(SurgeryCategory filteredSurgeryCategory) {
         return !(Objects.isNull(filteredSurgeryCategory) || filteredSurgeryCategory.equals(SurgeryCategory.ALL)) ? new BooleanBuilder(post.surgeryCategory.eq(filteredSurgeryCategory)) : new BooleanBuilder();
     }
     @Override
     public Page<Post> findAllByTitleOrContentIsContainsIgnoreCaseOrderBySorting(Pageable pageable, String keyword, PostSorting sorting) {
-        List<Post> posts = query
+        List<Post> posts = fetchPosts(keywordContains(keyword), sorting, pageable.getOffset(), pageable.getPageSize());
+
+        return PageableExecutionUtils.getPage(posts, pageable, () -> countByKeyword(keyword));
+    }
+
+    @Override
+    public Slice<Post> findSliceByKeyword(Pageable pageable, String keyword, PostSorting sorting) {
+        List<Post> posts = fetchPosts(keywordContains(keyword), sorting, pageable.getOffset(), pageable.getPageSize() + 1);
+        return PaginationUtil.toSlice(posts, pageable);
+    }
+
+    @Override
+    public long countByKeyword(String keyword) {
+        return query
+                .select(post.count())
+                .from(post)
+                .where(keywordContains(keyword))
+                .fetchOne();
+    }
+
+    // 목록 응답에 작성자 닉네임이 포함되므로 작성자를 함께 조회한다.
+    private List<Post> fetchPosts(BooleanBuilder condition, PostSorting sorting, long offset, int limit) {
+        return query
                 .select(post)
                 .from(post)
-                .where(
-                        postTitleContains(keyword)
-                                .or(postContentContains(keyword))
-                )
+                .join(post.member, member).fetchJoin()
+                .where(condition)
                 .orderBy(postSortingEq(sorting))
                 .orderBy(post.createdDate.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .offset(offset)
+                .limit(limit)
                 .fetch();
+    }
 
-        Long totalCount = query
-                .select(post.count())
+    private BooleanBuilder filtering(Collection<SurgeryCategory> surgeryCategories, PostCategory postCategory) {
+        return postCategoryEq(postCategory)
+                .and(surgeryCategoryIn(surgeryCategories));
+    }
+
+    private BooleanBuilder keywordContains(String keyword) {
+        return postTitleContains(keyword)
+                .or(postContentContains(keyword));
+    }
+
+    @Override
+    public Optional<ResourceVersion> findVersion(Long postId) {
+        Tuple postRow = query
+                .select(post.lastModifiedDate, post.likeCount, member.lastModifiedDate)
                 .from(post)
-                .where(
-                        postTitleContains(keyword)
-                                .or(postContentContains(keyword))
-                )
+                .join(post.member, member)
+                .where(post.postId.eq(postId))
+                .fetchOne();
+        if (Objects.isNull(postRow)) {
+            return Optional.empty();
+        }
+
+        Tuple commentRow = query
+                .select(comment.count(), comment.lastModifiedDate.max())
+                .from(comment)
+                .where(comment.post.postId.eq(postId))
                 .fetchOne();
-        return new PageImpl<>(posts, pageable, totalCount);
 
+        return Optional.of(ResourceVersion.of(
+                Arrays.asList(postRow.get(post.lastModifiedDate), postRow.get(member.lastModifiedDate), commentRow.get(comment.lastModifiedDate.max())),
+                postRow.get(post.likeCount), commentRow.get(comment.count())));
     }
 
     private BooleanBuilder postContentContains(String keyword) {
@@ -3,8 +3,11 @@ package com.project.semipermbackend.domain.review;
 import com.project.semipermbackend.common.utils.ReviewCategoryConverter;
 import com.project.semipermbackend.domain.code.ReviewCategory;
 import com.project.semipermbackend.domain.common.BaseTimeEntity;
+import com.project.semipermbackend.domain.sequence.PooledIdGenerator;
 import com.project.semipermbackend.domain.store.Store;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -19,7 +22,9 @@ import javax.persistence.*;
 @Table(name = "review")
 public class Review extends BaseTimeEntity {
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = "review_id")
+    @GenericGenerator(name = "review_id", strategy = PooledIdGenerator.STRATEGY,
+            parameters = @Parameter(name = PooledIdGenerator.SEGMENT_VALUE_PARAM, value = "review"))
     @Column(name = "review_id")
     private Long id;
 
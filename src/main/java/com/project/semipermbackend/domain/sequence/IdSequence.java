@@ -0,0 +1,42 @@
+package com.project.semipermbackend.domain.sequence;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * 이름별 번호 발급 테이블. 인스턴스마다 번호를 블록 단위로 가져가 메모리에서 하나씩 사용한다.
+ * - next_val : 다음 블록의 시작 번호
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "id_sequences")
+public class IdSequence {
+    @Id
+    @Column(name = "sequence_name", length = 50)
+    private String sequenceName;
+
+    @Column(name = "next_val", nullable = false)
+    private Long nextVal;
+
+    public IdSequence(String sequenceName, Long nextVal) {
+        this.sequenceName = sequenceName;
+        this.nextVal = nextVal;
+    }
+
+    /**
+     * blockSize 만큼 번호를 가져간다.
+     * @return 가져간 블록의 시작 번호
+     */
+    public long allocateBlock(int blockSize) {
+        long blockStart = nextVal;
+        nextVal = blockStart + blockSize;
+        return blockStart;
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.semipermbackend.domain.sequence;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+/**
+ * id_sequences 테이블에서 번호 블록을 가져온다.
+ * - 호출한 쪽의 트랜잭션과 무관하게 별도 트랜잭션으로 짧게 row lock 을 잡고 바로 커밋한다.
+ * - 처음 사용하는 이름이면 0 부터 시작하는 row 를 만든다.
+ */
+@Component
+public class IdSequenceAllocator {
+    private final IdSequenceRepository idSequenceRepository;
+    private final TransactionTemplate requiresNewTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public IdSequenceAllocator(IdSequenceRepository idSequenceRepository, PlatformTransactionManager transactionManager) {
+        this.idSequenceRepository = idSequenceRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return [시작 번호, 시작 번호 + blockSize) 블록의 시작 번호
+     */
+    public long allocateBlock(String sequenceName, int blockSize) {
+        try {
+            return requiresNewTransaction.execute(status -> idSequenceRepository.findForUpdate(sequenceName)
+                    .orElseGet(() -> {
+                        IdSequence idSequence = new IdSequence(sequenceName, 0L);
+                        entityManager.persist(idSequence);
+                        return idSequence;
+                    })
+                    .allocateBlock(blockSize));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 동시에 row 를 만든 경우
+            return requiresNewTransaction.execute(status -> idSequenceRepository.findForUpdate(sequenceName)
+                    .orElseThrow(() -> e)
+                    .allocateBlock(blockSize));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.semipermbackend.domain.sequence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+@Repository
+public interface IdSequenceRepository extends JpaRepository<IdSequence, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from IdSequence s where s.sequenceName = :sequenceName")
+    Optional<IdSequence> findForUpdate(@Param("sequenceName") String sequenceName);
+}
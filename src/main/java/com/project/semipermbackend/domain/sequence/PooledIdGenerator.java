@@ -0,0 +1,35 @@
+package com.project.semipermbackend.domain.sequence;
+
+import org.hibernate.MappingException;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * 엔티티 id 발급기 : id_sequences 테이블(IdSequence 와 같은 테이블)의 엔티티별 row 에서 블록 단위로 번호를 가져온다. (pooled-lo)
+ * - next_val 을 increment_size 만큼 올리고 [이전 next_val, 새 next_val) 구간을 메모리에서 하나씩 사용한다.
+ *   insert 마다 sequence 조회/갱신을 하지 않고, IDENTITY 와 달리 id 를 insert 전에 알 수 있어 JDBC batch insert 가 가능하다.
+ * - 인스턴스마다 블록을 따로 가져가므로 id 는 인스턴스 간 순서가 섞일 수 있고, 재시작 시 쓰지 않은 번호는 건너뛴다.
+ *
+ * ex) @GeneratedValue(generator = "post_id")
+ *     @GenericGenerator(name = "post_id", strategy = PooledIdGenerator.STRATEGY,
+ *                       parameters = @Parameter(name = PooledIdGenerator.SEGMENT_VALUE_PARAM, value = "post"))
+ */
+public class PooledIdGenerator extends TableGenerator {
+    public static final String STRATEGY = "com.project.semipermbackend.domain.sequence.PooledIdGenerator";
+    public static final int DEFAULT_INCREMENT_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        params.putIfAbsent(TABLE_PARAM, "id_sequences");
+        params.putIfAbsent(SEGMENT_COLUMN_PARAM, "sequence_name");
+        params.putIfAbsent(SEGMENT_LENGTH_PARAM, "50");
+        params.putIfAbsent(VALUE_COLUMN_PARAM, "next_val");
+        params.putIfAbsent(INITIAL_PARAM, "1");
+        params.putIfAbsent(INCREMENT_PARAM, String.valueOf(DEFAULT_INCREMENT_SIZE));
+        params.putIfAbsent(OPT_PARAM, "pooled-lo");
+        super.configure(type, params, serviceRegistry);
+    }
+}
@@ -3,7 +3,10 @@ package com.project.semipermbackend.domain.store;
 
 import com.project.semipermbackend.domain.common.BaseTimeEntity;
 import com.project.semipermbackend.domain.member.Member;
+import com.project.semipermbackend.domain.sequence.PooledIdGenerator;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -19,7 +22,10 @@ import javax.persistence.*;
 @Entity
 @Table(name = "MEMBER_ZZIM_STORE")
 public class MemberZzimStore extends BaseTimeEntity {
-    @Id @GeneratedValue
+    @Id
+    @GeneratedValue(generator = "member_zzim_store_id")
+    @GenericGenerator(name = "member_zzim_store_id", strategy = PooledIdGenerator.STRATEGY,
+            parameters = @Parameter(name = PooledIdGenerator.SEGMENT_VALUE_PARAM, value = "member_zzim_store"))
     @Column(name = "member_zzim_store_id")
     private Long memberZzimStoreId;
 
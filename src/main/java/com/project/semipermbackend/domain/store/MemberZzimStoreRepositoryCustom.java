@@ -1,11 +1,22 @@
 package com.project.semipermbackend.domain.store;
 
+import com.project.semipermbackend.common.utils.ResourceVersion;
 import com.project.semipermbackend.domain.code.PostSorting;
 import com.project.semipermbackend.domain.member.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface MemberZzimStoreRepositoryCustom {
     Page<MemberZzimStore> findAllByMemberOrderBy(Pageable pageable, Member member, PostSorting sorting);
 
+    Slice<MemberZzimStore> findSliceByMemberOrderBy(Pageable pageable, Member member, PostSorting sorting);
+
+    long countByMemberId(Long memberId);
+
+    /**
+     * 나의 찜 목록 응답의 버전 : 찜 / 사업장의 최종 수정 시각 + 찜 수
+     */
+    ResourceVersion findVersion(Long memberId);
+
 }
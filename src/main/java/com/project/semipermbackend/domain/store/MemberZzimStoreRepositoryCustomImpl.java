@@ -1,19 +1,25 @@
 package com.project.semipermbackend.domain.store;
 
+import com.project.semipermbackend.common.utils.PaginationUtil;
+import com.project.semipermbackend.common.utils.ResourceVersion;
 import com.project.semipermbackend.domain.code.PostSorting;
 import com.project.semipermbackend.domain.member.Member;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static com.project.semipermbackend.domain.store.QMemberZzimStore.memberZzimStore;
+import static com.project.semipermbackend.domain.store.QStore.store;
 
 @RequiredArgsConstructor
 public class MemberZzimStoreRepositoryCustomImpl implements MemberZzimStoreRepositoryCustom {
@@ -22,24 +28,53 @@ public class MemberZzimStoreRepositoryCustomImpl implements MemberZzimStoreRepos
     // TODO 테스트 필요
     @Override
     public Page<MemberZzimStore> findAllByMemberOrderBy(Pageable pageable, Member member, PostSorting sorting) {
-        List<MemberZzimStore> memberZzimStores = query
+        List<MemberZzimStore> memberZzimStores = fetchMemberZzimStores(member, sorting, pageable.getOffset(), pageable.getPageSize());
+
+        return PageableExecutionUtils.getPage(memberZzimStores, pageable, () -> countByMemberId(member.getMemberId()));
+    }
+
+    @Override
+    public Slice<MemberZzimStore> findSliceByMemberOrderBy(Pageable pageable, Member member, PostSorting sorting) {
+        List<MemberZzimStore> memberZzimStores = fetchMemberZzimStores(member, sorting, pageable.getOffset(), pageable.getPageSize() + 1);
+        return PaginationUtil.toSlice(memberZzimStores, pageable);
+    }
+
+    @Override
+    public long countByMemberId(Long memberId) {
+        return query
+                .select(memberZzimStore.count())
+                .where(memberZzimStore.member.memberId.eq(memberId))
+                .from(memberZzimStore)
+                .fetchOne();
+    }
+
+    // 응답에 사업장 정보가 포함되므로 사업장을 함께 조회한다.
+    private List<MemberZzimStore> fetchMemberZzimStores(Member member, PostSorting sorting, long offset, int limit) {
+        return query
                 .select(memberZzimStore)
                 .from(memberZzimStore)
+                .join(memberZzimStore.store, store).fetchJoin()
                 .where(memberZzimStore.member.memberId.eq(member.getMemberId()))
                 .orderBy(
                         postSortingEq(sorting)
                 )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .offset(offset)
+                .limit(limit)
                 .fetch();
+    }
 
-        Long totalCount = query
-                .select(memberZzimStore.count())
-                .where(memberZzimStore.member.memberId.eq(member.getMemberId()))
+    @Override
+    public ResourceVersion findVersion(Long memberId) {
+        Tuple row = query
+                .select(memberZzimStore.count(), memberZzimStore.lastModifiedDate.max(), store.lastModifiedDate.max())
                 .from(memberZzimStore)
+                .join(memberZzimStore.store, store)
+                .where(memberZzimStore.member.memberId.eq(memberId))
                 .fetchOne();
 
-        return new PageImpl<>(memberZzimStores, pageable, totalCount);
+        return ResourceVersion.of(
+                Arrays.asList(row.get(memberZzimStore.lastModifiedDate.max()), row.get(store.lastModifiedDate.max())),
+                row.get(memberZzimStore.count()), memberId);
     }
 
     private OrderSpecifier[] postSortingEq(PostSorting postSorting) {
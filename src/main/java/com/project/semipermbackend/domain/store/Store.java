@@ -3,6 +3,8 @@ package com.project.semipermbackend.domain.store;
 import com.project.semipermbackend.domain.common.BaseTimeEntity;
 import com.project.semipermbackend.domain.review.Review;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -15,6 +17,7 @@ import java.util.List;
 @SQLDelete(sql = "UPDATE store SET use_yn = false WHERE encoded_place_id = ?")
 @Where(clause = "use_yn = true")
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "store")  // 카카오 장소 id(encoded_place_id)가 id 이므로 id 로 조회하면 캐시를 사용한다.
 @Table(name = "store")
 public class Store extends BaseTimeEntity {
     @Id
@@ -3,11 +3,9 @@ package com.project.semipermbackend.domain.store;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-
+/**
+ * 사업장 조회는 findById(encodedPlaceId) 를 사용한다. (2차 캐시)
+ */
 @Repository
 public interface StoreRepository extends JpaRepository<Store, String> {
-
-
-    Optional<Store> getStoreByEncodedPlaceId(String encodedPlaceId);
 }
@@ -0,0 +1,39 @@
+package com.project.semipermbackend.domain.token;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 만료 전에 폐기(로그아웃)된 access token.
+ * 재기동/다른 인스턴스에서 폐기 목록(TokenRevocationRegistry)을 다시 만들 때 사용하며, 만료 시각이 지나면 삭제한다.
+ */
+@Getter
+@Builder
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "revoked_token", indexes = {
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_revoked_token_revoked_at", columnList = "revoked_at")
+})
+public class RevokedToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "revoked_token_id")
+    private Long revokedTokenId;
+
+    @Column(name = "jti", length = 36, nullable = false, unique = true)
+    private String jti;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder.Default
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt = LocalDateTime.now();
+}
@@ -0,0 +1,25 @@
+package com.project.semipermbackend.domain.token;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    /**
+     * revokedAfter 이후에 폐기된, 아직 만료되지 않은 토큰 조회
+     */
+    @Query("select r from RevokedToken r where r.revokedAt > :revokedAfter and r.expiresAt > :now")
+    List<RevokedToken> findActiveRevokedAfter(@Param("revokedAfter") LocalDateTime revokedAfter,
+                                              @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -4,11 +4,13 @@ import com.project.semipermbackend.auth.jwt.JwtTokenProvider;
 import com.project.semipermbackend.common.dto.ApiResultDto;
 import com.project.semipermbackend.member.dto.MemberCreation;
 import com.project.semipermbackend.member.dto.MyPageDto;
+import com.project.semipermbackend.member.dto.NicknameAvailabilityDto;
 import com.project.semipermbackend.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import javax.validation.Valid;
 
@@ -29,22 +31,35 @@ public class MemberController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    /**
+     * 닉네임 사용 가능 여부 (입력 중 실시간 확인, 대부분 메모리에서 응답)
+     */
+    @GetMapping("/nickname/availability")
+    public ResponseEntity<ApiResultDto<NicknameAvailabilityDto>> nicknameAvailability(
+            @RequestParam String nickname) {
+        boolean available = memberService.isNicknameAvailable(nickname);
+        return ResponseEntity.ok(ApiResultDto.success(new NicknameAvailabilityDto(nickname, available)));
+    }
+
     @DeleteMapping("/logout")
     public ResponseEntity<Void> logout() {
         Long accountId = JwtTokenProvider.getAccountIdFromContext();
 
-        memberService.logout(accountId);
+        memberService.logout(accountId, JwtTokenProvider.getClaimsFromContext());
         return ResponseEntity.ok().build();
     }
 
     /**
-     * 마이페이지(프로필) 조회
+     * 마이페이지(프로필) 조회 (변경되지 않았으면 본문 없이 304)
      */
     @GetMapping("/mypage")
-    public ResponseEntity<ApiResultDto<MyPageDto>> profileDetails() {
+    public ResponseEntity<ApiResultDto<MyPageDto>> profileDetails(ServletWebRequest webRequest) {
         Long memberId = JwtTokenProvider.getMemberIdFromContext();
+        if (memberService.getProfileVersion(memberId).checkNotModified(webRequest)) {
+            return null;
+        }
 
-        return new ResponseEntity<>(ApiResultDto.success(memberService.findProfile(memberId)), HttpStatus.FOUND);
+        return ResponseEntity.ok(ApiResultDto.success(memberService.findProfile(memberId)));
     }
 
     /**
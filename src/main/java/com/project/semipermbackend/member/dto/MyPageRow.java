@@ -0,0 +1,22 @@
+package com.project.semipermbackend.member.dto;
+
+import com.project.semipermbackend.common.code.Gender;
+import com.project.semipermbackend.domain.code.SurgeryCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * 마이페이지 조회 projection 결과
+ */
+@Getter
+@AllArgsConstructor
+public class MyPageRow {
+    private String nickname;
+    private String profileImageUrl;
+    private LocalDate birth;
+    private Gender gender;
+    private Set<SurgeryCategory> interestingFields;
+}
@@ -0,0 +1,11 @@
+package com.project.semipermbackend.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NicknameAvailabilityDto {
+    private String nickname;
+    private boolean available;
+}
@@ -0,0 +1,58 @@
+package com.project.semipermbackend.member.service;
+
+import com.project.semipermbackend.common.error.ErrorCode;
+import com.project.semipermbackend.common.error.exception.EntityNotFoundException;
+import com.project.semipermbackend.domain.member.Member;
+import com.project.semipermbackend.domain.member.MemberRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnitUtil;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 요청 단위로 회원 엔티티 접근을 관리한다.
+ * - FK 로만 사용하는 경우 : getReference() 로 select 없이 프록시를 사용한다. (jwt 의 memberId 는 검증된 값)
+ *   없는 회원 id 는 insert 시 FK 제약으로 실패한다. 회원 탈퇴 시에는 토큰을 폐기(TokenRevocationRegistry)해야 한다.
+ * - 작성자 확인 : isOwner() 로 프록시를 초기화하지 않고 id 만 비교한다.
+ * - 회원 정보가 필요한 경우 : getMember() 로 요청당 최대 1번만 조회한다.
+ */
+@Component
+@RequestScope
+public class MemberContext {
+    private final MemberRepository memberRepository;
+    private final PersistenceUnitUtil persistenceUnitUtil;
+
+    private final Map<Long, Member> loadedMembers = new HashMap<>();
+
+    public MemberContext(MemberRepository memberRepository, EntityManagerFactory entityManagerFactory) {
+        this.memberRepository = memberRepository;
+        this.persistenceUnitUtil = entityManagerFactory.getPersistenceUnitUtil();
+    }
+
+    /**
+     * select 없이 FK 용 프록시 반환
+     */
+    public Member getReference(Long memberId) {
+        Member loadedMember = loadedMembers.get(memberId);
+        return loadedMember != null ? loadedMember : memberRepository.getReferenceById(memberId);
+    }
+
+    /**
+     * 회원 조회 (요청 내에서 한 번만 조회한다.)
+     */
+    public Member getMember(Long memberId) {
+        return loadedMembers.computeIfAbsent(memberId, id -> memberRepository.findByMemberId(id)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER)));
+    }
+
+    /**
+     * owner(프록시 포함)가 memberId 의 회원인지 확인한다. 프록시를 초기화하지 않는다.
+     */
+    public boolean isOwner(Long memberId, Member owner) {
+        return Objects.nonNull(owner) && memberId.equals(persistenceUnitUtil.getIdentifier(owner));
+    }
+}
@@ -1,28 +1,48 @@
 package com.project.semipermbackend.member.service;
 
+import com.project.semipermbackend.auth.jwt.TokenRevocationRegistry;
+import com.project.semipermbackend.auth.token.RefreshTokenStore;
 import com.project.semipermbackend.common.error.ErrorCode;
 import com.project.semipermbackend.common.error.exception.EntityAlreadyExistsException;
 import com.project.semipermbackend.common.error.exception.EntityNotFoundException;
+import com.project.semipermbackend.common.error.exception.InvalidRequestDataException;
+import com.project.semipermbackend.common.utils.EnumBitmask;
+import com.project.semipermbackend.common.utils.ResourceVersion;
+import com.project.semipermbackend.domain.code.SurgeryCategory;
 import com.project.semipermbackend.member.dto.MyPageDto;
+import com.project.semipermbackend.member.dto.MyPageRow;
 import com.project.semipermbackend.member.exception.UnauthenticatedUserException;
-import com.project.semipermbackend.common.utils.StringUtils;
 import com.project.semipermbackend.domain.account.Account;
 import com.project.semipermbackend.domain.account.AccountRepository;
 import com.project.semipermbackend.domain.member.Member;
+import com.project.semipermbackend.domain.member.MemberInterest;
 import com.project.semipermbackend.domain.member.MemberRepository;
 import com.project.semipermbackend.member.dto.MemberCreation;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 
 @RequiredArgsConstructor
 @Service
 public class MemberService {
+    private static final int NICKNAME_MAX_LENGTH = 50;
+
     private final MemberRepository memberRepository;
     private final AccountRepository accountRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final MyPageCache myPageCache;
+    private final NicknameAllocator nicknameAllocator;
+    private final NicknameRegistry nicknameRegistry;
 
     @Transactional
     public void join(MemberCreation.RequestDto memberCreation) {
@@ -34,8 +54,11 @@ public class MemberService {
         account.saveAgreeYnInfos(memberCreation);
 
         // 2. 멤버 테이블 insert
-        String randomNickname = StringUtils.makeRandomNickname(account.getSocialType());
-        // TODO 생성된 닉네임이 중복인지 체크 필요
+        // 발급 닉네임끼리는 겹치지 않지만, 이전 방식으로 만들어진 닉네임과 겹치면 다시 발급한다. (대부분 메모리에서 확인)
+        String randomNickname;
+        do {
+            randomNickname = nicknameAllocator.allocate(account.getSocialType());
+        } while (nicknameRegistry.isTaken(randomNickname));
 
         Member member = Member.builder()
                 .gender(memberCreation.getGender())
@@ -47,37 +70,66 @@ public class MemberService {
                 .build();
 
         // 3. 회원가입 처리 (insert)
-        memberRepository.save(member);
+        Member savedMember = memberRepository.save(member);
+        nicknameRegistry.register(randomNickname);
         account.saveAgreeYnInfos(memberCreation);
         account.joinSuccess();
+        myPageCache.invalidate(savedMember.getMemberId());
     }
 
+    /**
+     * 마이페이지 조회 (캐시, 없으면 projection 쿼리 1회로 조회)
+     */
+    @Transactional(readOnly = true)
     public MyPageDto findProfile(Long memberId) {
-        Member member = memberRepository.findByMemberId(memberId)
+        return myPageCache.get(memberId, this::loadProfile);
+    }
+
+    /**
+     * 마이페이지 응답의 버전 (조건부 조회)
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getProfileVersion(Long memberId) {
+        return memberRepository.findMyPageModifiedDate(memberId)
+                .map(modifiedDate -> ResourceVersion.of(List.of(modifiedDate), memberId))
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER));
+    }
+
+    private MyPageDto loadProfile(Long memberId) {
+        MyPageRow row = memberRepository.findMyPageRow(memberId)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER));
 
         return MyPageDto.builder()
-                .nickname(member.getNickname())
-                .profileImageUrl(member.getAccount().getProfileImageUrl())
-                .birth(member.getBirth())
-                .gender(member.getGender())
-                .interestingFields(member.getInterestingFields())
+                .nickname(row.getNickname())
+                .profileImageUrl(row.getProfileImageUrl())
+                .birth(row.getBirth())
+                .gender(row.getGender())
+                .interestingFields(Collections.unmodifiableSet(row.getInterestingFields()))
                 .build();
     }
 
-    public Optional<Member> getMemberByMemberId(Long memberId) {
-        return memberRepository.findByMemberId(memberId);
+    /**
+     * category 에 관심있는 회원 조회 (keyset 페이징, 처음 조회 시 afterMask / afterMemberId 는 null)
+     */
+    @Transactional(readOnly = true)
+    public List<MemberInterest> findMembersInterestedIn(SurgeryCategory category, Integer afterMask, Long afterMemberId, int size) {
+        return memberRepository.findInterestedMembers(EnumBitmask.masksContaining(category),
+                Objects.isNull(afterMask) ? -1 : afterMask,
+                Objects.isNull(afterMemberId) ? 0L : afterMemberId,
+                size);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Member> getMemberByAccount(Account account) {
         return memberRepository.findByAccount(account);
     }
 
-    @Transactional
-    public void logout(Long accountId) {
-        Account account = accountRepository.findByAccountId(accountId)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_ACCOUNT, accountId));
-        account.logout();
+    /**
+     * refresh token 폐기 + 현재 access token 을 만료 시각까지 사용할 수 없도록 폐기
+     */
+    public void logout(Long accountId, Claims accessTokenClaims) {
+        refreshTokenStore.revoke(accountId);
+        tokenRevocationRegistry.revoke(accessTokenClaims.getId(), accountId, accessTokenClaims.getExpiration());
     }
 
     // TODO image url 수정 필요하면 account 업데이트해야함.
@@ -86,13 +138,43 @@ public class MemberService {
         Member member = memberRepository.findByMemberId(memberId)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER));
 
-        Boolean nicknameDuplCheck = memberRepository.existsByNickname(mypageDto.getNickname());
-        if (nicknameDuplCheck) {
-            throw new EntityAlreadyExistsException(ErrorCode.SAME_NICKNAME_EXISTS);
+        String nickname = mypageDto.getNickname();
+        boolean nicknameChanged = !Objects.equals(member.getNickname(), nickname);
+        if (nicknameChanged) {
+            checkNicknameAvailable(nickname);
         }
 
-        // TODO 왜 member_interest_fields 테이블 update 아닌 delete/insert 되지?
         member.updateMyInfo(mypageDto);
+        if (nicknameChanged) {
+            // 다른 인스턴스에서 방금 선점한 닉네임은 unique index 로 걸러진다.
+            try {
+                memberRepository.flush();
+            } catch (DataIntegrityViolationException e) {
+                throw new EntityAlreadyExistsException(ErrorCode.SAME_NICKNAME_EXISTS);
+            }
+            nicknameRegistry.register(nickname);
+        }
+        myPageCache.invalidate(memberId);
+    }
+
+    /**
+     * 닉네임 사용 가능 여부 (회원가입 / 프로필 수정 화면의 실시간 확인용)
+     */
+    public boolean isNicknameAvailable(String nickname) {
+        if (!StringUtils.hasText(nickname) || nickname.length() > NICKNAME_MAX_LENGTH) {
+            return false;
+        }
+        return !NicknameAllocator.isGeneratedFormat(nickname) && !nicknameRegistry.isTaken(nickname);
+    }
+
+    private void checkNicknameAvailable(String nickname) {
+        // 자동 발급 닉네임 형식은 발급 예정 번호와 겹칠 수 있으므로 직접 사용할 수 없다.
+        if (NicknameAllocator.isGeneratedFormat(nickname)) {
+            throw new InvalidRequestDataException(ErrorCode.RESERVED_NICKNAME);
+        }
+        if (nicknameRegistry.isTaken(nickname)) {
+            throw new EntityAlreadyExistsException(ErrorCode.SAME_NICKNAME_EXISTS);
+        }
     }
 
     @Transactional
@@ -100,5 +182,6 @@ public class MemberService {
         Member member = memberRepository.findByMemberId(memberId)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER));
         member.updateMyInterestingSurgery(mypageDto);
+        myPageCache.invalidate(memberId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.project.semipermbackend.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.semipermbackend.member.dto.MyPageDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 회원별 마이페이지 조회 결과 캐시.
+ * - 회원 정보 변경 시 트랜잭션 커밋 후에 무효화한다. (커밋 전 조회로 이전 값이 다시 캐싱되는 것 방지)
+ * - 다른 인스턴스에서 변경된 경우를 위해 ttl 이 지나면 만료된다.
+ */
+@Component
+public class MyPageCache {
+    private static final String CACHE_NAME = "myPage";
+
+    private final Cache<Long, MyPageDto> cache;
+
+    public MyPageCache(MeterRegistry meterRegistry,
+                       @Value("${member.mypage-cache.ttl-sec:600}") long ttlSec,
+                       @Value("${member.mypage-cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSec))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public MyPageDto get(Long memberId, Function<Long, MyPageDto> loader) {
+        return cache.get(memberId, loader);
+    }
+
+    public void invalidate(Long memberId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(memberId);
+                }
+            });
+            return;
+        }
+        cache.invalidate(memberId);
+    }
+}
@@ -0,0 +1,122 @@
+package com.project.semipermbackend.member.service;
+
+import com.project.semipermbackend.auth.entity.SocialType;
+import com.project.semipermbackend.common.utils.FeistelPermutation;
+import com.project.semipermbackend.domain.sequence.IdSequenceAllocator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 회원가입 시 부여하는 랜덤 닉네임(소셜타입_9자리 숫자)을 중복 없이 발급한다.
+ * - 번호는 id_sequences 에서 인스턴스별로 블록 단위로 가져오므로 인스턴스 간에도 겹치지 않는다.
+ * - 순차 번호를 키 기반 순열(FeistelPermutation)로 섞어 [0, 10^9) 범위의 랜덤해 보이는 번호로 바꾼다. (일대일 대응)
+ * - 블록을 다 쓰기 전에 다음 블록을 미리 가져오므로 회원가입 요청에서는 DB 를 조회하지 않는다.
+ * 발급된 닉네임이 바뀌지 않도록 member.nickname.permutation-key 는 운영 중에 변경하면 안 된다.
+ */
+@Slf4j
+@Component
+public class NicknameAllocator {
+    static final String SEQUENCE_NAME = "member_nickname";
+    private static final long NUMBER_SPACE = 1_000_000_000L;
+    private static final String NUMBER_FORMAT = "%09d";
+
+    // 자동 발급 닉네임 형식. 사용자가 직접 이 형식으로 변경하는 것은 막는다.
+    private static final Pattern GENERATED_NICKNAME_PATTERN = Pattern.compile(
+            Arrays.stream(SocialType.values())
+                    .map(SocialType::getSocialName)
+                    .collect(Collectors.joining("|", "^(", ")_\\d{9}$")));
+
+    private final IdSequenceAllocator idSequenceAllocator;
+    private final FeistelPermutation permutation;
+    private final int blockSize;
+    private final int prefetchThreshold;
+    private final ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "nickname-block-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long nextNumber;
+    private long blockEnd;
+    private CompletableFuture<Long> nextBlock;
+
+    public NicknameAllocator(IdSequenceAllocator idSequenceAllocator,
+                             @Value("${member.nickname.permutation-key}") String permutationKey,
+                             @Value("${member.nickname.block-size:1000}") int blockSize) {
+        this.idSequenceAllocator = idSequenceAllocator;
+        this.permutation = new FeistelPermutation(NUMBER_SPACE, permutationKey);
+        this.blockSize = blockSize;
+        this.prefetchThreshold = Math.max(1, blockSize / 5);
+    }
+
+    /**
+     * 기동 완료 후 첫 블록을 미리 가져온다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void prefetchOnStartup() {
+        prefetchNextBlock();
+    }
+
+    public String allocate(SocialType socialType) {
+        return socialType.getSocialName() + "_" + String.format(NUMBER_FORMAT, permutation.permute(nextSequence()));
+    }
+
+    public static boolean isGeneratedFormat(String nickname) {
+        return nickname != null && GENERATED_NICKNAME_PATTERN.matcher(nickname).matches();
+    }
+
+    private synchronized long nextSequence() {
+        if (nextNumber >= blockEnd) {
+            long blockStart = takeNextBlock();
+            nextNumber = blockStart;
+            blockEnd = blockStart + blockSize;
+        }
+        if (blockEnd - nextNumber == prefetchThreshold) {
+            prefetchNextBlock();
+        }
+        long sequence = nextNumber++;
+        if (sequence >= NUMBER_SPACE) {
+            throw new IllegalStateException("발급 가능한 닉네임 번호를 모두 사용하였습니다.");
+        }
+        return sequence;
+    }
+
+    private long takeNextBlock() {
+        if (nextBlock == null) {
+            // 미리 가져온 블록이 없는 경우 (기동 직후 / 가입 폭주) 에만 요청 스레드에서 조회한다.
+            log.warn("미리 가져온 닉네임 번호 블록이 없어 요청 중에 조회합니다.");
+            return idSequenceAllocator.allocateBlock(SEQUENCE_NAME, blockSize);
+        }
+        CompletableFuture<Long> block = nextBlock;
+        nextBlock = null;
+        try {
+            return block.join();
+        } catch (RuntimeException e) {
+            log.warn("닉네임 번호 블록을 미리 가져오지 못하여 다시 조회합니다.", e);
+            return idSequenceAllocator.allocateBlock(SEQUENCE_NAME, blockSize);
+        }
+    }
+
+    private void prefetchNextBlock() {
+        if (nextBlock == null) {
+            nextBlock = CompletableFuture.supplyAsync(
+                    () -> idSequenceAllocator.allocateBlock(SEQUENCE_NAME, blockSize), prefetchExecutor);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prefetchExecutor.shutdownNow();
+    }
+}
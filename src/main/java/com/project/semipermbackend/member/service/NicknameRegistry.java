@@ -0,0 +1,149 @@
+package com.project.semipermbackend.member.service;
+
+import com.project.semipermbackend.common.utils.BloomFilter;
+import com.project.semipermbackend.domain.member.MemberNickname;
+import com.project.semipermbackend.domain.member.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용 중인 닉네임 전체에 대한 블룸 필터. 닉네임 중복 확인 시 "확실히 없는" 경우는 DB 를 조회하지 않는다.
+ * - 필터에 없으면 사용 가능, 필터에 있으면(오탐 가능) DB 로 확인한다.
+ * - 기동 시 전체를 불러오고, 이후 주기적으로 가입 / 수정된 회원의 닉네임만 추가한다. (다른 인스턴스 반영)
+ * - 블룸 필터는 삭제가 불가능하므로 변경 전 닉네임은 남아있다. (오탐으로 처리되어 DB 로 확인)
+ *   들어간 수가 예상치를 넘으면 크기를 늘려 다시 만든다.
+ * - 갱신 주기 사이에 다른 인스턴스에서 선점한 닉네임은 uk_member_nickname 으로 막는다.
+ */
+@Slf4j
+@Component
+public class NicknameRegistry {
+    private final MemberRepository memberRepository;
+    private final double falsePositiveRate;
+    private final int loadPageSize;
+    private final long refreshOverlapMillis;
+
+    private volatile Filter filter;
+    private volatile boolean loaded = false;
+    private volatile LocalDateTime lastRefreshedAt;
+
+    private final Counter filterMissCounter;
+    private final Counter databaseLookupCounter;
+
+    public NicknameRegistry(MemberRepository memberRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${member.nickname.filter.expected-insertions:1000000}") long expectedInsertions,
+                            @Value("${member.nickname.filter.false-positive-rate:0.01}") double falsePositiveRate,
+                            @Value("${member.nickname.filter.load-page-size:10000}") int loadPageSize,
+                            @Value("${member.nickname.filter.refresh-interval-ms:10000}") long refreshIntervalMillis) {
+        this.memberRepository = memberRepository;
+        this.falsePositiveRate = falsePositiveRate;
+        this.loadPageSize = loadPageSize;
+        // 커밋 지연, 서버 간 시간 차이를 고려하여 이전 갱신 시점보다 조금 앞에서부터 다시 읽는다.
+        this.refreshOverlapMillis = refreshIntervalMillis + TimeUnit.MINUTES.toMillis(1);
+        this.filter = new Filter(expectedInsertions);
+
+        Gauge.builder("member.nickname.registry.size", this, registry -> registry.filter.count.get())
+                .register(meterRegistry);
+        this.filterMissCounter = Counter.builder("member.nickname.lookup").tag("result", "filter-miss")
+                .register(meterRegistry);
+        this.databaseLookupCounter = Counter.builder("member.nickname.lookup").tag("result", "database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미 사용 중인 닉네임인지 확인한다. 필터에 없으면 DB 를 조회하지 않는다.
+     */
+    public boolean isTaken(String nickname) {
+        if (loaded && !filter.bloomFilter.mightContain(nickname)) {
+            filterMissCounter.increment();
+            return false;
+        }
+        databaseLookupCounter.increment();
+        return memberRepository.countByNicknameIncludingWithdrawn(nickname) > 0;
+    }
+
+    /**
+     * 이 인스턴스에서 사용한 닉네임은 갱신 주기를 기다리지 않고 바로 추가한다.
+     * 커밋되지 않더라도 오탐이 하나 늘어날 뿐이다.
+     */
+    public void register(String nickname) {
+        filter.put(nickname);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild(filter.expectedInsertions);
+        log.info("닉네임 {} 건을 불러왔습니다.", filter.count.get());
+    }
+
+    @Scheduled(fixedDelayString = "${member.nickname.filter.refresh-interval-ms:10000}",
+            initialDelayString = "${member.nickname.filter.refresh-interval-ms:10000}")
+    public synchronized void refresh() {
+        if (!loaded) {
+            return;
+        }
+        if (filter.count.get() > filter.expectedInsertions) {
+            rebuild(filter.expectedInsertions * 2);
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime modifiedSince = lastRefreshedAt.minusNanos(TimeUnit.MILLISECONDS.toNanos(refreshOverlapMillis));
+        memberRepository.findNicknamesModifiedSince(modifiedSince).forEach(filter::put);
+        lastRefreshedAt = now;
+    }
+
+    /**
+     * 전체 닉네임으로 필터를 새로 만들어 교체한다.
+     * 만드는 동안 추가된 닉네임은 다음 갱신 때 last_modified_date 로 다시 읽힌다.
+     */
+    private synchronized void rebuild(long expectedInsertions) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Filter rebuilt = new Filter(expectedInsertions);
+        long afterMemberId = 0L;
+        List<MemberNickname> page;
+        do {
+            page = memberRepository.findNicknamesAfter(afterMemberId, loadPageSize);
+            for (MemberNickname memberNickname : page) {
+                rebuilt.put(memberNickname.getNickname());
+            }
+            if (!page.isEmpty()) {
+                afterMemberId = page.get(page.size() - 1).getMemberId();
+            }
+        } while (page.size() == loadPageSize);
+
+        filter = rebuilt;
+        lastRefreshedAt = startedAt;
+        loaded = true;
+    }
+
+    private class Filter {
+        private final long expectedInsertions;
+        private final BloomFilter bloomFilter;
+        private final AtomicLong count = new AtomicLong();
+
+        private Filter(long expectedInsertions) {
+            this.expectedInsertions = expectedInsertions;
+            this.bloomFilter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+        }
+
+        // 갱신 구간이 겹쳐 같은 닉네임이 여러 번 들어오므로 처음 들어온 것만 센다. (오탐만큼 적게 세어진다)
+        private void put(String nickname) {
+            if (!bloomFilter.mightContain(nickname)) {
+                count.incrementAndGet();
+            }
+            bloomFilter.put(nickname);
+        }
+    }
+}
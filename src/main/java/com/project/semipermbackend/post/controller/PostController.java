@@ -3,27 +3,31 @@ package com.project.semipermbackend.post.controller;
 import com.project.semipermbackend.auth.jwt.JwtTokenProvider;
 import com.project.semipermbackend.common.dto.ApiResultDto;
 import com.project.semipermbackend.common.dto.Pagination;
-import com.project.semipermbackend.common.utils.PaginationUtil;
+import com.project.semipermbackend.common.pagination.TotalCountMode;
 import com.project.semipermbackend.domain.code.PostCategory;
 import com.project.semipermbackend.domain.code.PostSorting;
 import com.project.semipermbackend.domain.code.SurgeryCategory;
 import com.project.semipermbackend.post.dto.PostCreation;
+import com.project.semipermbackend.post.dto.PostFeedDto;
 import com.project.semipermbackend.post.dto.PostUpdate;
 import com.project.semipermbackend.post.dto.PostFindDto;
+import com.project.semipermbackend.post.service.PostFeedService;
 import com.project.semipermbackend.post.service.PostService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import javax.validation.Valid;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @RequestMapping("/community")
 @RestController
 public class PostController {
     private final PostService postService;
+    private final PostFeedService postFeedService;
 
     // 게시글 등록
     @PostMapping("/post")
@@ -35,12 +39,22 @@ public class PostController {
         return new ResponseEntity<>(ApiResultDto.success(responseDto), HttpStatus.CREATED);
     }
 
-    // 게시글 상세 조회 (No Filter, No Sort)
+    /**
+     * 게시글 상세 조회 (No Filter, No Sort)
+     * 요청의 ETag(If-None-Match) 와 게시글 버전이 같으면 본문 없이 304 (조회수는 증가)
+     */
     @GetMapping("/post/{postId}")
-    public ResponseEntity<ApiResultDto<PostFindDto.Response>> getPostDetail(@PathVariable Long postId) {
-
-        PostFindDto.Response response = postService.getOne(postId);
-        return new ResponseEntity<>(ApiResultDto.success(response), HttpStatus.CREATED);
+    public ResponseEntity<ApiResultDto<PostFindDto.Response>> getPostDetail(
+            @PathVariable Long postId,
+            @RequestParam(name = "totalCount", defaultValue = "EXACT", required = false) TotalCountMode countMode,
+            ServletWebRequest webRequest) {
+        if (postService.getVersion(postId).checkNotModified(webRequest)) {
+            postService.increaseViewCount(postId);
+            return null;
+        }
+
+        PostFindDto.Response response = postService.getOne(postId, countMode);
+        return ResponseEntity.ok(ApiResultDto.success(response));
 
     }
 
@@ -50,37 +64,58 @@ public class PostController {
      *
      * @param page
      * @param perSize
-     * @param filteredSurgeryCategory 시술 카테고리 필터링
+     * @param filteredSurgeryCategories 시술 카테고리 필터링 (여러 개 가능, 없거나 ALL 이면 전체)
      * @param sorting                 필드에 따라 정렬 (최신순, 인기순, 좋아요순) - 좋아요순 vs 인기순 차이?
      *                                - 인기순 : 좋아요 + 댓글 수
      *                                - 좋아요순 : 좋아요
      * @param filteredPostCategory    게시글 성격 필터링 (전체, 고민, 정보, 자유게시글)
+     * @param countMode               전체 개수 계산 방식 (EXACT, APPROXIMATE, NONE)
      */
     @GetMapping("/post")
     public ResponseEntity<ApiResultDto<Pagination<PostFindDto.Response>>> getAllPost(
             @RequestParam(name = "page", defaultValue = "1", required = false) Integer page,
             @RequestParam(name = "perSize", defaultValue = "10", required = false) Integer perSize,
-            @RequestParam(name = "surgeryCategory", defaultValue = "TOTAL", required = false) SurgeryCategory filteredSurgeryCategory,
+            @RequestParam(name = "surgeryCategory", required = false) Set<SurgeryCategory> filteredSurgeryCategories,
             @RequestParam(name = "postCategory", defaultValue = "TOTAL", required = false) PostCategory filteredPostCategory,
-            @RequestParam(name = "sorting", defaultValue = "LATEST", required = false) PostSorting sorting
+            @RequestParam(name = "sorting", defaultValue = "LATEST", required = false) PostSorting sorting,
+            @RequestParam(name = "totalCount", defaultValue = "EXACT", required = false) TotalCountMode countMode
     ) {
 
-        Page<PostFindDto.Response> postsPage = postService.getAll(page - 1, perSize, filteredSurgeryCategory, filteredPostCategory, sorting);
-        Pagination<PostFindDto.Response> postsPagination = PaginationUtil.pageToPagination(postsPage);
+        Pagination<PostFindDto.Response> postsPagination = postService.getAll(page - 1, perSize, filteredSurgeryCategories, filteredPostCategory, sorting, countMode);
 
         return new ResponseEntity<>(ApiResultDto.success(postsPagination), HttpStatus.FOUND);
     }
 
+    /**
+     * 홈 피드 (회원 관심 시술 기반, 커서 페이징)
+     *
+     * @param filteredSurgeryCategories 없으면 회원의 관심 시술
+     * @param sorting                   최신순(LATEST), 좋아요순(LIKE)
+     * @param cursor                    이전 응답의 nextCursor (첫 페이지는 생략)
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResultDto<PostFeedDto.Response>> getFeed(
+            @RequestParam(name = "surgeryCategory", required = false) Set<SurgeryCategory> filteredSurgeryCategories,
+            @RequestParam(name = "postCategory", defaultValue = "TOTAL", required = false) PostCategory filteredPostCategory,
+            @RequestParam(name = "sorting", defaultValue = "LATEST", required = false) PostSorting sorting,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "perSize", defaultValue = "10", required = false) Integer perSize) {
+        Long memberId = JwtTokenProvider.getMemberIdFromContext();
+
+        PostFeedDto.Response feed = postFeedService.getFeed(memberId, filteredSurgeryCategories, filteredPostCategory, sorting, cursor, perSize);
+        return ResponseEntity.ok(ApiResultDto.success(feed));
+    }
+
     // 커뮤니티 키워드 조회
     @GetMapping("/post/search")
     public ResponseEntity<ApiResultDto<Pagination<PostFindDto.Response>>> searchPost(
             @RequestParam(value = "keyword", required = false) String keyword,
             @RequestParam(name = "sorting", defaultValue = "LATEST", required = false) PostSorting sorting,
             @RequestParam(name = "page", defaultValue = "1", required = false) Integer page,
-            @RequestParam(name = "perSize", defaultValue = "10", required = false) Integer perSize) {
+            @RequestParam(name = "perSize", defaultValue = "10", required = false) Integer perSize,
+            @RequestParam(name = "totalCount", defaultValue = "EXACT", required = false) TotalCountMode countMode) {
 
-        Page<PostFindDto.Response> searchedPostsPage = postService.searchKeyword(page-1, perSize, keyword, sorting);
-        Pagination<PostFindDto.Response> postsPagination = PaginationUtil.pageToPagination(searchedPostsPage);
+        Pagination<PostFindDto.Response> postsPagination = postService.searchKeyword(page-1, perSize, keyword, sorting, countMode);
 
         return new ResponseEntity<>(ApiResultDto.success(postsPagination), HttpStatus.FOUND);
     }
@@ -108,12 +143,13 @@ public class PostController {
     @GetMapping("/my-posts")
     public ResponseEntity<ApiResultDto<Pagination<PostFindDto.Response>>> getMyPosts(
             @RequestParam(name = "page", defaultValue = "1", required = false) Integer page,
-            @RequestParam(name = "perSize", defaultValue = "10", required = false) Integer perSize) {
+            @RequestParam(name = "perSize", defaultValue = "10", required = false) Integer perSize,
+            @RequestParam(name = "totalCount", defaultValue = "EXACT", required = false) TotalCountMode countMode) {
 
         Long memberId = JwtTokenProvider.getMemberIdFromContext();
 
-        Page<PostFindDto.Response> pageMyPosts = postService.findMyPosts(page-1, perSize, memberId);
-        return new ResponseEntity<>(ApiResultDto.success(PaginationUtil.pageToPagination(pageMyPosts)), HttpStatus.FOUND);
+        Pagination<PostFindDto.Response> myPosts = postService.findMyPosts(page-1, perSize, memberId, countMode);
+        return new ResponseEntity<>(ApiResultDto.success(myPosts), HttpStatus.FOUND);
     }
 
     // 삭제
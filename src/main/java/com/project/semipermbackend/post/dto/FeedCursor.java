@@ -0,0 +1,74 @@
+package com.project.semipermbackend.post.dto;
+
+import com.project.semipermbackend.common.error.exception.InvalidRequestDataException;
+import com.project.semipermbackend.domain.code.PostSorting;
+import com.project.semipermbackend.domain.post.Post;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * 피드 keyset 페이징 커서 : 마지막으로 내려준 게시글의 (정렬 값, postId)
+ * - 모든 카테고리 스트림이 같은 순서로 정렬되어 있으므로 커서 하나로 모든 스트림의 다음 위치를 알 수 있다.
+ * - 클라이언트에는 "정렬|정렬 값|postId" 를 base64url 로 인코딩한 문자열로 내려준다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FeedCursor {
+    private static final String DELIMITER = "|";
+
+    private final PostSorting sorting;
+    private final String sortKey;
+    private final Long postId;
+
+    public static FeedCursor of(PostSorting sorting, Post post) {
+        String sortKey = sorting == PostSorting.LIKE
+                ? String.valueOf(post.getLikeCount())
+                : post.getCreatedDate().toString();
+        return new FeedCursor(sorting, sortKey, post.getPostId());
+    }
+
+    /**
+     * @return cursor 가 없으면 null (첫 페이지)
+     */
+    public static FeedCursor decode(String cursor, PostSorting sorting) {
+        if (Objects.isNull(cursor) || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] tokens = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\" + DELIMITER);
+            FeedCursor feedCursor = new FeedCursor(PostSorting.valueOf(tokens[0]), tokens[1], Long.parseLong(tokens[2]));
+            if (feedCursor.sorting != sorting) {
+                throw new InvalidRequestDataException();
+            }
+            // 형식 확인
+            if (sorting == PostSorting.LIKE) {
+                feedCursor.getLikeCount();
+            } else {
+                feedCursor.getCreatedDate();
+            }
+            return feedCursor;
+        } catch (RuntimeException e) {
+            throw new InvalidRequestDataException();
+        }
+    }
+
+    public String encode() {
+        String raw = sorting.name() + DELIMITER + sortKey + DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return LocalDateTime.parse(sortKey);
+    }
+
+    public int getLikeCount() {
+        return Integer.parseInt(sortKey);
+    }
+}
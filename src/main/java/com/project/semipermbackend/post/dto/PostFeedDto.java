@@ -0,0 +1,17 @@
+package com.project.semipermbackend.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+public interface PostFeedDto {
+
+    @Getter
+    @AllArgsConstructor
+    class Response {
+        private List<PostFindDto.Response> posts;
+        // 다음 페이지 커서. 마지막 페이지면 null
+        private String nextCursor;
+    }
+}
@@ -0,0 +1,140 @@
+package com.project.semipermbackend.post.service;
+
+import com.project.semipermbackend.common.error.exception.InvalidRequestDataException;
+import com.project.semipermbackend.domain.code.PostCategory;
+import com.project.semipermbackend.domain.code.PostSorting;
+import com.project.semipermbackend.domain.code.SurgeryCategory;
+import com.project.semipermbackend.domain.post.Post;
+import com.project.semipermbackend.domain.post.PostRepository;
+import com.project.semipermbackend.member.service.MemberContext;
+import com.project.semipermbackend.post.dto.FeedCursor;
+import com.project.semipermbackend.post.dto.PostFeedDto;
+import com.project.semipermbackend.post.dto.PostFindDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 관심 시술 기반 홈 피드
+ * - 시술 카테고리별로 이미 정렬된 게시글 스트림(keyset 조회)을 k-way merge 하여 한 페이지를 만든다.
+ * - 스트림은 필요할 때만 다음 묶음을 조회하므로, 한 페이지에서 읽는 게시글 수는 카테고리 수가 아니라 페이지 크기에 비례한다.
+ * - 정렬 : 최신순(LATEST), 좋아요순(LIKE). 좋아요 수는 계속 바뀌므로 좋아요순은 페이지 사이에 순서가 조금 바뀔 수 있다.
+ */
+@RequiredArgsConstructor
+@Service
+public class PostFeedService {
+    private static final Set<PostSorting> SUPPORTED_SORTINGS = EnumSet.of(PostSorting.LATEST, PostSorting.LIKE);
+
+    private final MemberContext memberContext;
+    private final PostRepository postRepository;
+
+    /**
+     * @param filteredSurgeryCategories 비어있으면 회원의 관심 시술. ALL 이 포함되거나 관심 시술이 없으면 전체
+     * @param cursor                    이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public PostFeedDto.Response getFeed(Long memberId, Set<SurgeryCategory> filteredSurgeryCategories, PostCategory filteredPostCategory,
+                                        PostSorting sorting, String cursor, int perSize) {
+        if (!SUPPORTED_SORTINGS.contains(sorting) || perSize <= 0) {
+            throw new InvalidRequestDataException();
+        }
+        FeedCursor after = FeedCursor.decode(cursor, sorting);
+
+        Set<SurgeryCategory> surgeryCategories = Objects.isNull(filteredSurgeryCategories) || filteredSurgeryCategories.isEmpty()
+                ? memberContext.getMember(memberId).getInterestingFields()
+                : filteredSurgeryCategories;
+        // null : 카테고리 구분 없이 전체 스트림 하나
+        List<SurgeryCategory> streamCategories = surgeryCategories.isEmpty() || surgeryCategories.contains(SurgeryCategory.ALL)
+                ? Collections.singletonList(null)
+                : new ArrayList<>(surgeryCategories);
+
+        Comparator<Post> feedOrder = feedOrder(sorting);
+        PriorityQueue<CategoryStream> heads = new PriorityQueue<>(streamCategories.size(),
+                Comparator.comparing(CategoryStream::peek, feedOrder));
+        // 처음에는 페이지를 스트림 수만큼 나눈 크기로 조회하고, 한 스트림에 몰리면 그 스트림만 더 조회한다.
+        int initialChunkSize = perSize / streamCategories.size() + 1;
+        for (SurgeryCategory surgeryCategory : streamCategories) {
+            CategoryStream stream = new CategoryStream(surgeryCategory, filteredPostCategory, sorting, after, initialChunkSize);
+            if (stream.hasNext()) {
+                heads.add(stream);
+            }
+        }
+
+        List<Post> posts = new ArrayList<>(perSize);
+        while (posts.size() < perSize && !heads.isEmpty()) {
+            CategoryStream stream = heads.poll();
+            posts.add(stream.next());
+            if (stream.hasNext()) {
+                heads.add(stream);
+            }
+        }
+
+        // 남은 스트림이 있으면 다음 페이지가 있다.
+        String nextCursor = heads.isEmpty() ? null : FeedCursor.of(sorting, posts.get(posts.size() - 1)).encode();
+        List<PostFindDto.Response> responses = posts.stream()
+                .map(post -> PostFindDto.Response.fromSome(post, Duration.between(post.getCreatedDate(), LocalDateTime.now()).getSeconds()))
+                .collect(Collectors.toList());
+        return new PostFeedDto.Response(responses, nextCursor);
+    }
+
+    // (정렬 값, postId) 내림차순. PostRepositoryCustomImpl.findFeedChunk 의 정렬과 같아야 한다.
+    private static Comparator<Post> feedOrder(PostSorting sorting) {
+        Comparator<Post> ascending = sorting == PostSorting.LIKE
+                ? Comparator.comparingInt(Post::getLikeCount).thenComparing(Post::getPostId)
+                : Comparator.comparing(Post::getCreatedDate).thenComparing(Post::getPostId);
+        return ascending.reversed();
+    }
+
+    /**
+     * 한 시술 카테고리의 정렬된 게시글 스트림. 버퍼가 비면 마지막 게시글 다음부터 조회한다.
+     */
+    private class CategoryStream {
+        private final SurgeryCategory surgeryCategory;
+        private final PostCategory postCategory;
+        private final PostSorting sorting;
+        private final Deque<Post> buffer = new ArrayDeque<>();
+
+        private FeedCursor cursor;
+        private int chunkSize;
+        private boolean exhausted = false;
+
+        private CategoryStream(SurgeryCategory surgeryCategory, PostCategory postCategory, PostSorting sorting,
+                               FeedCursor after, int chunkSize) {
+            this.surgeryCategory = surgeryCategory;
+            this.postCategory = postCategory;
+            this.sorting = sorting;
+            this.cursor = after;
+            this.chunkSize = chunkSize;
+        }
+
+        private boolean hasNext() {
+            if (buffer.isEmpty() && !exhausted) {
+                fetch();
+            }
+            return !buffer.isEmpty();
+        }
+
+        private Post peek() {
+            return buffer.peekFirst();
+        }
+
+        private Post next() {
+            return buffer.pollFirst();
+        }
+
+        private void fetch() {
+            List<Post> chunk = postRepository.findFeedChunk(surgeryCategory, postCategory, sorting, cursor, chunkSize);
+            buffer.addAll(chunk);
+            exhausted = chunk.size() < chunkSize;
+            if (!chunk.isEmpty()) {
+                cursor = FeedCursor.of(sorting, chunk.get(chunk.size() - 1));
+            }
+            chunkSize *= 2;
+        }
+    }
+}
@@ -7,7 +7,11 @@ import com.project.semipermbackend.common.dto.Pagination;
 import com.project.semipermbackend.common.error.ErrorCode;
 import com.project.semipermbackend.common.error.exception.EntityNotFoundException;
 import com.project.semipermbackend.common.error.exception.InappropriatePermissionException;
+import com.project.semipermbackend.common.pagination.ApproximateCountCache;
+import com.project.semipermbackend.common.pagination.TotalCountMode;
+import com.project.semipermbackend.common.utils.EnumBitmask;
 import com.project.semipermbackend.common.utils.PaginationUtil;
+import com.project.semipermbackend.common.utils.ResourceVersion;
 import com.project.semipermbackend.domain.code.PostCategory;
 import com.project.semipermbackend.domain.code.PostSorting;
 import com.project.semipermbackend.domain.code.SurgeryCategory;
@@ -15,12 +19,11 @@ import com.project.semipermbackend.domain.post.Post;
 import com.project.semipermbackend.domain.post.PostRepository;
 import com.project.semipermbackend.post.dto.PostCreation;
 import com.project.semipermbackend.domain.member.Member;
-import com.project.semipermbackend.member.service.MemberService;
+import com.project.semipermbackend.member.service.MemberContext;
 import com.project.semipermbackend.post.dto.PostUpdate;
 import com.project.semipermbackend.post.dto.PostFindDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -28,20 +31,23 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Set;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class PostService {
-    private final MemberService memberService;
+    private final MemberContext memberContext;
     private final CommentService commentService;
     private final PostRepository postRepository;
+    private final ApproximateCountCache approximateCountCache;
 
     // 게시글 생성
     @Transactional
     public PostCreation.ResponseDto create(Long memberId, PostCreation.RequestDto postCreation) {
-        Member member = memberService.getMemberByMemberId(memberId)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER));
+        // 작성자는 FK 로만 사용하므로 조회하지 않는다.
+        Member member = memberContext.getReference(memberId);
 
         Post savedPost = postRepository.save(postCreation.toEntity(member));
         return new PostCreation.ResponseDto(savedPost.getPostId());
@@ -49,21 +55,37 @@ public class PostService {
 
     // 게시글 상세 조회
     @Transactional
-    public PostFindDto.Response getOne(Long postId) {
-        Post post = postRepository.findByPostId(postId)
+    public PostFindDto.Response getOne(Long postId, TotalCountMode commentCountMode) {
+        // 조회수 증가 (조회 결과에 반영)
+        increaseViewCount(postId);
+
+        // 작성자 함께 조회 (읽기 전용), 댓글은 작성자와 함께 페이지 단위로 조회
+        Post post = postRepository.findWithMemberByPostId(postId)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_POST, postId));
 
         // 경과 시각
         long elapsedUploadTimeSecondUnit = getUploadElapsedTimeSecUnit(post.getCreatedDate());
 
-        Page<CommentFindDto.Response> commentsDto = commentService.getComments(0, 10, post);
+        Pagination<CommentFindDto.Response> responsePagination = commentService.getComments(0, 10, post, commentCountMode);
 
-        Pagination<CommentFindDto.Response> responsePagination = PaginationUtil.pageToPagination(commentsDto);
+        return PostFindDto.Response.fromOne(post, elapsedUploadTimeSecondUnit, responsePagination);
+    }
 
-        // 조회수 증가
-        post.addViewCount();
+    /**
+     * 게시글 상세 조회 응답의 버전 (조건부 조회)
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getVersion(Long postId) {
+        return postRepository.findVersion(postId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_POST, postId));
+    }
 
-        return PostFindDto.Response.fromOne(post, elapsedUploadTimeSecondUnit, responsePagination);
+    /**
+     * 조회수 증가. 변경되지 않은 게시글을 다시 조회한 경우(304)에도 조회수는 증가한다.
+     */
+    @Transactional
+    public void increaseViewCount(Long postId) {
+        postRepository.increaseViewCount(postId);
     }
 
     private long getUploadElapsedTimeSecUnit(LocalDateTime uploadedDate) {
@@ -72,19 +94,30 @@ public class PostService {
     }
 
     /** 게시글 전체 조회 (최신순/인기순/정확순, 카테고리 필터링)
-     * 1차에서는 카테고리 필터링하지 않는다.
+     * 시술 카테고리는 여러 개 선택 가능 (비어있거나 ALL 이면 전체)
      * 최신순 : order by createdDate desc
      * 좋아요순 : order by LikeCount desc
      * 인기순 : order by LikeCount, 댓글수 desc
      */
-    public Page<PostFindDto.Response> getAll(int page, int perSize, SurgeryCategory filteredSurgeryCategory, PostCategory filteredPostCategory,
-                                             PostSorting sorting) {
+    @Transactional(readOnly = true)
+    public Pagination<PostFindDto.Response> getAll(int page, int perSize, Set<SurgeryCategory> filteredSurgeryCategories, PostCategory filteredPostCategory,
+                                                   PostSorting sorting, TotalCountMode countMode) {
 
         Pageable pageable = PageRequest.of(page, perSize);
 
-        return postRepository.findAllByFilteringOrderByDefaultCreatedDateDesc(pageable, filteredSurgeryCategory, filteredPostCategory, sorting)
-                .map((post) -> PostFindDto.Response.fromSome(post, getUploadElapsedTimeSecUnit(post.getCreatedDate())));
+        return PaginationUtil.paginate(countMode,
+                () -> postRepository.findAllByFilteringOrderByDefaultCreatedDateDesc(pageable, filteredSurgeryCategories, filteredPostCategory, sorting),
+                () -> postRepository.findSliceByFiltering(pageable, filteredSurgeryCategories, filteredPostCategory, sorting),
+                () -> approximateCountCache.get(filteringCountKey(filteredSurgeryCategories, filteredPostCategory),
+                        () -> postRepository.countByFiltering(filteredSurgeryCategories, filteredPostCategory)),
+                (post) -> PostFindDto.Response.fromSome(post, getUploadElapsedTimeSecUnit(post.getCreatedDate())));
+    }
 
+    // 전체 개수 캐시 key : 시술 카테고리는 순서와 무관하게 비트마스크로 (비어있거나 ALL 이면 전체)
+    private String filteringCountKey(Set<SurgeryCategory> filteredSurgeryCategories, PostCategory filteredPostCategory) {
+        int surgeryCategoryMask = Objects.isNull(filteredSurgeryCategories) || filteredSurgeryCategories.contains(SurgeryCategory.ALL)
+                ? 0 : EnumBitmask.toMask(filteredSurgeryCategories);
+        return "post:" + Objects.requireNonNullElse(filteredPostCategory, PostCategory.TOTAL) + ":" + surgeryCategoryMask;
     }
 
     /**
@@ -107,21 +140,30 @@ public class PostService {
         post.update(requestDto);
     }
     // 내용, 제목
-    public Page<PostFindDto.Response> searchKeyword(int page, int perSize, String keyword, PostSorting sorting) {
+    @Transactional(readOnly = true)
+    public Pagination<PostFindDto.Response> searchKeyword(int page, int perSize, String keyword, PostSorting sorting, TotalCountMode countMode) {
         Pageable pageable = PageRequest.of(page, perSize);
 
-        return postRepository.findAllByTitleOrContentIsContainsIgnoreCaseOrderBySorting(pageable, keyword, sorting)
-                .map((post) -> PostFindDto.Response.fromSome(post, getUploadElapsedTimeSecUnit(post.getCreatedDate())));
+        return PaginationUtil.paginate(countMode,
+                () -> postRepository.findAllByTitleOrContentIsContainsIgnoreCaseOrderBySorting(pageable, keyword, sorting),
+                () -> postRepository.findSliceByKeyword(pageable, keyword, sorting),
+                // 검색어는 대소문자 구분 없이 검색하므로 key 도 소문자로
+                () -> approximateCountCache.get("post:keyword:" + (Objects.isNull(keyword) ? "" : keyword.toLowerCase()),
+                        () -> postRepository.countByKeyword(keyword)),
+                (post) -> PostFindDto.Response.fromSome(post, getUploadElapsedTimeSecUnit(post.getCreatedDate())));
     }
 
-    public Page<PostFindDto.Response> findMyPosts(Integer page, Integer perSize, Long memberId) {
-        Member member = memberService.getMemberByMemberId(memberId)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER));
+    @Transactional(readOnly = true)
+    public Pagination<PostFindDto.Response> findMyPosts(Integer page, Integer perSize, Long memberId, TotalCountMode countMode) {
+        Member member = memberContext.getReference(memberId);
 
         Pageable pageable = PageRequest.of(page, perSize);
 
-        return postRepository.findAllByMember(pageable, member)
-                .map(PostFindDto.Response::forMyPage);
+        return PaginationUtil.paginate(countMode,
+                () -> postRepository.findAllByMember(pageable, member),
+                () -> postRepository.findSliceByMember(pageable, member),
+                () -> approximateCountCache.get("post:member:" + memberId, () -> postRepository.countByMemberMemberId(memberId)),
+                PostFindDto.Response::forMyPage);
     }
 
     @Transactional
@@ -130,7 +172,7 @@ public class PostService {
 
         Post post = postRepository.findByPostId(postId)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_POST, postId));
-        if (!memberId.equals(post.getMember().getMemberId())) {
+        if (!memberContext.isOwner(memberId, post.getMember())) {
             throw new InappropriatePermissionException();
         }
         postRepository.deleteByPostId(postId);
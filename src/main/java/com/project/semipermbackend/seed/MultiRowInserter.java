@@ -0,0 +1,87 @@
+package com.project.semipermbackend.seed;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * "insert into t (...) values (...), (...), ..." 한 문장에 rowsPerStatement 행씩 넣는다.
+ * 같은 크기의 문장은 PreparedStatement 를 재사용하고, statementsPerCommit 문장마다 커밋한다.
+ */
+class MultiRowInserter implements AutoCloseable {
+    private final Connection connection;
+    private final String table;
+    private final String columns;
+    private final int columnCount;
+    private final int rowsPerStatement;
+    private final int statementsPerCommit;
+
+    private final List<Object> values = new ArrayList<>();
+    private PreparedStatement fullStatement;
+    private int statementsSinceCommit = 0;
+    private long insertedRows = 0;
+
+    MultiRowInserter(Connection connection, String table, List<String> columns, int rowsPerStatement, int statementsPerCommit) throws SQLException {
+        this.connection = connection;
+        this.table = table;
+        this.columns = String.join(", ", columns);
+        this.columnCount = columns.size();
+        this.rowsPerStatement = rowsPerStatement;
+        this.statementsPerCommit = statementsPerCommit;
+        connection.setAutoCommit(false);
+    }
+
+    void add(Object... row) throws SQLException {
+        if (row.length != columnCount) {
+            throw new IllegalArgumentException(table + " : expected " + columnCount + " columns but " + row.length);
+        }
+        Collections.addAll(values, row);
+        if (values.size() == rowsPerStatement * columnCount) {
+            if (fullStatement == null) {
+                fullStatement = connection.prepareStatement(insertSql(rowsPerStatement));
+            }
+            execute(fullStatement);
+        }
+    }
+
+    long getInsertedRows() {
+        return insertedRows;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (!values.isEmpty()) {
+                try (PreparedStatement lastStatement = connection.prepareStatement(insertSql(values.size() / columnCount))) {
+                    execute(lastStatement);
+                }
+            }
+            connection.commit();
+        } finally {
+            if (fullStatement != null) {
+                fullStatement.close();
+            }
+        }
+    }
+
+    private void execute(PreparedStatement statement) throws SQLException {
+        for (int i = 0; i < values.size(); i++) {
+            statement.setObject(i + 1, values.get(i));
+        }
+        statement.executeUpdate();
+        insertedRows += values.size() / columnCount;
+        values.clear();
+        if (++statementsSinceCommit >= statementsPerCommit) {
+            connection.commit();
+            statementsSinceCommit = 0;
+        }
+    }
+
+    private String insertSql(int rows) {
+        String row = "(" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+        return "insert into " + table + " (" + columns + ") values " + String.join(", ", Collections.nCopies(rows, row));
+    }
+}
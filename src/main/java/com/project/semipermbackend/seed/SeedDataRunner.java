@@ -0,0 +1,432 @@
+package com.project.semipermbackend.seed;
+
+import com.project.semipermbackend.common.code.FlagYn;
+import com.project.semipermbackend.common.code.Gender;
+import com.project.semipermbackend.common.utils.EnumBitmask;
+import com.project.semipermbackend.common.utils.FeistelPermutation;
+import com.project.semipermbackend.domain.code.MemberNeeds;
+import com.project.semipermbackend.domain.code.PostCategory;
+import com.project.semipermbackend.domain.code.ReviewCategory;
+import com.project.semipermbackend.domain.code.SurgeryCategory;
+import com.project.semipermbackend.auth.entity.SocialType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 부하 테스트용 대량 데이터 생성 (seed 프로필에서만 실행)
+ * ex) ./gradlew bootRun --args='--spring.profiles.active=seed --seed.posts=100000'
+ *
+ * - 같은 seed.random-seed, 같은 생성 수면 항상 같은 데이터가 만들어진다. (작업 묶음마다 seed 에서 파생한 난수 사용)
+ * - 게시글 인기(댓글 수, 좋아요 수), 작성자 활동량, 찜/리뷰 대상 사업장은 Zipf 분포를 따른다.
+ *   인기 순위는 id 를 섞어(FeistelPermutation) 정하므로 오래된 글만 인기글이 되지 않는다.
+ * - 댓글은 답글 확률에 따라 max-comment-depth 까지 이어진다. (parent_id, group_no 는 CommentService 와 같은 규칙)
+ * - 테이블별로 id 구간을 작업 묶음으로 나눠 여러 스레드가 multi-row insert 로 넣는다.
+ * - 기존 데이터(와 이미 발급된 id 블록) 다음 번호부터 넣고, 끝나면 id_sequences(PooledIdGenerator) 를 넣은 id 뒤로 옮긴다.
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class SeedDataRunner implements CommandLineRunner {
+    private static final SurgeryCategory[] SURGERY_CATEGORIES = {
+            SurgeryCategory.SMP, SurgeryCategory.HAIRLINE, SurgeryCategory.EYEBROW_TATOO, SurgeryCategory.EYELINE,
+            SurgeryCategory.LIPS_TATTO, SurgeryCategory.SCAR_COVERUP, SurgeryCategory.SEMIPERM_REMOVAL};
+    // 시술 카테고리 비중 (SURGERY_CATEGORIES 순서)
+    private static final double[] SURGERY_CATEGORY_WEIGHTS = {0.12, 0.10, 0.35, 0.15, 0.13, 0.05, 0.10};
+    private static final PostCategory[] POST_CATEGORIES = {PostCategory.WORRY, PostCategory.INFO, PostCategory.FREE};
+    private static final double[] POST_CATEGORY_WEIGHTS = {0.45, 0.30, 0.25};
+    private static final String[] WORDS = {"반영구", "눈썹", "아이라인", "시술", "후기", "리터치", "색소", "통증", "붓기",
+            "가격", "상담", "디자인", "자연스러운", "유지", "기간", "추천", "샵", "원장님", "만족", "고민"};
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationContext applicationContext;
+
+    @Value("${seed.random-seed:20231120}") private long randomSeed;
+    @Value("${seed.accounts:1000000}") private int accountCount;
+    @Value("${seed.member-ratio:0.9}") private double memberRatio;
+    @Value("${seed.posts:2000000}") private int postCount;
+    @Value("${seed.comments:5000000}") private long commentCount;
+    @Value("${seed.max-comments-per-post:2000}") private int maxCommentsPerPost;
+    @Value("${seed.max-comment-depth:3}") private int maxCommentDepth;
+    @Value("${seed.reply-probability:0.35}") private double replyProbability;
+    @Value("${seed.stores:50000}") private int storeCount;
+    @Value("${seed.zzims:500000}") private int zzimCount;
+    @Value("${seed.reviews:500000}") private int reviewCount;
+    @Value("${seed.days:365}") private int days;
+    @Value("${seed.zipf-exponent:1.0}") private double zipfExponent;
+    @Value("${seed.max-post-likes:5000}") private int maxPostLikes;
+    @Value("${seed.rows-per-statement:1000}") private int rowsPerStatement;
+    @Value("${seed.statements-per-commit:10}") private int statementsPerCommit;
+    @Value("${seed.chunk-size:100000}") private int chunkSize;
+    @Value("${seed.workers:0}") private int workers;
+    @Value("${seed.exit-on-finish:true}") private boolean exitOnFinish;
+
+    private LocalDateTime startTime;
+    private long spanSeconds;
+
+    public SeedDataRunner(DataSource dataSource, JdbcTemplate jdbcTemplate, ApplicationContext applicationContext) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        int threads = workers > 0 ? workers : Math.min(8, Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        LocalDateTime now = LocalDateTime.now();
+        startTime = now.minusDays(days);
+        spanSeconds = days * 24L * 3600L;
+        long started = System.nanoTime();
+
+        try {
+            new Generation(executor).run();
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info("데이터 생성 완료 : {} 초 (workers {})", (System.nanoTime() - started) / 1_000_000_000L, threads);
+
+        if (exitOnFinish) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+
+    /**
+     * 한 번의 생성 작업. 테이블별 시작 id 와 분포를 들고 있다.
+     */
+    private class Generation {
+        private final ExecutorService executor;
+        private final int memberCount = (int) (accountCount * memberRatio);
+
+        private final long accountBase = maxId("account", "account_id");
+        private final long memberBase = lastUsedId("member", "member_id");
+        private final long commentBase = lastUsedId("comment", "comment_id");
+        private final long postBase = lastUsedId("post", "post_id");
+        private final long zzimBase = lastUsedId("member_zzim_store", "member_zzim_store_id");
+        private final long reviewBase = lastUsedId("review", "review_id");
+        private final long storeBase = jdbcTemplate.queryForObject("select count(*) from store", Long.class);
+
+        private final ZipfDistribution memberActivity;
+        private final FeistelPermutation memberActivityOrder;
+        private final ZipfDistribution postPopularity;
+        private final FeistelPermutation postPopularityOrder;
+        private final ZipfDistribution storePopularity;
+
+        private Generation(ExecutorService executor) {
+            this.executor = executor;
+            this.memberActivity = new ZipfDistribution(Math.max(1, memberCount), zipfExponent);
+            this.memberActivityOrder = new FeistelPermutation(Math.max(2, memberCount), randomSeed + ":member");
+            this.postPopularity = new ZipfDistribution(Math.max(1, postCount), zipfExponent);
+            this.postPopularityOrder = new FeistelPermutation(Math.max(2, postCount), randomSeed + ":post");
+            this.storePopularity = new ZipfDistribution(Math.max(1, storeCount), zipfExponent);
+        }
+
+        private void run() throws Exception {
+            insertInChunks("account", accountCount, this::insertAccounts);
+            insertInChunks("member", memberCount, this::insertMembers);
+            insertInChunks("store", storeCount, this::insertStores);
+            insertInChunks("post", postCount, this::insertPosts);
+            insertInChunks("comment", postCount, this::insertComments);
+            insertInChunks("member_zzim_store", zzimCount, this::insertZzims);
+            if (ReviewCategory.values().length == 0) {
+                log.warn("ReviewCategory 값이 없어 리뷰는 생성하지 않습니다.");
+            } else {
+                insertInChunks("review", reviewCount, this::insertReviews);
+                jdbcTemplate.update("update store s join (select store_id, avg(rating) as rating from review group by store_id) r " +
+                        "on r.store_id = s.encoded_place_id set s.total_review_rating = r.rating");
+            }
+            moveIdSequence("member", memberBase + memberCount);
+            moveIdSequence("post", postBase + postCount);
+            moveIdSequence("comment", commentBase + commentsBefore(postCount));
+            moveIdSequence("member_zzim_store", zzimBase + zzimCount);
+            if (ReviewCategory.values().length > 0) {
+                moveIdSequence("review", reviewBase + reviewCount);
+            }
+        }
+
+        private void insertAccounts(Connection connection, SplittableRandom random, int from, int to) throws SQLException {
+            SocialType[] socialTypes = SocialType.values();
+            try (MultiRowInserter inserter = inserter(connection, "account", "account_id", "created_date", "last_modified_date", "use_yn",
+                    "social_id", "email", "profile_image_url", "social_type", "member_yn", "last_login_date",
+                    "personal_info_service_usage_agree_yn", "agree_to_ad_yn", "is_order_than_14")) {
+                for (int i = from; i < to; i++) {
+                    long accountId = accountBase + 1 + i;
+                    Timestamp created = timestampAt(i, accountCount, random);
+                    boolean member = i < memberCount;
+                    inserter.add(accountId, created, created, true,
+                            "seed-" + accountId, "user" + accountId + "@seed.semiperm.com", "",
+                            socialTypes[random.nextInt(socialTypes.length)].name(),
+                            (member ? FlagYn.YES : FlagYn.NO).getTitle(),
+                            LocalDate.now().minusDays(random.nextInt(Math.max(1, days))),
+                            FlagYn.YES.getTitle(), (random.nextDouble() < 0.4 ? FlagYn.YES : FlagYn.NO).getTitle(), FlagYn.YES.getTitle());
+                }
+            }
+        }
+
+        private void insertMembers(Connection connection, SplittableRandom random, int from, int to) throws SQLException {
+            try (MultiRowInserter inserter = inserter(connection, "member", "member_id", "created_date", "last_modified_date", "use_yn",
+                    "account_id", "birth", "gender", "interesting_fields_mask", "need_informations_mask", "nickname")) {
+                for (int i = from; i < to; i++) {
+                    long memberId = memberBase + 1 + i;
+                    Timestamp created = timestampAt(i, accountCount, random);
+                    // 관심 시술 2개, 필요 정보 1~2개
+                    Set<SurgeryCategory> interests = EnumSet.of(pickSurgeryCategory(random), pickSurgeryCategory(random));
+                    MemberNeeds[] needs = MemberNeeds.values();
+                    Set<MemberNeeds> needInformations = EnumSet.of(needs[random.nextInt(needs.length)], needs[random.nextInt(needs.length)]);
+                    inserter.add(memberId, created, created, true,
+                            accountBase + 1 + i,
+                            LocalDate.of(1970 + random.nextInt(36), 1 + random.nextInt(12), 1 + random.nextInt(28)),
+                            (random.nextDouble() < 0.8 ? Gender.WOMAN : Gender.MAN).getTitle(),
+                            EnumBitmask.toMask(interests), EnumBitmask.toMask(needInformations),
+                            "seed_" + memberId);
+                }
+            }
+        }
+
+        private void insertStores(Connection connection, SplittableRandom random, int from, int to) throws SQLException {
+            try (MultiRowInserter inserter = inserter(connection, "store", "encoded_place_id", "created_date", "last_modified_date", "use_yn",
+                    "total_review_rating")) {
+                for (int i = from; i < to; i++) {
+                    Timestamp created = timestampAt(i, storeCount, random);
+                    inserter.add(storeId(i), created, created, true, 0f);
+                }
+            }
+        }
+
+        private void insertPosts(Connection connection, SplittableRandom random, int from, int to) throws SQLException {
+            try (MultiRowInserter inserter = inserter(connection, "post", "post_id", "created_date", "last_modified_date", "use_yn",
+                    "member_id", "post_category", "surgery_category", "title", "content", "like_count", "view_count")) {
+                for (int i = from; i < to; i++) {
+                    Timestamp created = timestampAt(i, postCount, random);
+                    SurgeryCategory surgeryCategory = pickSurgeryCategory(random);
+                    int rank = postRank(i);
+                    int likeCount = (int) Math.round(maxPostLikes * postPopularity.probability(rank) / postPopularity.probability(1))
+                            + random.nextInt(3);
+                    inserter.add(postBase + 1 + i, created, created, true,
+                            activeMemberId(random),
+                            POST_CATEGORIES[pick(POST_CATEGORY_WEIGHTS, random)].getTitle(),
+                            surgeryCategory.getTitle(),
+                            surgeryCategory.getTitle() + " " + words(random, 2 + random.nextInt(4)),
+                            words(random, 10 + random.nextInt(80)),
+                            likeCount, likeCount * 10 + random.nextInt(50));
+                }
+            }
+        }
+
+        /**
+         * 게시글 [from, to) 의 댓글. 댓글 수는 게시글 인기 순위의 Zipf 확률에 비례한다.
+         * 댓글 id 는 작업 묶음마다 미리 계산한 시작 id 부터 이어서 사용한다.
+         */
+        private void insertComments(Connection connection, SplittableRandom random, int from, int to) throws SQLException {
+            long commentId = commentBase + commentsBefore(from);
+            try (MultiRowInserter inserter = inserter(connection, "comment", "comment_id", "created_date", "last_modified_date", "use_yn",
+                    "member_id", "post_id", "content", "parent_id", "group_no", "like_count")) {
+                for (int i = from; i < to; i++) {
+                    int count = commentCountOf(i);
+                    long[] ids = new long[count];
+                    long[] groups = new long[count];
+                    int[] depths = new int[count];
+                    long nextGroup = 0;
+                    LocalDateTime postCreated = startTime.plusSeconds(spanSeconds * i / Math.max(1, postCount));
+                    for (int k = 0; k < count; k++) {
+                        ids[k] = ++commentId;
+                        long parentId = 0L;
+                        // 답글 : 이전 댓글 중 하나에 (최대 깊이 미만)
+                        int parent = k > 0 && random.nextDouble() < replyProbability ? random.nextInt(k) : -1;
+                        if (parent >= 0 && depths[parent] < maxCommentDepth) {
+                            parentId = ids[parent];
+                            groups[k] = groups[parent];
+                            depths[k] = depths[parent] + 1;
+                        } else {
+                            groups[k] = nextGroup++;
+                        }
+                        Timestamp created = Timestamp.valueOf(minNow(postCreated.plusMinutes((long) (-Math.log(1 - random.nextDouble()) * 600))));
+                        inserter.add(ids[k], created, created, true,
+                                activeMemberId(random), postBase + 1 + i, words(random, 3 + random.nextInt(20)),
+                                parentId, groups[k], random.nextDouble() < 0.7 ? 0 : random.nextInt(20));
+                    }
+                }
+            }
+        }
+
+        /**
+         * 찜 : 연속된 찜이 같은 회원의 것이 되도록 나누고, 사업장은 인기 순으로 뽑는다. (회원 내 중복 제외)
+         */
+        private void insertZzims(Connection connection, SplittableRandom random, int from, int to) throws SQLException {
+            try (MultiRowInserter inserter = inserter(connection, "member_zzim_store", "member_zzim_store_id", "created_date",
+                    "last_modified_date", "use_yn", "member_id", "store_id")) {
+                long currentMember = -1;
+                Set<Integer> storesOfMember = new HashSet<>();
+                for (int i = from; i < to; i++) {
+                    long memberId = memberBase + 1 + (long) i * memberCount / zzimCount;
+                    if (memberId != currentMember) {
+                        currentMember = memberId;
+                        storesOfMember.clear();
+                    }
+                    int store = storePopularity.sample(random) - 1;
+                    for (int retry = 0; retry < 5 && !storesOfMember.add(store); retry++) {
+                        store = random.nextInt(storeCount);
+                    }
+                    Timestamp created = timestampAt(i, zzimCount, random);
+                    inserter.add(zzimBase + 1 + i, created, created, true, memberId, storeId(store));
+                }
+            }
+        }
+
+        private void insertReviews(Connection connection, SplittableRandom random, int from, int to) throws SQLException {
+            ReviewCategory[] reviewCategories = ReviewCategory.values();
+            try (MultiRowInserter inserter = inserter(connection, "review", "review_id", "created_date", "last_modified_date", "use_yn",
+                    "content", "rating", "review_category", "store_id")) {
+                for (int i = from; i < to; i++) {
+                    Timestamp created = timestampAt(i, reviewCount, random);
+                    // 평점은 4~5 점에 몰린다.
+                    float rating = Math.max(1, 5 - (int) Math.floor(-Math.log(1 - random.nextDouble()) * 0.8));
+                    inserter.add(reviewBase + 1 + i, created, created, true,
+                            words(random, 5 + random.nextInt(40)), rating,
+                            reviewCategories[random.nextInt(reviewCategories.length)].name(),
+                            storeId(storePopularity.sample(random) - 1));
+                }
+            }
+        }
+
+        // 댓글 수 : 게시글 [0, postIndex) 의 댓글 수 합 (작업 묶음 시작 id 계산용, 묶음마다 한 번)
+        private long commentsBefore(int postIndex) {
+            long sum = 0;
+            for (int i = 0; i < postIndex; i++) {
+                sum += commentCountOf(i);
+            }
+            return sum;
+        }
+
+        // 난수 없이 순위로만 정해지므로 어느 작업 묶음에서 계산해도 같다.
+        private int commentCountOf(int postIndex) {
+            double expected = commentCount * postPopularity.probability(postRank(postIndex));
+            int count = (int) expected;
+            // 소수 부분은 게시글 id 로 정한 값으로 올림 여부를 정한다.
+            if (new SplittableRandom(randomSeed ^ (postIndex * 0x9E3779B97F4A7C15L)).nextDouble() < expected - count) {
+                count++;
+            }
+            return Math.min(count, maxCommentsPerPost);
+        }
+
+        private int postRank(int postIndex) {
+            return (int) postPopularityOrder.permute(postIndex) + 1;
+        }
+
+        private long activeMemberId(SplittableRandom random) {
+            int rank = memberActivity.sample(random);
+            return memberBase + 1 + memberActivityOrder.permute(rank - 1);
+        }
+
+        private String storeId(int storeIndex) {
+            return "seed-place-" + (storeBase + storeIndex);
+        }
+
+        private MultiRowInserter inserter(Connection connection, String table, String... columns) throws SQLException {
+            return new MultiRowInserter(connection, table, List.of(columns), rowsPerStatement, statementsPerCommit);
+        }
+
+        /**
+         * [0, total) 을 chunkSize 씩 나눠 병렬로 넣는다. 묶음마다 (seed, 테이블, 묶음 번호) 로 만든 난수를 사용한다.
+         */
+        private void insertInChunks(String table, long total, ChunkWriter writer) throws Exception {
+            long started = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (long from = 0, chunk = 0; from < total; from += chunkSize, chunk++) {
+                int chunkFrom = (int) from;
+                int chunkTo = (int) Math.min(total, from + chunkSize);
+                SplittableRandom random = new SplittableRandom(randomSeed ^ (table.hashCode() * 0xBF58476D1CE4E5B9L) ^ (chunk * 0x94D049BB133111EBL));
+                futures.add(executor.submit(() -> {
+                    try (Connection connection = dataSource.getConnection()) {
+                        writer.write(connection, random, chunkFrom, chunkTo);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    futures.forEach(remaining -> remaining.cancel(true));
+                    throw new IllegalStateException(table + " 데이터 생성에 실패하였습니다.", e.getCause());
+                }
+            }
+            log.info("{} : {} 건 기준 생성 ({} ms)", table, total, (System.nanoTime() - started) / 1_000_000L);
+        }
+
+        private void moveIdSequence(String table, long lastId) {
+            jdbcTemplate.update("insert into id_sequences (sequence_name, next_val) values (?, ?) " +
+                    "on duplicate key update next_val = greatest(next_val, values(next_val))", table, lastId + 1);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        void write(Connection connection, SplittableRandom random, int from, int to) throws SQLException;
+    }
+
+    private long maxId(String table, String column) {
+        Long max = jdbcTemplate.queryForObject("select max(" + column + ") from " + table, Long.class);
+        return max == null ? 0L : max;
+    }
+
+    /**
+     * 테이블의 최대 id 와 id_sequences 에서 이미 발급된 번호 중 큰 값 (id_sequences 의 row 이름은 테이블 이름)
+     */
+    private long lastUsedId(String table, String column) {
+        List<Long> nextVal = jdbcTemplate.queryForList("select next_val from id_sequences where sequence_name = ?", Long.class, table);
+        return Math.max(maxId(table, column), nextVal.isEmpty() ? 0L : nextVal.get(0) - 1);
+    }
+
+    // 순서(index)에 비례한 생성 시각 + 몇 분 이내의 흔들림
+    private Timestamp timestampAt(long index, long total, SplittableRandom random) {
+        long seconds = spanSeconds * index / Math.max(1, total) + random.nextInt(600);
+        return Timestamp.valueOf(minNow(startTime.plusSeconds(seconds)));
+    }
+
+    private static LocalDateTime minNow(LocalDateTime dateTime) {
+        LocalDateTime now = LocalDateTime.now();
+        return dateTime.isAfter(now) ? now : dateTime;
+    }
+
+    private static SurgeryCategory pickSurgeryCategory(SplittableRandom random) {
+        return SURGERY_CATEGORIES[pick(SURGERY_CATEGORY_WEIGHTS, random)];
+    }
+
+    private static int pick(double[] weights, SplittableRandom random) {
+        double target = random.nextDouble();
+        for (int i = 0; i < weights.length - 1; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static String words(SplittableRandom random, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,35 @@
+package com.project.semipermbackend.seed;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 순위 1..n 의 Zipf 분포 (P(k) ∝ 1 / k^exponent). 누적 분포표를 만들어 이진 탐색으로 뽑는다.
+ */
+class ZipfDistribution {
+    private final double[] cumulative;
+
+    ZipfDistribution(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * @return 순위 (1..n)
+     */
+    int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(cumulative.length, (index >= 0 ? index : -index - 1) + 1);
+    }
+
+    double probability(int rank) {
+        return rank == 1 ? cumulative[0] : cumulative[rank - 1] - cumulative[rank - 2];
+    }
+}
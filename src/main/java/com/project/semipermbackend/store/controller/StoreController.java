@@ -3,15 +3,15 @@ package com.project.semipermbackend.store.controller;
 import com.project.semipermbackend.auth.jwt.JwtTokenProvider;
 import com.project.semipermbackend.common.dto.ApiResultDto;
 import com.project.semipermbackend.common.dto.Pagination;
-import com.project.semipermbackend.common.utils.PaginationUtil;
+import com.project.semipermbackend.common.pagination.TotalCountMode;
 import com.project.semipermbackend.store.dto.StoreZzimCreationDto;
 import com.project.semipermbackend.store.dto.StoreZzimFindDto;
 import com.project.semipermbackend.store.service.StoreService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import javax.validation.Valid;
 
@@ -34,16 +34,20 @@ public class StoreController {
         StoreZzimCreationDto.Response response = storeService.create(memberId, storeZzimCreation);
         return new ResponseEntity<>(ApiResultDto.success(response), HttpStatus.CREATED);
     }
-    // 나의 찜 조회 - 날짜순(default)
+    // 나의 찜 조회 - 날짜순(default), 찜 목록이 변경되지 않았으면 본문 없이 304
     @GetMapping
     public ResponseEntity<ApiResultDto<Pagination<StoreZzimFindDto.Response>>> zzimStores(
             @RequestParam(name = "page", defaultValue = "1", required = false) Integer page,
-            @RequestParam(name = "perSize", defaultValue = "10", required = false) Integer perSize) {
+            @RequestParam(name = "perSize", defaultValue = "10", required = false) Integer perSize,
+            @RequestParam(name = "totalCount", defaultValue = "EXACT", required = false) TotalCountMode countMode,
+            ServletWebRequest webRequest) {
         Long memberId = JwtTokenProvider.getMemberIdFromContext();
+        if (storeService.getVersion(memberId).checkNotModified(webRequest)) {
+            return null;
+        }
 
-        Page<StoreZzimFindDto.Response> response = storeService.find(page - 1, perSize, memberId);
-        Pagination<StoreZzimFindDto.Response> paginationDto = PaginationUtil.pageToPagination(response);
-        return new ResponseEntity<>(ApiResultDto.success(paginationDto), HttpStatus.FOUND);
+        Pagination<StoreZzimFindDto.Response> paginationDto = storeService.find(page - 1, perSize, memberId, countMode);
+        return ResponseEntity.ok(ApiResultDto.success(paginationDto));
     }
 
     // 찜 제거
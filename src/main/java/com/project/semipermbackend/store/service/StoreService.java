@@ -1,19 +1,22 @@
 package com.project.semipermbackend.store.service;
 
 import com.project.semipermbackend.common.error.ErrorCode;
+import com.project.semipermbackend.common.dto.Pagination;
 import com.project.semipermbackend.common.error.exception.EntityAlreadyExistsException;
-import com.project.semipermbackend.common.error.exception.EntityNotFoundException;
+import com.project.semipermbackend.common.pagination.ApproximateCountCache;
+import com.project.semipermbackend.common.pagination.TotalCountMode;
+import com.project.semipermbackend.common.utils.PaginationUtil;
+import com.project.semipermbackend.common.utils.ResourceVersion;
 import com.project.semipermbackend.domain.code.PostSorting;
 import com.project.semipermbackend.domain.member.Member;
 import com.project.semipermbackend.domain.store.MemberZzimStore;
 import com.project.semipermbackend.domain.store.MemberZzimStoreRepository;
 import com.project.semipermbackend.domain.store.Store;
 import com.project.semipermbackend.domain.store.StoreRepository;
-import com.project.semipermbackend.member.service.MemberService;
+import com.project.semipermbackend.member.service.MemberContext;
 import com.project.semipermbackend.store.dto.StoreZzimCreationDto;
 import com.project.semipermbackend.store.dto.StoreZzimFindDto;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -25,17 +28,18 @@ import java.util.Optional;
 @RequiredArgsConstructor
 @Service
 public class StoreService {
-    private final MemberService memberService;
+    private final MemberContext memberContext;
     private final StoreRepository storeRepository;
     private final MemberZzimStoreRepository memberZzimStoreRepository;
+    private final ApproximateCountCache approximateCountCache;
 
     // TODO 테스트 필요
     // base64 : binary를 ascii 영역의 문자열로 인코딩
     @Transactional
     public StoreZzimCreationDto.Response create(Long memberId, StoreZzimCreationDto.Request storeSaveCreation) {
         String encodedPlaceId = Base64.getEncoder().encodeToString(storeSaveCreation.getPlaceId().getBytes());
-        Member member = memberService.getMemberByMemberId(memberId)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER));
+        // 찜한 회원은 FK 로만 사용하므로 조회하지 않는다.
+        Member member = memberContext.getReference(memberId);
 
         // 1. Store 조회
         Store store = createOrFindExistingStore(encodedPlaceId);
@@ -49,9 +53,8 @@ public class StoreService {
         MemberZzimStore memberZzimStore = MemberZzimStore.builder().member(member).store(store).build();
         memberZzimStoreRepository.save(memberZzimStore);
 
-        // 3. 연관 엔티티 처리
+        // 3. 연관 엔티티 처리 (회원 쪽 컬렉션은 회원 프록시를 초기화하므로 갱신하지 않는다.)
         store.addZzimStore(memberZzimStore);
-        member.addZzimStore(memberZzimStore);
 
         return new StoreZzimCreationDto.Response(memberZzimStore.getMemberZzimStoreId());
     }
@@ -61,19 +64,31 @@ public class StoreService {
      * @param page
      * @param perSize
      * @param memberId
+     * @param countMode 전체 개수 계산 방식
      */
-    public Page<StoreZzimFindDto.Response> find(int page, int perSize, Long memberId) {
-        Member member = memberService.getMemberByMemberId(memberId)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.NOT_FOUND_MEMBER));
+    @Transactional(readOnly = true)
+    public Pagination<StoreZzimFindDto.Response> find(int page, int perSize, Long memberId, TotalCountMode countMode) {
+        Member member = memberContext.getReference(memberId);
 
         Pageable pageable = PageRequest.of(page, perSize);
 
-        return memberZzimStoreRepository.findAllByMemberOrderBy(pageable, member, PostSorting.LATEST)   // default 정렬
-                .map(StoreZzimFindDto.Response::from);
+        return PaginationUtil.paginate(countMode,
+                () -> memberZzimStoreRepository.findAllByMemberOrderBy(pageable, member, PostSorting.LATEST),   // default 정렬
+                () -> memberZzimStoreRepository.findSliceByMemberOrderBy(pageable, member, PostSorting.LATEST),
+                () -> approximateCountCache.get("zzim:member:" + memberId, () -> memberZzimStoreRepository.countByMemberId(memberId)),
+                StoreZzimFindDto.Response::from);
+    }
+
+    /**
+     * 나의 찜 목록 응답의 버전 (조건부 조회)
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getVersion(Long memberId) {
+        return memberZzimStoreRepository.findVersion(memberId);
     }
 
     public Store createOrFindExistingStore(String placeId) {
-        Optional<Store> optionalStore = storeRepository.getStoreByEncodedPlaceId(placeId);
+        Optional<Store> optionalStore = storeRepository.findById(placeId);   // 2차 캐시
         // 1.1 없는 사업장이면 placeId 와 함께 Store 테이블 저장 (찜/리뷰 이력 X)
         if (optionalStore.isEmpty()) {
             // 사업장 생성
@@ -2,5 +2,11 @@ INSERT INTO account
 VALUES (1, sysdate(), sysdate(), true, 'N', 'banan99@naver.com', 'Y', null, 'Y', 'Y', 'http://k.kakaocdn.net/dn/K6gDi/btsrCmW1uTh/B2316t6PTYooSlph7TaIR0/img_110x110.jpg',
         null, '2951698955', 'KAKAO');
 
-INSERT INTO member
-VALUES (1, sysdate(), sysdate(), true, '1999-11-20', 'W', 'kakao_116273556', 1);
\ No newline at end of file
+INSERT INTO member (member_id, created_date, last_modified_date, use_yn, birth, gender, interesting_fields_mask, need_informations_mask, nickname, account_id)
+VALUES (1, sysdate(), sysdate(), true, '1999-11-20', 'W', 0, 0, 'kakao_116273556', 1);
+-- PooledIdGenerator 시작 번호 (위에서 직접 넣은 id 다음부터)
+INSERT INTO id_sequences (sequence_name, next_val)
+VALUES ('member', 2);
+-- 닉네임 번호 시작 값 (NicknameAllocator)
+INSERT INTO id_sequences (sequence_name, next_val)
+VALUES ('member_nickname', 0);
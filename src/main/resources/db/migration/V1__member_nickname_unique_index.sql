@@ -0,0 +1,15 @@
+-- 운영 DB 는 ddl-auto: none 이므로 배포 전에 직접 실행한다. (MySQL 8)
+
+-- 1. 기존 중복 닉네임 정리 : 가장 먼저 가입한 회원만 유지하고 나머지는 닉네임 뒤에 _회원번호 를 붙인다.
+UPDATE member m
+    JOIN (SELECT member_id,
+                 ROW_NUMBER() OVER (PARTITION BY nickname ORDER BY member_id) AS rn
+          FROM member) d ON d.member_id = m.member_id
+SET m.nickname = CONCAT(m.nickname, '_', m.member_id)
+WHERE d.rn > 1;
+
+-- 2. 닉네임 unique index (탈퇴 회원 포함)
+ALTER TABLE member ADD CONSTRAINT uk_member_nickname UNIQUE (nickname);
+
+-- 3. 닉네임 레지스트리 증분 갱신용
+CREATE INDEX idx_member_last_modified_date ON member (last_modified_date);
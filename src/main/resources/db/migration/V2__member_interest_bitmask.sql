@@ -0,0 +1,41 @@
+-- 관심 시술 / 필요 정보를 별도 테이블(@ElementCollection)에서 member 의 비트마스크 컬럼으로 옮긴다. (MySQL 8)
+-- 비트 위치 = enum 선언 순서 (SurgeryCategory, MemberNeeds)
+
+ALTER TABLE member
+    ADD COLUMN interesting_fields_mask INT NOT NULL DEFAULT 0,
+    ADD COLUMN need_informations_mask INT NOT NULL DEFAULT 0;
+
+UPDATE member m
+    JOIN (SELECT member_id,
+                 BIT_OR(CASE field
+                            WHEN 'SMP' THEN 1 << 0
+                            WHEN 'HAIRLINE' THEN 1 << 1
+                            WHEN 'EYEBROW_TATOO' THEN 1 << 2
+                            WHEN 'EYELINE' THEN 1 << 3
+                            WHEN 'LIPS_TATTO' THEN 1 << 4
+                            WHEN 'SCAR_COVERUP' THEN 1 << 5
+                            WHEN 'SEMIPERM_REMOVAL' THEN 1 << 6
+                            WHEN 'ALL' THEN 1 << 7
+                            ELSE 0 END) AS mask
+          FROM member_interest_fields
+          GROUP BY member_id) f ON f.member_id = m.member_id
+SET m.interesting_fields_mask = f.mask;
+
+UPDATE member m
+    JOIN (SELECT member_id,
+                 BIT_OR(CASE needs
+                            WHEN 'CLOSED' THEN 1 << 0
+                            WHEN 'NAMED_EFFICIENT' THEN 1 << 1
+                            WHEN 'TRUTH_REVIEW' THEN 1 << 2
+                            WHEN 'INFO_EXCHANGE' THEN 1 << 3
+                            ELSE 0 END) AS mask
+          FROM member_needs
+          GROUP BY member_id) n ON n.member_id = m.member_id
+SET m.need_informations_mask = n.mask;
+
+-- 관심 시술로 회원 조회 (mask in (...) 범위 조회 + member_id keyset)
+CREATE INDEX idx_member_interesting_fields ON member (interesting_fields_mask, member_id);
+
+-- 이전 버전 서버가 모두 내려간 뒤 실행
+DROP TABLE member_interest_fields;
+DROP TABLE member_needs;
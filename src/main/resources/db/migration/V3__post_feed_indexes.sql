@@ -0,0 +1,3 @@
+-- 홈 피드 카테고리별 keyset 조회용 (MySQL 8)
+CREATE INDEX idx_post_surgery_category_created ON post (surgery_category, created_date, post_id);
+CREATE INDEX idx_post_surgery_category_like ON post (surgery_category, like_count, post_id);
@@ -0,0 +1,32 @@
+-- 엔티티 id 를 hibernate_sequence / AUTO_INCREMENT 대신 id_sequences 의 엔티티별 row 에서 발급한다. (PooledIdGenerator, MySQL 8)
+-- 배포 전에 실행한다. 이전 버전 서버가 모두 내려간 뒤 실행해야 id 가 겹치지 않는다.
+
+-- 1. 번호 발급 테이블 (닉네임 번호 발급 IdSequenceAllocator 와 함께 사용)
+CREATE TABLE IF NOT EXISTS id_sequences
+(
+    sequence_name VARCHAR(50) NOT NULL PRIMARY KEY,
+    next_val      BIGINT      NOT NULL
+);
+
+-- 2. 엔티티별 시작 번호 : 기존 최대 id 다음 (post, review, member_zzim_store 는 hibernate_sequence 를 함께 쓰고 있었다.)
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'post', GREATEST(COALESCE(MAX(post_id), 0) + 1, (SELECT COALESCE(MAX(next_val), 1) FROM hibernate_sequence)) FROM post
+ON DUPLICATE KEY UPDATE next_val = GREATEST(id_sequences.next_val, VALUES(next_val));
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'review', GREATEST(COALESCE(MAX(review_id), 0) + 1, (SELECT COALESCE(MAX(next_val), 1) FROM hibernate_sequence)) FROM review
+ON DUPLICATE KEY UPDATE next_val = GREATEST(id_sequences.next_val, VALUES(next_val));
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'member_zzim_store', GREATEST(COALESCE(MAX(member_zzim_store_id), 0) + 1, (SELECT COALESCE(MAX(next_val), 1) FROM hibernate_sequence)) FROM member_zzim_store
+ON DUPLICATE KEY UPDATE next_val = GREATEST(id_sequences.next_val, VALUES(next_val));
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'comment', COALESCE(MAX(comment_id), 0) + 1 FROM comment
+ON DUPLICATE KEY UPDATE next_val = GREATEST(id_sequences.next_val, VALUES(next_val));
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'member', COALESCE(MAX(member_id), 0) + 1 FROM member
+ON DUPLICATE KEY UPDATE next_val = GREATEST(id_sequences.next_val, VALUES(next_val));
+
+-- member, comment 의 AUTO_INCREMENT 속성은 남겨 둔다. (id 를 직접 넣으므로 사용되지 않음)
@@ -0,0 +1,7 @@
+-- replica 복제 지연 측정용 heartbeat (ReplicaLagMonitor)
+-- primary 에 주기적으로 현재 시각(ms)을 쓰고 replica 에서 읽어 지연을 계산한다.
+CREATE TABLE IF NOT EXISTS replication_heartbeat
+(
+    id             INT    NOT NULL PRIMARY KEY,
+    beat_at_millis BIGINT NOT NULL
+);
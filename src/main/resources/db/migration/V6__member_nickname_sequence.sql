@@ -0,0 +1,6 @@
+-- 가입 닉네임 번호를 id_sequences 의 member_nickname row 에서 블록 단위로 발급한다. (NicknameAllocator, MySQL 8)
+-- id_sequences 테이블은 V4 에서 만든다. NicknameAllocator 가 포함된 버전을 배포하기 전에 실행한다.
+
+-- 닉네임 번호 시작 값 (번호는 FeistelPermutation 으로 섞이므로 0 부터 시작한다.)
+INSERT IGNORE INTO id_sequences (sequence_name, next_val)
+VALUES ('member_nickname', 0);
@@ -0,0 +1,73 @@
+package com.project.semipermbackend.auth.jwt;
+
+import com.project.semipermbackend.domain.token.RevokedToken;
+import com.project.semipermbackend.domain.token.RevokedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationRegistryTest {
+    private RevokedTokenRepository revokedTokenRepository;
+    private TokenRevocationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository = mock(RevokedTokenRepository.class);
+        registry = new TokenRevocationRegistry(revokedTokenRepository, mock(TransactionTemplate.class),
+                new SimpleMeterRegistry(), 600, 1000, 0.001, 5000);
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰만 폐기된 것으로 판단하고, 폐기 내역을 저장한다")
+    void revoke_and_check() {
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        String revokedJti = UUID.randomUUID().toString();
+
+        registry.revoke(revokedJti, 1L, expiration);
+
+        assertThat(registry.isRevoked(revokedJti, expiration)).isTrue();
+        for (int i = 0; i < 1000; i++) {
+            assertThat(registry.isRevoked(UUID.randomUUID().toString(), expiration)).isFalse();
+        }
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 폐기 목록에 넣지 않는다")
+    void revoke_expired_token() {
+        Date expiration = new Date(System.currentTimeMillis() - 1000);
+        String jti = UUID.randomUUID().toString();
+
+        registry.revoke(jti, 1L, expiration);
+
+        assertThat(registry.isRevoked(jti, expiration)).isFalse();
+        verify(revokedTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 저장한 폐기 내역을 동기화한다")
+    void sync_from_other_instance() {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(30).withNano(0);
+        String jti = UUID.randomUUID().toString();
+        given(revokedTokenRepository.findActiveRevokedAfter(any(), any())).willReturn(List.of(
+                RevokedToken.builder().jti(jti).accountId(2L).expiresAt(expiresAt).build()));
+
+        registry.sync();
+
+        Date expiration = Date.from(expiresAt.atZone(java.time.ZoneId.systemDefault()).toInstant());
+        assertThat(registry.isRevoked(jti, expiration)).isTrue();
+        assertThat(registry.size()).isEqualTo(1);
+    }
+}
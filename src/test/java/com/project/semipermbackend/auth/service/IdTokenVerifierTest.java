@@ -0,0 +1,233 @@
+package com.project.semipermbackend.auth.service;
+
+import com.project.semipermbackend.auth.entity.CustomOAuth2UserInfo;
+import com.project.semipermbackend.auth.entity.SocialType;
+import com.project.semipermbackend.auth.exception.LoginDisableException;
+import com.project.semipermbackend.auth.exception.NotProperSocialLoginTypeException;
+import com.project.semipermbackend.common.error.ErrorCode;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 JWKS 서버를 띄워 ID 토큰 검증을 확인한다.
+ */
+class IdTokenVerifierTest {
+    private static final String CLIENT_ID = "semiperm-client";
+    private static final String APPLE_ISSUER = "https://appleid.apple.com";
+
+    private HttpServer jwksServer;
+    private final AtomicReference<String> jwksBody = new AtomicReference<>();
+    private final AtomicInteger jwksRequestCount = new AtomicInteger();
+
+    private KeyPair currentKey;
+    private IdTokenVerifier idTokenVerifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        currentKey = generateKeyPair();
+        jwksBody.set(jwks("key-1", currentKey));
+
+        jwksServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        jwksServer.createContext("/keys", exchange -> {
+            jwksRequestCount.incrementAndGet();
+            byte[] body = jwksBody.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        jwksServer.start();
+
+        String jwksUri = "http://localhost:" + jwksServer.getAddress().getPort() + "/keys";
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("social.id-token.audiences.apple", CLIENT_ID)
+                .withProperty("social.id-token.jwks-uri.apple", jwksUri)
+                .withProperty("social.id-token.audiences.google", CLIENT_ID)
+                .withProperty("social.id-token.jwks-uri.google", jwksUri)
+                .withProperty("social.id-token.jwks-min-refetch-interval-sec", "0")
+                .withProperty("social.id-token.jwks-prefetch-on-startup", "false");
+        idTokenVerifier = new IdTokenVerifier(environment);
+    }
+
+    @AfterEach
+    void tearDown() {
+        idTokenVerifier.shutdown();
+        jwksServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("유효한 ID 토큰 검증 성공")
+    void verify_success() {
+        String idToken = idToken("key-1", currentKey, CLIENT_ID, new Date(System.currentTimeMillis() + 60_000));
+
+        Claims claims = idTokenVerifier.verify(SocialType.APPLE, idToken);
+
+        assertThat(claims.getSubject()).isEqualTo("apple-user");
+        assertThat(claims.get("email")).isEqualTo("user@privaterelay.appleid.com");
+    }
+
+    @Test
+    @DisplayName("키 교체 후 모르는 kid 가 들어오면 JWKS 를 다시 조회한다")
+    void verify_after_key_rotation() throws Exception {
+        idTokenVerifier.verify(SocialType.APPLE,
+                idToken("key-1", currentKey, CLIENT_ID, new Date(System.currentTimeMillis() + 60_000)));
+        int requestCountBeforeRotation = jwksRequestCount.get();
+
+        KeyPair rotatedKey = generateKeyPair();
+        jwksBody.set(jwks("key-2", rotatedKey));
+        String idToken = idToken("key-2", rotatedKey, CLIENT_ID, new Date(System.currentTimeMillis() + 60_000));
+
+        assertThat(idTokenVerifier.verify(SocialType.APPLE, idToken).getSubject()).isEqualTo("apple-user");
+        assertThat(jwksRequestCount.get()).isGreaterThan(requestCountBeforeRotation);
+    }
+
+    @Test
+    @DisplayName("캐시된 키로 검증하면 JWKS 를 다시 조회하지 않는다")
+    void verify_uses_cached_keys() {
+        String idToken = idToken("key-1", currentKey, CLIENT_ID, new Date(System.currentTimeMillis() + 60_000));
+        idTokenVerifier.verify(SocialType.APPLE, idToken);
+        int requestCount = jwksRequestCount.get();
+
+        for (int i = 0; i < 10; i++) {
+            idTokenVerifier.verify(SocialType.APPLE, idToken);
+        }
+
+        assertThat(jwksRequestCount.get()).isEqualTo(requestCount);
+    }
+
+    @Test
+    @DisplayName("다른 클라이언트로 발급된 ID 토큰은 거부한다")
+    void verify_fail_wrong_audience() {
+        String idToken = idToken("key-1", currentKey, "other-client", new Date(System.currentTimeMillis() + 60_000));
+
+        assertThatThrownBy(() -> idTokenVerifier.verify(SocialType.APPLE, idToken))
+                .isInstanceOf(LoginDisableException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_ID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("만료된 ID 토큰은 거부한다")
+    void verify_fail_expired() {
+        String idToken = idToken("key-1", currentKey, CLIENT_ID, new Date(System.currentTimeMillis() - 600_000));
+
+        assertThatThrownBy(() -> idTokenVerifier.verify(SocialType.APPLE, idToken))
+                .isInstanceOf(LoginDisableException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_ID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("같은 kid 라도 JWKS 의 공개키와 서명이 맞지 않으면 거부한다")
+    void verify_fail_signature_mismatch() throws Exception {
+        String idToken = idToken("key-1", generateKeyPair(), CLIENT_ID, new Date(System.currentTimeMillis() + 60_000));
+
+        assertThatThrownBy(() -> idTokenVerifier.verify(SocialType.APPLE, idToken))
+                .isInstanceOf(LoginDisableException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_ID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("모르는 kid 면 JWKS 를 다시 조회하고, 조회한 JWKS 에도 없으면 거부한다")
+    void verify_fail_unknown_kid() throws Exception {
+        idTokenVerifier.verify(SocialType.APPLE,
+                idToken("key-1", currentKey, CLIENT_ID, new Date(System.currentTimeMillis() + 60_000)));
+        int requestCount = jwksRequestCount.get();
+
+        String idToken = idToken("unknown-key", generateKeyPair(), CLIENT_ID, new Date(System.currentTimeMillis() + 60_000));
+
+        assertThatThrownBy(() -> idTokenVerifier.verify(SocialType.APPLE, idToken))
+                .isInstanceOf(LoginDisableException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.INVALID_ID_TOKEN);
+        assertThat(jwksRequestCount.get()).isEqualTo(requestCount + 1);
+    }
+
+    @Test
+    @DisplayName("구글 ID 토큰은 https 가 없는 발급자(accounts.google.com)도 허용한다")
+    void verify_google_issuers() {
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+
+        for (String issuer : SocialType.GOOGLE.getIdTokenIssuers()) {
+            String idToken = idToken("key-1", currentKey, issuer, CLIENT_ID, expiration);
+            assertThat(idTokenVerifier.verify(SocialType.GOOGLE, idToken).getIssuer()).isEqualTo(issuer);
+        }
+        String otherIssuer = idToken("key-1", currentKey, APPLE_ISSUER, CLIENT_ID, expiration);
+        assertThatThrownBy(() -> idTokenVerifier.verify(SocialType.GOOGLE, otherIssuer))
+                .isInstanceOf(LoginDisableException.class);
+    }
+
+    @Test
+    @DisplayName("이메일 클레임이 없으면 \"null\" 이 아닌 빈 이메일로 사용자 정보를 만든다")
+    void user_info_without_email() {
+        String idToken = Jwts.builder()
+                .setHeaderParam("kid", "key-1")
+                .setIssuer(APPLE_ISSUER)
+                .setAudience(CLIENT_ID)
+                .setSubject("apple-user")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(currentKey.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+
+        Claims claims = idTokenVerifier.verify(SocialType.APPLE, idToken);
+        CustomOAuth2UserInfo userInfo = SocialLoadStrategy.getSocialLoadStrategy(SocialType.APPLE).makeOAuth2UserFromIdToken(claims);
+
+        assertThat(userInfo.getSocialId()).isEqualTo("apple-user");
+        assertThat(userInfo.getEmail()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("클라이언트 ID 가 설정되지 않은 소셜 타입은 ID 토큰 로그인 불가")
+    void verify_fail_not_configured() {
+        assertThatThrownBy(() -> idTokenVerifier.verify(SocialType.KAKAO, "token"))
+                .isInstanceOf(NotProperSocialLoginTypeException.class);
+    }
+
+    private String idToken(String kid, KeyPair keyPair, String audience, Date expiration) {
+        return idToken(kid, keyPair, APPLE_ISSUER, audience, expiration);
+    }
+
+    private String idToken(String kid, KeyPair keyPair, String issuer, String audience, Date expiration) {
+        return Jwts.builder()
+                .setHeaderParam("kid", kid)
+                .setIssuer(issuer)
+                .setAudience(audience)
+                .setSubject("apple-user")
+                .claim("email", "user@privaterelay.appleid.com")
+                .setIssuedAt(new Date(expiration.getTime() - 600_000))
+                .setExpiration(expiration)
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    private static String jwks(String kid, KeyPair keyPair) {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "{\"keys\":[{\"kty\":\"RSA\",\"alg\":\"RS256\",\"use\":\"sig\",\"kid\":\"" + kid + "\""
+                + ",\"n\":\"" + encoder.encodeToString(publicKey.getModulus().toByteArray()) + "\""
+                + ",\"e\":\"" + encoder.encodeToString(publicKey.getPublicExponent().toByteArray()) + "\"}]}";
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+}
@@ -0,0 +1,69 @@
+package com.project.semipermbackend.auth.service;
+
+import com.project.semipermbackend.auth.entity.SocialType;
+import com.project.semipermbackend.auth.exception.LoginDisableException;
+import com.project.semipermbackend.common.error.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SocialApiCallExecutorTest {
+    private static final long TIMEOUT_MILLIS = 100;
+
+    private final SocialApiCallExecutor executor =
+            new SocialApiCallExecutor(new SimpleMeterRegistry(), TIMEOUT_MILLIS, 2, 20, 10, 0.5, 30_000);
+    private final CountDownLatch socialApiResponse = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        socialApiResponse.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("withTimeout 은 소셜 API 응답을 기다리지 않고 반환하며, timeout 이 지나면 SOCIAL_API_TIMEOUT 으로 실패한다")
+    void with_timeout_does_not_block() {
+        CompletableFuture<String> shared = executor.submit(SocialType.KAKAO, this::slowSocialApiCall);
+
+        CompletableFuture<String> login = executor.withTimeout(shared);
+
+        assertThat(login).isNotDone();
+        assertThatThrownBy(login::join)
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOfSatisfying(LoginDisableException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SOCIAL_API_TIMEOUT));
+        // 같은 조회를 공유하는 다른 요청의 future 는 timeout 으로 실패시키지 않는다.
+        assertThat(shared).isNotDone();
+    }
+
+    @Test
+    @DisplayName("소셜 API 실패는 await 와 같은 예외로 전달한다")
+    void with_timeout_keeps_business_exception() {
+        CompletableFuture<String> login = executor.withTimeout(executor.submit(SocialType.KAKAO, () -> {
+            throw new LoginDisableException(ErrorCode.SOCIAL_API_UNAVAILABLE);
+        }));
+
+        assertThatThrownBy(login::join)
+                .cause()
+                .isInstanceOfSatisfying(LoginDisableException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SOCIAL_API_UNAVAILABLE));
+    }
+
+    private String slowSocialApiCall() {
+        try {
+            socialApiResponse.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "user";
+    }
+}
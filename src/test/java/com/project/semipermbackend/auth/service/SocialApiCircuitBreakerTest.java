@@ -0,0 +1,111 @@
+package com.project.semipermbackend.auth.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SocialApiCircuitBreakerTest {
+    private static final long OPEN_DURATION_MILLIS = 30_000;
+
+    private final AtomicLong nanoClock = new AtomicLong();
+    private SocialApiCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        // 최근 4건 중 최소 4건 기록 후 실패율 50% 이상이면 OPEN
+        circuitBreaker = new SocialApiCircuitBreaker(4, 4, 0.5, OPEN_DURATION_MILLIS, nanoClock::get);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 이후 실패율이 임계치 이상이면 OPEN 으로 전환하고 호출을 막는다")
+    void closed_to_open() {
+        call(false);
+        call(true);
+        call(false);
+        assertThat(circuitBreaker.getState()).isEqualTo(SocialApiCircuitBreaker.State.CLOSED);
+
+        call(true);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(SocialApiCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("윈도우에서 밀려난 실패는 실패율에 포함하지 않는다")
+    void sliding_window() {
+        call(true);
+        call(false);
+        call(false);
+        call(false);
+        // 첫 실패가 밀려나고 실패 1건 (25%)
+        call(false);
+        call(true);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(SocialApiCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("OPEN 유지 시간이 지나면 HALF_OPEN 으로 시험 호출 1건만 허용하고, 성공하면 CLOSED 로 전환한다")
+    void half_open_to_closed() {
+        open();
+        nanoClock.addAndGet(TimeUnit.MILLISECONDS.toNanos(OPEN_DURATION_MILLIS));
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(SocialApiCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(SocialApiCircuitBreaker.State.CLOSED);
+        // 이전 실패 기록은 초기화된다.
+        call(true);
+        assertThat(circuitBreaker.getState()).isEqualTo(SocialApiCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 실패하면 다시 OPEN 으로 전환한다")
+    void half_open_to_open() {
+        open();
+        nanoClock.addAndGet(TimeUnit.MILLISECONDS.toNanos(OPEN_DURATION_MILLIS));
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(SocialApiCircuitBreaker.State.OPEN);
+        nanoClock.addAndGet(TimeUnit.MILLISECONDS.toNanos(OPEN_DURATION_MILLIS - 1));
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출 권한을 반납하면 다음 호출이 시험 호출이 된다")
+    void half_open_release_permission() {
+        open();
+        nanoClock.addAndGet(TimeUnit.MILLISECONDS.toNanos(OPEN_DURATION_MILLIS));
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        circuitBreaker.releasePermission();
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(SocialApiCircuitBreaker.State.OPEN);
+    }
+
+    private void call(boolean failed) {
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        if (failed) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+}
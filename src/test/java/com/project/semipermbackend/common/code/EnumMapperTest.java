@@ -0,0 +1,39 @@
+package com.project.semipermbackend.common.code;
+
+import com.project.semipermbackend.domain.code.MemberNeeds;
+import com.project.semipermbackend.domain.code.SurgeryCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EnumMapperTest {
+
+    @Test
+    @DisplayName("상수 이름 / title 로 조회하고, 없는 값이나 null 은 null 을 반환한다")
+    void lookup() {
+        EnumMapper<SurgeryCategory> mapper = EnumMapper.of(SurgeryCategory.class);
+
+        assertThat(mapper).isSameAs(EnumMapper.of(SurgeryCategory.class));
+        assertThat(mapper.fromName("SEMIPERM_REMOVAL")).isEqualTo(SurgeryCategory.SEMIPERM_REMOVAL);
+        assertThat(mapper.fromTitle("반영구 제거")).isEqualTo(SurgeryCategory.SEMIPERM_REMOVAL);
+        assertThat(mapper.fromName("semiperm_removal")).isNull();
+        assertThat(mapper.fromTitle(null)).isNull();
+        assertThat(mapper.getConstants()).containsExactly(SurgeryCategory.values());
+
+        assertThat(EnumMapper.of(Gender.class).fromTitleIgnoreCase("w")).isEqualTo(Gender.WOMAN);
+        assertThat(EnumMapper.of(MemberNeeds.class).fromName("CLOSED")).isEqualTo(MemberNeeds.CLOSED);
+    }
+
+    @Test
+    @DisplayName("요청 파라미터는 상수 이름으로 변환하고, 없는 이름이면 변환에 실패한다")
+    void request_parameter_conversion() {
+        EnumMapperConverterFactory factory = new EnumMapperConverterFactory();
+
+        assertThat(factory.getConverter(SurgeryCategory.class).convert(" EYELINE ")).isEqualTo(SurgeryCategory.EYELINE);
+        assertThat(factory.getConverter(SurgeryCategory.class).convert("")).isNull();
+        assertThatThrownBy(() -> factory.getConverter(SurgeryCategory.class).convert("NONE"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,142 @@
+package com.project.semipermbackend.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DB 2개(primary / replica 역할의 H2 메모리 DB)로 라우팅 결과를 확인한다.
+ * 각 DB 의 route_marker 테이블에 자기 이름을 넣어 두고, 트랜잭션 안에서 읽은 값으로 어느 DB 를 사용했는지 판단한다.
+ */
+class ReplicationRoutingDataSourceTest {
+    private static final Long MEMBER_ID = 1L;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private JdbcTemplate routed;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaryDataSource = h2DataSource();
+        DataSource replicaDataSource = h2DataSource();
+        primary = initialize(primaryDataSource, "primary");
+        replica = initialize(replicaDataSource, "replica");
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        replicaLagMonitor = new ReplicaLagMonitor(primaryDataSource, replicaDataSource, 3000, meterRegistry);
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(primaryDataSource, replicaDataSource,
+                new RecentWriterRegistry(Duration.ofSeconds(5), 100), replicaLagMonitor, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        routed = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        User principal = new User(MEMBER_ID.toString(), "", AuthorityUtils.NO_AUTHORITIES);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션은 primary 로 보낸다")
+    void route_by_read_only() {
+        replicateHeartbeat(0);
+
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase())).isEqualTo("replica");
+        assertThat(readWriteTransaction.execute(status -> currentDatabase())).isEqualTo("primary");
+        assertThat(routed.queryForObject("select name from route_marker", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 회원은 잠시 동안 읽기도 primary 에서 한다")
+    void read_your_writes() {
+        replicateHeartbeat(0);
+
+        readWriteTransaction.executeWithoutResult(status -> routed.update("update route_marker set name = name"));
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase())).isEqualTo("primary");
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new User("2", "", AuthorityUtils.NO_AUTHORITIES), "", AuthorityUtils.NO_AUTHORITIES));
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 read-your-writes 대상이 아니다")
+    void rollback_is_not_sticky() {
+        replicateHeartbeat(0);
+
+        readWriteTransaction.executeWithoutResult(status -> {
+            routed.update("update route_marker set name = name");
+            status.setRollbackOnly();
+        });
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("replica 지연이 기준을 넘거나 측정되지 않으면 primary 에서 읽는다")
+    void replica_lag_fallback() {
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase())).isEqualTo("primary");
+
+        replicateHeartbeat(10_000);
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase())).isEqualTo("primary");
+
+        replicateHeartbeat(0);
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase())).isEqualTo("replica");
+    }
+
+    private String currentDatabase() {
+        return routed.queryForObject("select name from route_marker", String.class);
+    }
+
+    /**
+     * primary 에 heartbeat 를 쓰고, lagMillis 만큼 늦은 값이 replica 에 복제된 것처럼 만든 뒤 지연을 측정한다.
+     */
+    private void replicateHeartbeat(long lagMillis) {
+        replicaLagMonitor.writeHeartbeat();
+        Long beatAt = primary.queryForObject("select beat_at_millis from replication_heartbeat where id = 1", Long.class);
+        replica.update("merge into replication_heartbeat (id, beat_at_millis) key (id) values (1, ?)", beatAt - lagMillis);
+        replicaLagMonitor.checkLag();
+    }
+
+    private static DataSource h2DataSource() {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static JdbcTemplate initialize(DataSource dataSource, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table route_marker (name varchar(20))");
+        jdbcTemplate.update("insert into route_marker (name) values (?)", name);
+        jdbcTemplate.execute("create table replication_heartbeat (id int primary key, beat_at_millis bigint not null)");
+        return jdbcTemplate;
+    }
+}
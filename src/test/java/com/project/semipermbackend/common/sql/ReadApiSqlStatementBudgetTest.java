@@ -0,0 +1,156 @@
+package com.project.semipermbackend.common.sql;
+
+import com.project.semipermbackend.auth.entity.SocialType;
+import com.project.semipermbackend.comment.service.CommentService;
+import com.project.semipermbackend.common.QuerydslConfiguration;
+import com.project.semipermbackend.common.code.Gender;
+import com.project.semipermbackend.common.pagination.ApproximateCountCache;
+import com.project.semipermbackend.common.pagination.TotalCountMode;
+import com.project.semipermbackend.config.SqlStatementBudget;
+import com.project.semipermbackend.config.SqlStatementBudgetExtension;
+import com.project.semipermbackend.domain.account.Account;
+import com.project.semipermbackend.domain.account.AccountRepository;
+import com.project.semipermbackend.domain.code.PostCategory;
+import com.project.semipermbackend.domain.code.PostSorting;
+import com.project.semipermbackend.domain.code.SurgeryCategory;
+import com.project.semipermbackend.domain.comment.Comment;
+import com.project.semipermbackend.domain.comment.CommentRepository;
+import com.project.semipermbackend.domain.member.Member;
+import com.project.semipermbackend.domain.member.MemberRepository;
+import com.project.semipermbackend.domain.post.Post;
+import com.project.semipermbackend.domain.post.PostRepository;
+import com.project.semipermbackend.member.service.MemberContext;
+import com.project.semipermbackend.post.dto.PostCreation;
+import com.project.semipermbackend.post.service.PostService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주요 조회 API 의 서비스 호출 한 번에 실행되는 SQL 수 상한 (SqlStatementBudgetExtension)
+ * 게시글 / 댓글 작성자를 여러 회원으로 나누어, 작성자를 건마다 조회하면(N+1) 같은 SQL 반복으로 실패한다.
+ * data.sql 은 MySQL 용이므로 실행하지 않는다. (스키마는 ddl-auto)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never"
+})
+@Import(QuerydslConfiguration.class)
+@ExtendWith(SqlStatementBudgetExtension.class)
+class ReadApiSqlStatementBudgetTest {
+    private static final int PER_SIZE = 10;
+    private static final int MEMBER_COUNT = 3;
+    private static final int POSTS_PER_MEMBER = 5;
+
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired AccountRepository accountRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired PostRepository postRepository;
+    @Autowired CommentRepository commentRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private PostService postService;
+    private CommentService commentService;
+    private Long memberId;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        MemberContext memberContext = new MemberContext(memberRepository, entityManagerFactory);
+        ApproximateCountCache approximateCountCache = new ApproximateCountCache(new SimpleMeterRegistry(), transactionManager, 60, 600, 100);
+        commentService = new CommentService(commentRepository, postRepository, memberContext, approximateCountCache);
+        postService = new PostService(memberContext, commentService, postRepository, approximateCountCache);
+
+        Member[] members = new Member[MEMBER_COUNT];
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            members[i] = saveMember(i);
+        }
+        for (int i = 0; i < MEMBER_COUNT * POSTS_PER_MEMBER; i++) {
+            Post post = postRepository.save(postCreation().toEntity(members[i % MEMBER_COUNT]));
+            postId = post.getPostId();
+        }
+        // 마지막 게시글에 회원마다 댓글
+        Post post = postRepository.getReferenceById(postId);
+        for (Member member : members) {
+            commentRepository.save(Comment.builder()
+                    .member(member)
+                    .post(post)
+                    .content("댓글")
+                    .parentId(0L)
+                    .groupNo(0L)
+                    .build());
+        }
+        memberId = members[0].getMemberId();
+
+        // 데이터 준비 SQL 은 세지 않는다.
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @SqlStatementBudget(value = 2, maxRepeats = 1)
+    @DisplayName("게시글 목록 : 목록 + count")
+    void post_list() {
+        assertThat(postService.getAll(0, PER_SIZE, Collections.emptySet(), PostCategory.TOTAL, PostSorting.LATEST, TotalCountMode.EXACT)
+                .getContents()).hasSize(PER_SIZE);
+    }
+
+    @Test
+    @SqlStatementBudget(value = 4, maxRepeats = 1)
+    @DisplayName("게시글 상세 : 조회수 증가 + 게시글(작성자) + 댓글(작성자) 페이지")
+    void post_detail() {
+        assertThat(postService.getOne(postId, TotalCountMode.EXACT).getComments().getContents()).hasSize(MEMBER_COUNT);
+    }
+
+    @Test
+    @SqlStatementBudget(value = 2, maxRepeats = 1)
+    @DisplayName("내가 쓴 게시글 : 목록 + count")
+    void my_posts() {
+        assertThat(postService.findMyPosts(0, PER_SIZE, memberId, TotalCountMode.EXACT).getContents()).hasSize(POSTS_PER_MEMBER);
+    }
+
+    @Test
+    @SqlStatementBudget(value = 2, maxRepeats = 1)
+    @DisplayName("내가 쓴 댓글 : 목록(게시글) + count")
+    void my_comments() {
+        assertThat(commentService.findMyComments(0, PER_SIZE, memberId, TotalCountMode.EXACT).getContents()).hasSize(1);
+    }
+
+    private Member saveMember(int index) {
+        Account account = accountRepository.save(Account.builder()
+                .socialId("social-id-" + index)
+                .email("user" + index + "@semiperm.com")
+                .profileImageUrl("")
+                .socialType(SocialType.KAKAO)
+                .build());
+        return memberRepository.save(Member.builder()
+                .account(account)
+                .birth(LocalDate.of(1995, 1, 1))
+                .gender(Gender.WOMAN)
+                .nickname("nickname" + index)
+                .build());
+    }
+
+    private PostCreation.RequestDto postCreation() {
+        return PostCreation.RequestDto.builder()
+                .postCategory(PostCategory.FREE)
+                .surgeryCategory(SurgeryCategory.SMP)
+                .title("제목")
+                .content("내용")
+                .build();
+    }
+}
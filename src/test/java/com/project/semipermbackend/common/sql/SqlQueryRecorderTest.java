@@ -0,0 +1,66 @@
+package com.project.semipermbackend.common.sql;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlQueryRecorderTest {
+    private SimpleMeterRegistry meterRegistry;
+    private SqlQueryRecorder recorder;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 모든 SQL 을 느린 SQL 로 기록
+        recorder = new SqlQueryRecorder(meterRegistry, 0, 1.0, 8, 500);
+        jdbcTemplate = new JdbcTemplate(ProxyDataSourceBuilder
+                .create(new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1"))
+                .name("primary")
+                .beforeQuery(recorder::beforeQuery)
+                .afterQuery(recorder::afterQuery)
+                .build());
+        jdbcTemplate.execute("create table post (post_id bigint primary key, title varchar(255))");
+    }
+
+    @Test
+    @DisplayName("바인딩 값이 달라도 같은 형태의 SQL 로 실행 시간을 모은다")
+    void statistics_by_shape() {
+        jdbcTemplate.update("insert into post (post_id, title) values (?, ?)", 1L, "제목");
+        jdbcTemplate.update("insert into post (post_id, title) values (?, ?)", 2L, "두 번째 게시글 제목");
+        jdbcTemplate.queryForList("select title from post where post_id = ?", String.class, 1L);
+
+        List<SqlQueryRecorder.QueryStatistics> top = recorder.top(10, "count");
+        SqlQueryRecorder.QueryStatistics insert = top.get(0);
+
+        assertThat(insert.getSql()).startsWith("insert into post");
+        assertThat(insert.getCount()).isEqualTo(2);
+        assertThat(insert.getSlowCount()).isEqualTo(2);
+        // 긴 바인딩 값은 잘라서 남긴다.
+        assertThat(insert.getLastSlowSample().getParameters()).isEqualTo("[1=2, 2=두 번째 게시글...(11)]");
+        assertThat(insert.getLastSlowSample().getEndpoint()).startsWith("thread:");
+
+        Timer timer = meterRegistry.get("db.query").tag("pool", "primary").tag("query", insert.getId()).timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("누적 통계를 초기화한다")
+    void reset() {
+        jdbcTemplate.queryForList("select title from post", String.class);
+
+        recorder.reset();
+
+        assertThat(recorder.top(10, null)).allSatisfy(statistics -> assertThat(statistics.getCount()).isZero());
+    }
+}
@@ -0,0 +1,68 @@
+package com.project.semipermbackend.common.sql;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class SqlStatementCounterTest {
+    private final SqlStatementInspector inspector = new SqlStatementInspector();
+
+    @Test
+    @DisplayName("바인딩 값만 다른 SQL 은 같은 형태로 세어 N+1 을 찾는다")
+    void repeated_statements() {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.begin()) {
+            inspector.inspect("select p.post_id from post p where p.use_yn = true");
+            for (int memberId = 1; memberId <= 3; memberId++) {
+                inspector.inspect("select m.nickname from member m where m.member_id = " + memberId);
+            }
+
+            assertThat(scope.getCount()).isEqualTo(4);
+            assertThat(scope.getRepeatedStatements(3))
+                    .containsOnlyKeys("select m.nickname from member m where m.member_id = ?");
+        }
+    }
+
+    @Test
+    @DisplayName("안쪽 구간은 바깥 구간과 기록을 공유하고, 연 이후의 SQL 만 센다")
+    void nested_scope() {
+        try (SqlStatementCounter.Scope outer = SqlStatementCounter.begin()) {
+            inspector.inspect("select 1");
+            try (SqlStatementCounter.Scope inner = SqlStatementCounter.begin()) {
+                inspector.inspect("select 2");
+                assertThat(inner.getCount()).isEqualTo(1);
+            }
+            inspector.inspect("select 3");
+            assertThat(outer.getCount()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("안쪽 구간의 반복 SQL 은 연 이후에 실행된 SQL 만으로 센다")
+    void nested_scope_repeated_statements() {
+        try (SqlStatementCounter.Scope outer = SqlStatementCounter.begin()) {
+            for (int memberId = 1; memberId <= 3; memberId++) {
+                inspector.inspect("select m.nickname from member m where m.member_id = " + memberId);
+            }
+            try (SqlStatementCounter.Scope inner = SqlStatementCounter.begin()) {
+                inspector.inspect("select m.nickname from member m where m.member_id = 4");
+                inspector.inspect("select p.post_id from post p where p.post_id = 1");
+                inspector.inspect("select p.post_id from post p where p.post_id = 2");
+
+                assertThat(inner.getRepeatedStatements(2))
+                        .containsOnly(entry("select p.post_id from post p where p.post_id = ?", 2));
+            }
+            assertThat(outer.getRepeatedStatements(2))
+                    .containsEntry("select m.nickname from member m where m.member_id = ?", 4)
+                    .containsEntry("select p.post_id from post p where p.post_id = ?", 2);
+        }
+    }
+
+    @Test
+    @DisplayName("in 절 길이가 달라도 같은 형태로 본다")
+    void shape_of_in_list() {
+        assertThat(SqlStatementCounter.shapeOf("select * from post where post_id in (?, ?, ?)"))
+                .isEqualTo(SqlStatementCounter.shapeOf("select * from post where post_id in (?)"));
+    }
+}
@@ -0,0 +1,135 @@
+package com.project.semipermbackend.common.utils;
+
+import com.project.semipermbackend.common.pagination.TotalCountMode;
+import com.project.semipermbackend.member.controller.MemberController;
+import com.project.semipermbackend.member.service.MemberService;
+import com.project.semipermbackend.post.controller.PostController;
+import com.project.semipermbackend.post.service.PostFeedService;
+import com.project.semipermbackend.post.service.PostService;
+import com.project.semipermbackend.store.controller.StoreController;
+import com.project.semipermbackend.store.service.StoreService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 조건부 GET 을 사용하는 조회 API (게시글 상세, 마이페이지, 나의 찜)
+ * - If-None-Match 가 현재 버전과 같으면 304 이고, 본문을 만드는 조회는 호출하지 않는다.
+ * - 그 외에는 200 과 ETag 로 응답한다.
+ * 보안 필터 없이 컨트롤러만 실행하므로 회원 정보는 SecurityContext 에 직접 넣는다.
+ */
+class ConditionalGetControllerTest {
+    private static final Long MEMBER_ID = 1L;
+    private static final Long POST_ID = 10L;
+    private static final ResourceVersion VERSION = ResourceVersion.of(List.of(LocalDateTime.of(2026, 1, 1, 0, 0)), 3);
+
+    private PostService postService;
+    private MemberService memberService;
+    private StoreService storeService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        postService = mock(PostService.class);
+        memberService = mock(MemberService.class);
+        storeService = mock(StoreService.class);
+        given(postService.getVersion(POST_ID)).willReturn(VERSION);
+        given(memberService.getProfileVersion(MEMBER_ID)).willReturn(VERSION);
+        given(storeService.getVersion(MEMBER_ID)).willReturn(VERSION);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new PostController(postService, mock(PostFeedService.class)),
+                new MemberController(memberService),
+                new StoreController(storeService)).build();
+
+        User principal = new User(String.valueOf(MEMBER_ID), "", Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, "1", principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("게시글 상세 : 변경되지 않았으면 게시글을 조회하지 않고 조회수만 증가시킨다")
+    void post_detail_not_modified() throws Exception {
+        mockMvc.perform(get("/community/post/{postId}", POST_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, VERSION.getETag()))
+                .andExpect(status().isNotModified());
+
+        verify(postService, never()).getOne(anyLong(), any(TotalCountMode.class));
+        verify(postService).increaseViewCount(POST_ID);
+    }
+
+    @Test
+    @DisplayName("게시글 상세 : 변경되었으면 200 과 ETag")
+    void post_detail_modified() throws Exception {
+        mockMvc.perform(get("/community/post/{postId}", POST_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, VERSION.getETag()));
+
+        verify(postService).getOne(POST_ID, TotalCountMode.EXACT);
+    }
+
+    @Test
+    @DisplayName("마이페이지 : 변경되지 않았으면 프로필을 조회하지 않는다")
+    void profile_not_modified() throws Exception {
+        mockMvc.perform(get("/member/mypage")
+                        .header(HttpHeaders.IF_NONE_MATCH, VERSION.getETag()))
+                .andExpect(status().isNotModified());
+
+        verify(memberService, never()).findProfile(anyLong());
+    }
+
+    @Test
+    @DisplayName("마이페이지 : 변경되었으면 200 과 ETag")
+    void profile_modified() throws Exception {
+        mockMvc.perform(get("/member/mypage"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, VERSION.getETag()));
+
+        verify(memberService).findProfile(MEMBER_ID);
+    }
+
+    @Test
+    @DisplayName("나의 찜 : 변경되지 않았으면 찜 목록을 조회하지 않는다")
+    void zzim_stores_not_modified() throws Exception {
+        mockMvc.perform(get("/store")
+                        .header(HttpHeaders.IF_NONE_MATCH, VERSION.getETag()))
+                .andExpect(status().isNotModified());
+
+        verify(storeService, never()).find(anyInt(), anyInt(), anyLong(), any(TotalCountMode.class));
+    }
+
+    @Test
+    @DisplayName("나의 찜 : 변경되었으면 200 과 ETag")
+    void zzim_stores_modified() throws Exception {
+        mockMvc.perform(get("/store"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, VERSION.getETag()));
+
+        verify(storeService).find(0, 10, MEMBER_ID, TotalCountMode.EXACT);
+    }
+}
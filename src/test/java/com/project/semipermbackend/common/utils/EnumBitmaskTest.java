@@ -0,0 +1,36 @@
+package com.project.semipermbackend.common.utils;
+
+import com.project.semipermbackend.domain.code.SurgeryCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnumBitmaskTest {
+
+    @Test
+    @DisplayName("enum 집합을 마스크로 바꿨다가 되돌리면 같은 집합이다")
+    void mask_round_trip() {
+        EnumSet<SurgeryCategory> categories = EnumSet.of(SurgeryCategory.SMP, SurgeryCategory.EYELINE);
+
+        int mask = EnumBitmask.toMask(categories);
+
+        assertThat(mask).isEqualTo(0b1001);
+        assertThat(EnumBitmask.fromMask(SurgeryCategory.class, mask)).isEqualTo(categories);
+        assertThat(EnumBitmask.fromMask(SurgeryCategory.class, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("값을 포함하는 마스크를 빠짐없이 오름차순으로 만든다")
+    void masks_containing() {
+        List<Integer> masks = EnumBitmask.masksContaining(SurgeryCategory.HAIRLINE);
+        int bit = EnumBitmask.bitOf(SurgeryCategory.HAIRLINE);
+
+        assertThat(masks).hasSize(1 << (SurgeryCategory.values().length - 1))
+                .isSorted()
+                .allMatch(mask -> (mask & bit) != 0);
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.semipermbackend.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeistelPermutationTest {
+
+    @Test
+    @DisplayName("범위 안의 모든 값이 범위 안의 서로 다른 값으로 대응된다")
+    void permute_is_bijective() {
+        int domainSize = 1_000_003;
+        FeistelPermutation permutation = new FeistelPermutation(domainSize, "test-key");
+        BitSet seen = new BitSet(domainSize);
+
+        for (int i = 0; i < domainSize; i++) {
+            long permuted = permutation.permute(i);
+            assertThat(permuted).isBetween(0L, domainSize - 1L);
+            seen.set((int) permuted);
+        }
+
+        assertThat(seen.cardinality()).isEqualTo(domainSize);
+    }
+
+    @Test
+    @DisplayName("같은 키는 같은 결과, 다른 키는 다른 결과를 낸다")
+    void permute_depends_on_key() {
+        FeistelPermutation permutation = new FeistelPermutation(1_000_000_000L, "key-1");
+
+        assertThat(new FeistelPermutation(1_000_000_000L, "key-1").permute(42)).isEqualTo(permutation.permute(42));
+        assertThat(new FeistelPermutation(1_000_000_000L, "key-2").permute(42)).isNotEqualTo(permutation.permute(42));
+    }
+}
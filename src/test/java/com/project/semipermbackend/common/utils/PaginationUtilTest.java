@@ -0,0 +1,67 @@
+package com.project.semipermbackend.common.utils;
+
+import com.project.semipermbackend.common.dto.Pagination;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaginationUtilTest {
+
+    @Test
+    @DisplayName("limit + 1 건 조회 결과에서 마지막 한 건은 다음 페이지 여부로만 사용한다")
+    void to_slice() {
+        Slice<Integer> hasNext = PaginationUtil.toSlice(List.of(1, 2, 3, 4), PageRequest.of(0, 3));
+        Slice<Integer> last = PaginationUtil.toSlice(List.of(1, 2), PageRequest.of(1, 3));
+
+        assertThat(hasNext.getContent()).containsExactly(1, 2, 3);
+        assertThat(hasNext.hasNext()).isTrue();
+        assertThat(last.getContent()).containsExactly(1, 2);
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.hasPrevious()).isTrue();
+    }
+
+    @Test
+    @DisplayName("전체 개수 없이 조회하면 totalCount 없이 다음 페이지 여부만 응답한다")
+    void slice_without_count() {
+        Pagination<Integer> pagination = PaginationUtil.sliceToPagination(
+                PaginationUtil.toSlice(List.of(1, 2, 3, 4), PageRequest.of(0, 3)), null);
+
+        assertThat(pagination.getTotalCount()).isNull();
+        assertThat(pagination.getTotalPages()).isNull();
+        assertThat(pagination.isNext()).isTrue();
+        assertThat(pagination.isPrev()).isFalse();
+    }
+
+    @Test
+    @DisplayName("근사 개수는 조회 결과와 맞지 않으면 보정하고, 마지막 페이지는 정확한 개수로 응답한다")
+    void slice_with_approximate_count() {
+        // 캐시 값(2)이 이미 조회된 건수보다 작으면 조회 결과 기준으로 보정
+        Pagination<Integer> stale = PaginationUtil.sliceToPagination(
+                PaginationUtil.toSlice(List.of(1, 2, 3, 4), PageRequest.of(1, 3)), () -> 2L);
+        assertThat(stale.getTotalCount()).isEqualTo(7L);
+        assertThat(stale.isApproximate()).isTrue();
+
+        Pagination<Integer> last = PaginationUtil.sliceToPagination(
+                PaginationUtil.toSlice(List.of(1, 2), PageRequest.of(1, 3)), () -> 100L);
+        assertThat(last.getTotalCount()).isEqualTo(5L);
+        assertThat(last.getTotalPages()).isEqualTo(2L);
+        assertThat(last.isApproximate()).isFalse();
+    }
+
+    @Test
+    @DisplayName("int 범위를 넘는 전체 개수도 그대로 응답한다")
+    void page_with_large_total() {
+        long totalCount = Integer.MAX_VALUE + 10L;
+        Pagination<Integer> pagination = PaginationUtil.pageToPagination(
+                new PageImpl<>(List.of(1, 2, 3), PageRequest.of(0, 3), totalCount));
+
+        assertThat(pagination.getTotalCount()).isEqualTo(totalCount);
+        assertThat(pagination.isNext()).isTrue();
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.semipermbackend.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceVersionTest {
+    private static final LocalDateTime MODIFIED_DATE = LocalDateTime.of(2023, 11, 20, 12, 0);
+
+    @Test
+    @DisplayName("수정 시각 중 가장 최근 값과 개수로 버전을 만든다")
+    void version() {
+        ResourceVersion version = ResourceVersion.of(Arrays.asList(MODIFIED_DATE.minusDays(1), null, MODIFIED_DATE), 3, 10);
+
+        assertThat(version).usingRecursiveComparison().isEqualTo(ResourceVersion.of(List.of(MODIFIED_DATE), 3, 10));
+        assertThat(version.getETag()).startsWith("W/\"");
+        assertThat(version.getETag()).isNotEqualTo(ResourceVersion.of(List.of(MODIFIED_DATE), 2, 10).getETag());
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 현재 버전과 같으면 304, 다르면 ETag 와 함께 본문을 응답한다")
+    void check_not_modified() {
+        ResourceVersion version = ResourceVersion.of(List.of(MODIFIED_DATE), 1);
+
+        MockHttpServletResponse notModified = new MockHttpServletResponse();
+        assertThat(version.checkNotModified(request(version.getETag(), notModified))).isTrue();
+        assertThat(notModified.getStatus()).isEqualTo(304);
+
+        MockHttpServletResponse modified = new MockHttpServletResponse();
+        assertThat(version.checkNotModified(request(ResourceVersion.of(List.of(MODIFIED_DATE), 0).getETag(), modified))).isFalse();
+        assertThat(modified.getStatus()).isEqualTo(200);
+        assertThat(modified.getHeader(HttpHeaders.ETAG)).isEqualTo(version.getETag());
+        assertThat(modified.getHeader(HttpHeaders.CACHE_CONTROL)).contains("no-cache", "private");
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/community/post/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        return new ServletWebRequest(request, response);
+    }
+}
@@ -0,0 +1,83 @@
+package com.project.semipermbackend.common.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WarmUpRunnerTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("설정한 경로만 번갈아 실행하고, 실패하거나 대상이 없는 경로는 이후 실행에서 제외한다. 실패한 경로가 있으면 FAILED")
+    void run_configured_tasks() {
+        AtomicInteger unselected = new AtomicInteger();
+        List<WarmUpTask> tasks = List.of(
+                WarmUpTask.of("feed", iteration -> Map.of("iteration", iteration)),
+                WarmUpTask.of("search", iteration -> {
+                    if (iteration == 2) {
+                        throw new IllegalStateException("검색 실패");
+                    }
+                    return List.of(iteration);
+                }),
+                WarmUpTask.of("auth", iteration -> null),
+                WarmUpTask.of("my-page", iteration -> unselected.incrementAndGet()));
+        WarmUpRunner runner = new WarmUpRunner(tasks, new ObjectMapper(), meterRegistry,
+                true, List.of("feed", "search", "auth", "unknown"), 5, 60, true);
+
+        assertThat(runner.getState()).isEqualTo(WarmUpRunner.State.PENDING);
+        runner.run(null);
+
+        assertThat(runner.getState()).isEqualTo(WarmUpRunner.State.FAILED);
+        assertThat(runner.getCompletedIterations()).containsExactly(Map.entry("feed", 5), Map.entry("search", 2), Map.entry("auth", 0));
+        assertThat(runner.getFailedTasks()).containsExactly("search");
+        assertThat(unselected).hasValue(0);
+        // 실패 없이 실행한 경로 : feed
+        assertThat(runner.getCoverage()).isEqualTo(1.0 / 3);
+        assertThat(meterRegistry.get("warmup.coverage").gauge().value()).isEqualTo(1.0 / 3);
+        assertThat(meterRegistry.get("warmup.task").tag("task", "search").tag("outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("warmup.task").tag("task", "feed").tag("outcome", "success").timer().count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("실행마다 새 요청으로 실행하고, 끝나면 요청 범위 빈을 정리한다")
+    void request_per_run() {
+        List<RequestAttributes> requests = new ArrayList<>();
+        AtomicInteger destroyed = new AtomicInteger();
+        WarmUpRunner runner = new WarmUpRunner(List.of(WarmUpTask.of("my-page", iteration -> {
+            RequestAttributes request = RequestContextHolder.currentRequestAttributes();
+            request.registerDestructionCallback("memberContext", destroyed::incrementAndGet, RequestAttributes.SCOPE_REQUEST);
+            requests.add(request);
+            return iteration;
+        })), new ObjectMapper(), meterRegistry, true, List.of("my-page"), 3, 60, true);
+
+        runner.run(null);
+
+        assertThat(runner.getState()).isEqualTo(WarmUpRunner.State.COMPLETED);
+        assertThat(requests).hasSize(3).doesNotHaveDuplicates();
+        assertThat(destroyed).hasValue(3);
+        assertThat(RequestContextHolder.getRequestAttributes()).isNull();
+    }
+
+    @Test
+    @DisplayName("사용하지 않으면 실행하지 않고 바로 트래픽을 받는다")
+    void disabled() {
+        AtomicInteger executed = new AtomicInteger();
+        WarmUpRunner runner = new WarmUpRunner(List.of(WarmUpTask.of("feed", iteration -> executed.incrementAndGet())),
+                new ObjectMapper(), meterRegistry, false, List.of("feed"), 5, 60, true);
+
+        runner.run(null);
+
+        assertThat(runner.getState()).isEqualTo(WarmUpRunner.State.SKIPPED);
+        assertThat(executed).hasValue(0);
+    }
+}
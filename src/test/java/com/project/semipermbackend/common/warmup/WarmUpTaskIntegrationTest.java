@@ -0,0 +1,152 @@
+package com.project.semipermbackend.common.warmup;
+
+import com.project.semipermbackend.auth.entity.SocialType;
+import com.project.semipermbackend.auth.jwt.JwtTokenProvider;
+import com.project.semipermbackend.auth.jwt.TokenRevocationRegistry;
+import com.project.semipermbackend.auth.token.RefreshTokenStore;
+import com.project.semipermbackend.comment.service.CommentService;
+import com.project.semipermbackend.common.QuerydslConfiguration;
+import com.project.semipermbackend.common.code.Gender;
+import com.project.semipermbackend.common.pagination.ApproximateCountCache;
+import com.project.semipermbackend.domain.account.Account;
+import com.project.semipermbackend.domain.account.AccountRepository;
+import com.project.semipermbackend.domain.code.PostCategory;
+import com.project.semipermbackend.domain.code.SurgeryCategory;
+import com.project.semipermbackend.domain.comment.Comment;
+import com.project.semipermbackend.domain.comment.CommentRepository;
+import com.project.semipermbackend.domain.member.Member;
+import com.project.semipermbackend.domain.member.MemberRepository;
+import com.project.semipermbackend.domain.post.Post;
+import com.project.semipermbackend.domain.post.PostRepository;
+import com.project.semipermbackend.member.service.MemberContext;
+import com.project.semipermbackend.member.service.MemberService;
+import com.project.semipermbackend.member.service.MyPageCache;
+import com.project.semipermbackend.member.service.NicknameAllocator;
+import com.project.semipermbackend.member.service.NicknameRegistry;
+import com.project.semipermbackend.post.dto.PostCreation;
+import com.project.semipermbackend.post.service.PostFeedService;
+import com.project.semipermbackend.post.service.PostService;
+import com.project.semipermbackend.store.service.StoreService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.CustomScopeConfigurer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.RequestScope;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 워밍업 경로 빈(WarmUpTaskConfiguration)을 요청 밖(기동 시)에서 실행한다.
+ * 요청 범위 빈(MemberContext)을 사용하는 경로(feed, my-page)도 실패 없이 실행되는지 확인한다.
+ * - 기동 시처럼 트랜잭션 밖에서 실행한다. (post-detail 의 rollback 트랜잭션 포함)
+ * - auth 는 토큰 발급 빈을 mock 으로 대신하므로 제외한다.
+ * data.sql 은 MySQL 용이므로 실행하지 않는다. (스키마는 ddl-auto)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({QuerydslConfiguration.class, WarmUpTaskIntegrationTest.WarmUpTestConfiguration.class,
+        WarmUpTaskConfiguration.class, WarmUpSamples.class,
+        MemberContext.class, PostFeedService.class, PostService.class, CommentService.class,
+        MemberService.class, MyPageCache.class, StoreService.class, ApproximateCountCache.class})
+class WarmUpTaskIntegrationTest {
+    private static final List<String> TASK_NAMES = List.of("feed", "post-list", "post-detail", "search", "my-page");
+    private static final int ITERATIONS = 3;
+
+    @Autowired List<WarmUpTask> warmUpTasks;
+    @Autowired MeterRegistry meterRegistry;
+    @Autowired AccountRepository accountRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired PostRepository postRepository;
+    @Autowired CommentRepository commentRepository;
+
+    @MockBean JwtTokenProvider jwtTokenProvider;
+    @MockBean TokenRevocationRegistry tokenRevocationRegistry;
+    @MockBean RefreshTokenStore refreshTokenStore;
+    @MockBean NicknameAllocator nicknameAllocator;
+    @MockBean NicknameRegistry nicknameRegistry;
+
+    @Test
+    @DisplayName("요청 범위 빈을 사용하는 경로를 포함하여 설정한 경로를 모두 실행한다")
+    void run_real_tasks() {
+        saveSamples();
+        WarmUpRunner runner = new WarmUpRunner(warmUpTasks, Jackson2ObjectMapperBuilder.json().build(), meterRegistry,
+                true, TASK_NAMES, ITERATIONS, 60, true);
+
+        runner.run(null);
+
+        assertThat(runner.getFailedTasks()).isEmpty();
+        assertThat(runner.getState()).isEqualTo(WarmUpRunner.State.COMPLETED);
+        assertThat(runner.getCompletedIterations()).containsOnlyKeys(TASK_NAMES)
+                .allSatisfy((task, iterations) -> assertThat(iterations).as(task).isEqualTo(ITERATIONS));
+        assertThat(runner.getCoverage()).isEqualTo(1.0);
+    }
+
+    private void saveSamples() {
+        Account account = accountRepository.save(Account.builder()
+                .socialId("social-id")
+                .email("user@semiperm.com")
+                .profileImageUrl("")
+                .socialType(SocialType.KAKAO)
+                .build());
+        Member member = memberRepository.save(Member.builder()
+                .account(account)
+                .birth(LocalDate.of(1995, 1, 1))
+                .gender(Gender.WOMAN)
+                .nickname("nickname")
+                .interestingFields(EnumSet.of(SurgeryCategory.SMP, SurgeryCategory.EYELINE))
+                .build());
+        for (SurgeryCategory surgeryCategory : List.of(SurgeryCategory.SMP, SurgeryCategory.EYELINE)) {
+            Post post = postRepository.save(PostCreation.RequestDto.builder()
+                    .postCategory(PostCategory.FREE)
+                    .surgeryCategory(surgeryCategory)
+                    .title("눈썹 후기")
+                    .content("내용")
+                    .build()
+                    .toEntity(member));
+            commentRepository.save(Comment.builder()
+                    .member(member)
+                    .post(post)
+                    .content("댓글")
+                    .parentId(0L)
+                    .groupNo(0L)
+                    .build());
+        }
+    }
+
+    @TestConfiguration
+    static class WarmUpTestConfiguration {
+
+        /**
+         * 웹 애플리케이션 컨텍스트가 아니므로 request 범위를 직접 등록한다.
+         */
+        @Bean
+        static CustomScopeConfigurer requestScopeConfigurer() {
+            CustomScopeConfigurer configurer = new CustomScopeConfigurer();
+            configurer.addScope(WebApplicationContext.SCOPE_REQUEST, new RequestScope());
+            return configurer;
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.project.semipermbackend.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트(API 호출) 한 번에 허용되는 SQL 실행 수. 넘으면 테스트가 실패한다. (SqlStatementBudgetExtension)
+ * - value : 최대 SQL 수
+ * - maxRepeats : 같은 형태의 SQL 최대 반복 수 (N+1 확인)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlStatementBudget {
+    int value();
+
+    int maxRepeats() default Integer.MAX_VALUE;
+}
@@ -0,0 +1,45 @@
+package com.project.semipermbackend.config;
+
+import com.project.semipermbackend.common.sql.SqlStatementCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Map;
+
+/**
+ * @SqlStatementBudget 이 붙은 테스트에서 실행된 SQL 수를 확인한다.
+ * 테스트 메서드 본문에서 실행된 SQL 만 센다. (@BeforeEach 의 데이터 준비는 제외)
+ * MockMvc 요청은 테스트 스레드에서 실행되므로 테스트 동안 실행된 SQL 이 모두 기록된다.
+ */
+public class SqlStatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(SqlStatementBudgetExtension.class);
+    private static final String SCOPE_KEY = "scope";
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(SCOPE_KEY, SqlStatementCounter.begin());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementCounter.Scope scope = context.getStore(NAMESPACE).remove(SCOPE_KEY, SqlStatementCounter.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        try {
+            SqlStatementBudget budget = context.getRequiredTestMethod().getAnnotation(SqlStatementBudget.class);
+            if (budget == null) {
+                return;
+            }
+            Map<String, Integer> repeated = budget.maxRepeats() == Integer.MAX_VALUE
+                    ? Map.of() : scope.getRepeatedStatements(budget.maxRepeats() + 1);
+            if (scope.getCount() > budget.value() || !repeated.isEmpty()) {
+                throw new AssertionError(String.format("SQL 실행 수 초과 : %d 건 (허용 %d 건, 같은 SQL 최대 %d 번)%n반복 SQL : %s",
+                        scope.getCount(), budget.value(), budget.maxRepeats(), scope.getRepeatedStatements(2)));
+            }
+        } finally {
+            scope.close();
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.project.semipermbackend.member.service;
+
+import com.project.semipermbackend.auth.entity.SocialType;
+import com.project.semipermbackend.comment.dto.CommentCreationDto;
+import com.project.semipermbackend.comment.dto.CommentUpdateDto;
+import com.project.semipermbackend.comment.service.CommentService;
+import com.project.semipermbackend.common.QuerydslConfiguration;
+import com.project.semipermbackend.common.code.Gender;
+import com.project.semipermbackend.common.pagination.ApproximateCountCache;
+import com.project.semipermbackend.domain.account.Account;
+import com.project.semipermbackend.domain.account.AccountRepository;
+import com.project.semipermbackend.domain.code.PostCategory;
+import com.project.semipermbackend.domain.code.SurgeryCategory;
+import com.project.semipermbackend.domain.comment.Comment;
+import com.project.semipermbackend.domain.comment.CommentRepository;
+import com.project.semipermbackend.domain.member.Member;
+import com.project.semipermbackend.domain.member.MemberRepository;
+import com.project.semipermbackend.domain.post.Post;
+import com.project.semipermbackend.domain.post.PostRepository;
+import com.project.semipermbackend.domain.store.MemberZzimStoreRepository;
+import com.project.semipermbackend.domain.store.StoreRepository;
+import com.project.semipermbackend.post.dto.PostCreation;
+import com.project.semipermbackend.post.service.PostService;
+import com.project.semipermbackend.store.dto.StoreZzimCreationDto;
+import com.project.semipermbackend.store.service.StoreService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceException;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 인증된 사용자의 쓰기 요청에서 작성자(member) 엔티티 조회가 없어졌는지 확인한다.
+ * 같은 쓰기 작업을 "기존 방식(작성자 엔티티 선조회)" 과 비교하여, 실행된 SQL 이 정확히 1개 적은지 확인한다.
+ * data.sql 은 MySQL 용이므로 실행하지 않는다. (스키마는 ddl-auto)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.sql.init.mode=never"
+})
+@Import(QuerydslConfiguration.class)
+class MemberContextQueryCountTest {
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired AccountRepository accountRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired PostRepository postRepository;
+    @Autowired CommentRepository commentRepository;
+    @Autowired StoreRepository storeRepository;
+    @Autowired MemberZzimStoreRepository memberZzimStoreRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private ApproximateCountCache approximateCountCache;
+    private Long memberId;
+    private MemberContext memberContext;
+    private PostService postService;
+    private CommentService commentService;
+    private StoreService storeService;
+
+    @BeforeEach
+    void setUp() {
+        Account account = accountRepository.save(Account.builder()
+                .socialId("social-id")
+                .email("user@semiperm.com")
+                .profileImageUrl("")
+                .socialType(SocialType.KAKAO)
+                .build());
+        memberId = memberRepository.save(Member.builder()
+                .account(account)
+                .birth(LocalDate.of(1995, 1, 1))
+                .gender(Gender.WOMAN)
+                .nickname("nickname")
+                .build()).getMemberId();
+
+        approximateCountCache = new ApproximateCountCache(new SimpleMeterRegistry(), transactionManager, 60, 600, 100);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User principal = new User(memberId.toString(), "", AuthorityUtils.NO_AUTHORITIES);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, account.getAccountId().toString(), principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("게시글 작성")
+    void post_create() {
+        long statements = countStatements(false, () -> postService.create(memberId, postCreation()));
+        long memberLoadCount = memberLoadCount();
+        long legacyStatements = countStatements(true, () -> postService.create(memberId, postCreation()));
+
+        assertThat(statements).isEqualTo(legacyStatements - 1);
+        assertThat(memberLoadCount).isZero();
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 (작성자 확인)")
+    void post_delete() {
+        Long postId = savePost();
+        Long otherPostId = savePost();
+
+        long statements = countStatements(false, () -> postService.deleteOne(postId));
+        long legacyStatements = countStatements(true, () -> postService.deleteOne(otherPostId));
+
+        assertThat(statements).isEqualTo(legacyStatements - 1);
+    }
+
+    @Test
+    @DisplayName("댓글 작성")
+    void comment_create() {
+        Long postId = savePost();
+
+        long statements = countStatements(false,
+                () -> commentService.create(memberId, postId, new CommentCreationDto.Request("댓글", 0L, null)));
+        long memberLoadCount = memberLoadCount();
+        long legacyStatements = countStatements(true,
+                () -> commentService.create(memberId, postId, new CommentCreationDto.Request("댓글", 0L, null)));
+
+        assertThat(statements).isEqualTo(legacyStatements - 1);
+        assertThat(memberLoadCount).isZero();
+    }
+
+    @Test
+    @DisplayName("댓글 수정 (작성자 확인)")
+    void comment_update() {
+        Long commentId = saveComment(savePost());
+
+        long statements = countStatements(false, () -> commentService.updateOne(commentId, commentUpdate("수정")));
+        long legacyStatements = countStatements(true, () -> commentService.updateOne(commentId, commentUpdate("재수정")));
+
+        assertThat(statements).isEqualTo(legacyStatements - 1);
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 (작성자 확인)")
+    void comment_delete() {
+        Long postId = savePost();
+        Long commentId = saveComment(postId);
+        Long otherCommentId = saveComment(postId);
+
+        long statements = countStatements(false, () -> commentService.deleteOne(commentId));
+        long memberLoadCount = memberLoadCount();
+        long legacyStatements = countStatements(true, () -> commentService.deleteOne(otherCommentId));
+
+        assertThat(statements).isEqualTo(legacyStatements - 1);
+        assertThat(memberLoadCount).isZero();
+    }
+
+    @Test
+    @DisplayName("사업장 찜")
+    void store_zzim_create() {
+        long statements = countStatements(false, () -> storeService.create(memberId, storeZzimCreation("place-1")));
+        long memberLoadCount = memberLoadCount();
+        long legacyStatements = countStatements(true, () -> storeService.create(memberId, storeZzimCreation("place-2")));
+
+        assertThat(statements).isEqualTo(legacyStatements - 1);
+        assertThat(memberLoadCount).isZero();
+    }
+
+    @Test
+    @DisplayName("없는 회원은 FK 제약으로 저장에 실패한다")
+    void unknown_member() {
+        newRequest();
+
+        assertThatThrownBy(() -> {
+            postService.create(memberId + 1, postCreation());
+            entityManager.flush();
+        }).isInstanceOf(PersistenceException.class);
+    }
+
+    /**
+     * 영속성 컨텍스트를 비운 상태(새 요청)에서 쓰기 작업을 실행하고 실행된 SQL 수를 반환한다.
+     * @param preloadMember true 면 기존 방식처럼 작성자 엔티티를 먼저 조회한다.
+     */
+    private long countStatements(boolean preloadMember, Runnable write) {
+        entityManager.flush();
+        entityManager.clear();
+        newRequest();
+
+        statistics.clear();
+        if (preloadMember) {
+            memberContext.getMember(memberId);
+        }
+        write.run();
+        entityManager.flush();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 요청 단위 MemberContext 를 새로 만든다.
+     */
+    private void newRequest() {
+        memberContext = new MemberContext(memberRepository, entityManagerFactory);
+        commentService = new CommentService(commentRepository, postRepository, memberContext, approximateCountCache);
+        postService = new PostService(memberContext, commentService, postRepository, approximateCountCache);
+        storeService = new StoreService(memberContext, storeRepository, memberZzimStoreRepository, approximateCountCache);
+    }
+
+    private long memberLoadCount() {
+        return statistics.getEntityStatistics(Member.class.getName()).getLoadCount();
+    }
+
+    private Long savePost() {
+        Post post = postRepository.save(postCreation().toEntity(memberRepository.getReferenceById(memberId)));
+        entityManager.flush();
+        return post.getPostId();
+    }
+
+    private Long saveComment(Long postId) {
+        Comment comment = commentRepository.save(Comment.builder()
+                .member(memberRepository.getReferenceById(memberId))
+                .post(postRepository.getReferenceById(postId))
+                .content("댓글")
+                .parentId(0L)
+                .groupNo(0L)
+                .build());
+        entityManager.flush();
+        return comment.getCommentId();
+    }
+
+    private PostCreation.RequestDto postCreation() {
+        return PostCreation.RequestDto.builder()
+                .postCategory(PostCategory.FREE)
+                .surgeryCategory(SurgeryCategory.SMP)
+                .title("제목")
+                .content("내용")
+                .build();
+    }
+
+    private CommentUpdateDto.Request commentUpdate(String content) {
+        return CommentUpdateDto.Request.builder().content(content).build();
+    }
+
+    private StoreZzimCreationDto.Request storeZzimCreation(String placeId) {
+        StoreZzimCreationDto.Request request = new StoreZzimCreationDto.Request();
+        request.setPlaceId(placeId);
+        return request;
+    }
+}
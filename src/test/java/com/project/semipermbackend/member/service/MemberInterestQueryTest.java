@@ -0,0 +1,96 @@
+package com.project.semipermbackend.member.service;
+
+import com.project.semipermbackend.auth.entity.SocialType;
+import com.project.semipermbackend.common.QuerydslConfiguration;
+import com.project.semipermbackend.common.code.Gender;
+import com.project.semipermbackend.domain.account.Account;
+import com.project.semipermbackend.domain.account.AccountRepository;
+import com.project.semipermbackend.domain.code.SurgeryCategory;
+import com.project.semipermbackend.domain.member.Member;
+import com.project.semipermbackend.domain.member.MemberInterest;
+import com.project.semipermbackend.domain.member.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관심 시술로 회원 조회 (mask in (...) + (interesting_fields_mask, member_id) keyset 페이징)
+ * data.sql 은 MySQL 용이므로 실행하지 않는다. (스키마는 ddl-auto)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never"
+})
+@Import(QuerydslConfiguration.class)
+class MemberInterestQueryTest {
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired EntityManager entityManager;
+    @Autowired AccountRepository accountRepository;
+    @Autowired MemberRepository memberRepository;
+
+    @Test
+    @DisplayName("관심 시술이 포함된 회원만 페이지 사이에 빠짐과 중복 없이 (마스크, 회원) 순서로 조회한다")
+    void find_members_interested_in() {
+        List<Long> expected = new ArrayList<>();
+        expected.add(saveMember(0, EnumSet.of(SurgeryCategory.SMP)));
+        expected.add(saveMember(1, EnumSet.of(SurgeryCategory.SMP, SurgeryCategory.EYELINE)));
+        expected.add(saveMember(2, EnumSet.of(SurgeryCategory.SMP)));
+        expected.add(saveMember(3, EnumSet.of(SurgeryCategory.SMP, SurgeryCategory.HAIRLINE, SurgeryCategory.SCAR_COVERUP)));
+        expected.add(saveMember(4, EnumSet.of(SurgeryCategory.SMP, SurgeryCategory.HAIRLINE)));
+        saveMember(5, EnumSet.of(SurgeryCategory.EYELINE));
+        saveMember(6, EnumSet.noneOf(SurgeryCategory.class));
+        entityManager.flush();
+        entityManager.clear();
+        MemberService memberService = new MemberService(memberRepository, accountRepository, null, null, null, null, null);
+
+        List<MemberInterest> found = new ArrayList<>();
+        Integer afterMask = null;
+        Long afterMemberId = null;
+        List<MemberInterest> page;
+        do {
+            page = memberService.findMembersInterestedIn(SurgeryCategory.SMP, afterMask, afterMemberId, PAGE_SIZE);
+            found.addAll(page);
+            if (!page.isEmpty()) {
+                afterMask = page.get(page.size() - 1).getInterestingFieldsMask();
+                afterMemberId = page.get(page.size() - 1).getMemberId();
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        assertThat(found).extracting(MemberInterest::getMemberId).containsExactlyInAnyOrderElementsOf(expected);
+        for (int i = 1; i < found.size(); i++) {
+            MemberInterest previous = found.get(i - 1);
+            MemberInterest current = found.get(i);
+            assertThat(current.getInterestingFieldsMask() > previous.getInterestingFieldsMask()
+                    || (current.getInterestingFieldsMask().equals(previous.getInterestingFieldsMask())
+                    && current.getMemberId() > previous.getMemberId())).isTrue();
+        }
+    }
+
+    private Long saveMember(int index, Set<SurgeryCategory> interestingFields) {
+        Account account = accountRepository.save(Account.builder()
+                .socialId("social-id-" + index)
+                .email("user" + index + "@semiperm.com")
+                .profileImageUrl("")
+                .socialType(SocialType.KAKAO)
+                .build());
+        return memberRepository.save(Member.builder()
+                .account(account)
+                .birth(LocalDate.of(1995, 1, 1))
+                .gender(Gender.WOMAN)
+                .nickname("nickname" + index)
+                .interestingFields(interestingFields)
+                .build()).getMemberId();
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.semipermbackend.member.service;
+
+import com.project.semipermbackend.auth.entity.SocialType;
+import com.project.semipermbackend.domain.sequence.IdSequenceAllocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class NicknameAllocatorTest {
+    private static final int BLOCK_SIZE = 5;
+    private static final int BLOCK_COUNT = 10;
+
+    // 블록 조회(DB)가 실행된 스레드
+    private final List<String> allocatingThreads = new CopyOnWriteArrayList<>();
+    private NicknameAllocator nicknameAllocator;
+
+    @BeforeEach
+    void setUp() {
+        IdSequenceAllocator idSequenceAllocator = mock(IdSequenceAllocator.class);
+        AtomicLong nextBlockStart = new AtomicLong();
+        given(idSequenceAllocator.allocateBlock(eq(NicknameAllocator.SEQUENCE_NAME), anyInt())).willAnswer(invocation -> {
+            allocatingThreads.add(Thread.currentThread().getName());
+            return nextBlockStart.getAndAdd(invocation.<Integer>getArgument(1));
+        });
+        nicknameAllocator = new NicknameAllocator(idSequenceAllocator, "test-key", BLOCK_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nicknameAllocator.shutdown();
+    }
+
+    @Test
+    @DisplayName("블록 경계를 넘어도 중복 없이 자동 발급 형식의 닉네임을 발급한다")
+    void unique_across_blocks() {
+        nicknameAllocator.prefetchOnStartup();
+
+        Set<String> nicknames = new HashSet<>();
+        for (int i = 0; i < BLOCK_SIZE * BLOCK_COUNT; i++) {
+            String nickname = nicknameAllocator.allocate(SocialType.KAKAO);
+            assertThat(NicknameAllocator.isGeneratedFormat(nickname)).as(nickname).isTrue();
+            nicknames.add(nickname);
+        }
+
+        assertThat(nicknames).hasSize(BLOCK_SIZE * BLOCK_COUNT);
+    }
+
+    @Test
+    @DisplayName("기동 시 첫 블록을 가져오면 회원가입(allocate) 스레드에서는 블록을 조회하지 않는다")
+    void no_db_access_on_signup_path() {
+        nicknameAllocator.prefetchOnStartup();
+
+        for (int i = 0; i < BLOCK_SIZE * BLOCK_COUNT; i++) {
+            nicknameAllocator.allocate(SocialType.GOOGLE);
+        }
+
+        assertThat(allocatingThreads).hasSizeGreaterThanOrEqualTo(BLOCK_COUNT)
+                .doesNotContain(Thread.currentThread().getName())
+                .containsOnly("nickname-block-prefetch");
+    }
+}
@@ -2,6 +2,7 @@ package com.project.semipermbackend.post.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.semipermbackend.post.dto.PostCreation;
+import com.project.semipermbackend.post.service.PostFeedService;
 import com.project.semipermbackend.post.service.PostService;
 import com.project.semipermbackend.domain.code.PostCategory;
 import com.project.semipermbackend.domain.code.SurgeryCategory;
@@ -32,6 +33,8 @@ class PostControllerTest {
 
     @MockBean
     private PostService communityService;
+    @MockBean
+    private PostFeedService postFeedService;
 
 
     @Test
@@ -0,0 +1,233 @@
+package com.project.semipermbackend.post.service;
+
+import com.project.semipermbackend.auth.entity.SocialType;
+import com.project.semipermbackend.common.QuerydslConfiguration;
+import com.project.semipermbackend.common.code.Gender;
+import com.project.semipermbackend.common.error.exception.InvalidRequestDataException;
+import com.project.semipermbackend.domain.account.Account;
+import com.project.semipermbackend.domain.account.AccountRepository;
+import com.project.semipermbackend.domain.code.PostCategory;
+import com.project.semipermbackend.domain.code.PostSorting;
+import com.project.semipermbackend.domain.code.SurgeryCategory;
+import com.project.semipermbackend.domain.member.Member;
+import com.project.semipermbackend.domain.member.MemberRepository;
+import com.project.semipermbackend.domain.post.PostRepository;
+import com.project.semipermbackend.member.service.MemberContext;
+import com.project.semipermbackend.post.dto.PostCreation;
+import com.project.semipermbackend.post.dto.PostFeedDto;
+import com.project.semipermbackend.post.dto.PostFindDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 홈 피드 (PostFeedService.getFeed -> PostRepositoryCustomImpl.findFeedChunk, FeedCursor)
+ * 작성 시각 / 좋아요 수가 같은 게시글을 카테고리마다 두어, 페이지 경계에서 postId 로 순서를 정하는지 확인한다.
+ * data.sql 은 MySQL 용이므로 실행하지 않는다. (스키마는 ddl-auto)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never"
+})
+@Import(QuerydslConfiguration.class)
+class PostFeedServiceTest {
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final Set<SurgeryCategory> INTERESTS = EnumSet.of(SurgeryCategory.SMP, SurgeryCategory.EYELINE);
+
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired AccountRepository accountRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired PostRepository postRepository;
+
+    private PostFeedService postFeedService;
+    private Member member;
+    private final List<FeedPost> feedPosts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        member = saveMember(0, INTERESTS);
+
+        savePost(SurgeryCategory.SMP, 0, 3);
+        savePost(SurgeryCategory.SMP, 10, 5);
+        savePost(SurgeryCategory.SMP, 10, 5);
+        savePost(SurgeryCategory.SMP, 20, 1);
+        savePost(SurgeryCategory.EYELINE, 10, 5);
+        savePost(SurgeryCategory.EYELINE, 5, 3);
+        savePost(SurgeryCategory.EYELINE, 20, 0);
+        savePost(SurgeryCategory.HAIRLINE, 10, 5);
+        savePost(SurgeryCategory.HAIRLINE, 15, 2);
+
+        entityManager.flush();
+        entityManager.clear();
+        postFeedService = new PostFeedService(new MemberContext(memberRepository, entityManagerFactory), postRepository);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PostSorting.class, names = {"LATEST", "LIKE"})
+    @DisplayName("관심 시술 카테고리들의 게시글을 하나의 순서로 합친다")
+    void merge_categories(PostSorting sorting) {
+        PostFeedDto.Response feed = postFeedService.getFeed(member.getMemberId(), INTERESTS, PostCategory.TOTAL,
+                sorting, null, feedPosts.size());
+
+        assertThat(postIds(feed)).containsExactlyElementsOf(expectedOrder(sorting, INTERESTS));
+        assertThat(feed.getNextCursor()).isNull();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PostSorting.class, names = {"LATEST", "LIKE"})
+    @DisplayName("같은 정렬 값이 페이지 경계에 걸려도 빠짐과 중복 없이 이어서 조회하고, 마지막 페이지의 커서는 null 이다")
+    void continue_across_ties(PostSorting sorting) {
+        List<Long> pagedIds = readAllPages(INTERESTS, sorting, 2);
+
+        assertThat(pagedIds).containsExactlyElementsOf(expectedOrder(sorting, INTERESTS));
+    }
+
+    @Test
+    @DisplayName("마지막 페이지가 페이지 크기만큼 꽉 차도 다음 커서는 null 이다")
+    void last_page_full() {
+        // 전체 9건, 페이지 크기 3
+        List<Long> pagedIds = readAllPages(EnumSet.of(SurgeryCategory.ALL), PostSorting.LATEST, 3);
+
+        assertThat(pagedIds).hasSize(feedPosts.size());
+    }
+
+    @Test
+    @DisplayName("다른 정렬의 커서는 거부한다")
+    void reject_cursor_of_other_sorting() {
+        String latestCursor = postFeedService.getFeed(member.getMemberId(), INTERESTS, PostCategory.TOTAL,
+                PostSorting.LATEST, null, 2).getNextCursor();
+
+        assertThat(latestCursor).isNotNull();
+        assertThatThrownBy(() -> postFeedService.getFeed(member.getMemberId(), INTERESTS, PostCategory.TOTAL,
+                PostSorting.LIKE, latestCursor, 2))
+                .isInstanceOf(InvalidRequestDataException.class);
+    }
+
+    @Test
+    @DisplayName("ALL 을 선택하거나 관심 시술이 없는 회원은 전체 카테고리를 조회한다")
+    void all_categories() {
+        Set<SurgeryCategory> allCategories = EnumSet.allOf(SurgeryCategory.class);
+        Member noInterestMember = saveMember(1, EnumSet.noneOf(SurgeryCategory.class));
+        entityManager.flush();
+        entityManager.clear();
+
+        PostFeedDto.Response allFeed = postFeedService.getFeed(member.getMemberId(), EnumSet.of(SurgeryCategory.ALL),
+                PostCategory.TOTAL, PostSorting.LATEST, null, feedPosts.size());
+        PostFeedDto.Response noInterestFeed = postFeedService.getFeed(noInterestMember.getMemberId(), Collections.emptySet(),
+                PostCategory.TOTAL, PostSorting.LATEST, null, feedPosts.size());
+
+        assertThat(postIds(allFeed)).containsExactlyElementsOf(expectedOrder(PostSorting.LATEST, allCategories));
+        assertThat(postIds(noInterestFeed)).containsExactlyElementsOf(expectedOrder(PostSorting.LATEST, allCategories));
+    }
+
+    @Test
+    @DisplayName("필터가 비어있으면 회원의 관심 시술만 조회한다")
+    void member_interests() {
+        PostFeedDto.Response feed = postFeedService.getFeed(member.getMemberId(), Collections.emptySet(),
+                PostCategory.TOTAL, PostSorting.LATEST, null, feedPosts.size());
+
+        assertThat(postIds(feed)).containsExactlyElementsOf(expectedOrder(PostSorting.LATEST, INTERESTS));
+    }
+
+    /**
+     * nextCursor 가 null 이 될 때까지 조회한다. 마지막 페이지를 제외한 페이지는 perSize 만큼 꽉 차야 한다.
+     */
+    private List<Long> readAllPages(Set<SurgeryCategory> surgeryCategories, PostSorting sorting, int perSize) {
+        List<Long> pagedIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            PostFeedDto.Response page = postFeedService.getFeed(member.getMemberId(), surgeryCategories, PostCategory.TOTAL,
+                    sorting, cursor, perSize);
+            assertThat(page.getPosts()).hasSizeLessThanOrEqualTo(perSize);
+            if (Objects.nonNull(page.getNextCursor())) {
+                assertThat(page.getPosts()).hasSize(perSize);
+            }
+            pagedIds.addAll(postIds(page));
+            cursor = page.getNextCursor();
+        } while (Objects.nonNull(cursor));
+        return pagedIds;
+    }
+
+    /**
+     * (정렬 값, postId) 내림차순
+     */
+    private List<Long> expectedOrder(PostSorting sorting, Set<SurgeryCategory> surgeryCategories) {
+        Comparator<FeedPost> order = sorting == PostSorting.LIKE
+                ? Comparator.comparingInt(FeedPost::getLikeCount).thenComparing(FeedPost::getPostId)
+                : Comparator.comparing(FeedPost::getCreatedDate).thenComparing(FeedPost::getPostId);
+        return feedPosts.stream()
+                .filter(feedPost -> surgeryCategories.contains(SurgeryCategory.ALL) || surgeryCategories.contains(feedPost.getSurgeryCategory()))
+                .sorted(order.reversed())
+                .map(FeedPost::getPostId)
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> postIds(PostFeedDto.Response feed) {
+        return feed.getPosts().stream()
+                .map(PostFindDto.Response::getPostId)
+                .collect(Collectors.toList());
+    }
+
+    private void savePost(SurgeryCategory surgeryCategory, int minutesAfterBase, int likeCount) {
+        Long postId = postRepository.save(PostCreation.RequestDto.builder()
+                .postCategory(PostCategory.FREE)
+                .surgeryCategory(surgeryCategory)
+                .title("제목")
+                .content("내용")
+                .build()
+                .toEntity(member)).getPostId();
+        entityManager.flush();
+
+        // 작성 시각은 auditing 으로 채워지므로 직접 바꾼다.
+        LocalDateTime createdDate = BASE_TIME.plusMinutes(minutesAfterBase);
+        entityManager.createNativeQuery("update post set created_date = ?, like_count = ? where post_id = ?")
+                .setParameter(1, createdDate)
+                .setParameter(2, likeCount)
+                .setParameter(3, postId)
+                .executeUpdate();
+        feedPosts.add(new FeedPost(postId, surgeryCategory, createdDate, likeCount));
+    }
+
+    private Member saveMember(int index, Set<SurgeryCategory> interestingFields) {
+        Account account = accountRepository.save(Account.builder()
+                .socialId("social-id-" + index)
+                .email("user" + index + "@semiperm.com")
+                .profileImageUrl("")
+                .socialType(SocialType.KAKAO)
+                .build());
+        return memberRepository.save(Member.builder()
+                .account(account)
+                .birth(LocalDate.of(1995, 1, 1))
+                .gender(Gender.WOMAN)
+                .nickname("nickname" + index)
+                .interestingFields(interestingFields)
+                .build());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class FeedPost {
+        private final Long postId;
+        private final SurgeryCategory surgeryCategory;
+        private final LocalDateTime createdDate;
+        private final int likeCount;
+    }
+}